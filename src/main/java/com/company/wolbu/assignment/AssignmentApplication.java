@@ -5,9 +5,13 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 import com.company.wolbu.assignment.auth.security.JwtProperties;
+import com.company.wolbu.assignment.auth.security.PasswordHashProperties;
+import com.company.wolbu.assignment.enrollment.config.EnrollmentProperties;
+import com.company.wolbu.assignment.lecture.config.LectureProperties;
 
 @SpringBootApplication
-@EnableConfigurationProperties(JwtProperties.class)
+@EnableConfigurationProperties({JwtProperties.class, PasswordHashProperties.class, EnrollmentProperties.class,
+        LectureProperties.class})
 public class AssignmentApplication {
 
 	public static void main(String[] args) {
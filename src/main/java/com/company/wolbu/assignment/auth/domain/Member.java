@@ -7,6 +7,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -22,7 +23,8 @@ import lombok.NoArgsConstructor;
 public class Member {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq")
+    @SequenceGenerator(name = "member_seq", sequenceName = "members_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 20)
@@ -51,6 +53,13 @@ public class Member {
         return member;
     }
 
+    /**
+     * 비밀번호 해시 교체 (비밀번호는 같고 해시 비용만 바뀐 경우)
+     */
+    public void changePasswordHash(String passwordHash) {
+        this.passwordHash = passwordHash;
+    }
+
     public boolean isInstructor() {
         return this.role == MemberRole.INSTRUCTOR;
     }
@@ -1,5 +1,10 @@
 package com.company.wolbu.assignment.auth.domain;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -8,11 +13,17 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 회원별 리프레시 토큰 (회원당 한 행)
+ * 토큰 원문(JWT) 대신 고정 길이(64자)의 SHA-256 해시만 저장하고, 재발급 시 같은 행의 해시만 교체합니다.
+ */
 @Entity
 @Table(name = "refresh_tokens")
 @Getter
@@ -20,22 +31,45 @@ import lombok.NoArgsConstructor;
 public class RefreshToken {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_token_seq")
+    @SequenceGenerator(name = "refresh_token_seq", sequenceName = "refresh_tokens_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "member_id", nullable = false)
+    @JoinColumn(name = "member_id", nullable = false, unique = true)
     private Member member;
 
-    @Column(nullable = false, unique = true, length = 200)
+    @Column(name = "token", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    /**
+     * 발급한 토큰 원문 (발급 시점에만 보관하며 저장하지 않음)
+     */
+    @Transient
     private String token;
 
     public static RefreshToken issue(Member member, String token) {
         RefreshToken rt = new RefreshToken();
         rt.member = member;
         rt.token = token;
+        rt.tokenHash = hash(token);
         return rt;
     }
+
+    /**
+     * 토큰 원문의 SHA-256 해시 (16진수 64자)
+     *
+     * @param token 토큰 원문
+     * @return 저장/조회에 사용하는 해시
+     */
+    public static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
 }
 
 
@@ -0,0 +1,20 @@
+package com.company.wolbu.assignment.auth.exception;
+
+import com.company.wolbu.assignment.common.exception.ServiceUnavailableException;
+
+/**
+ * 비밀번호 해시 처리 대기열이 가득 차 로그인/회원가입을 처리할 수 없을 때 발생하는 예외
+ */
+public class AuthBusyException extends ServiceUnavailableException {
+
+    private static final String ERROR_CODE = "AUTH_BUSY";
+    private static final String DEFAULT_MESSAGE = "로그인 요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요.";
+
+    public AuthBusyException(long retryAfterSeconds) {
+        super(ERROR_CODE, DEFAULT_MESSAGE, retryAfterSeconds);
+    }
+
+    public AuthBusyException(long retryAfterSeconds, Throwable cause) {
+        super(ERROR_CODE, DEFAULT_MESSAGE, retryAfterSeconds, cause);
+    }
+}
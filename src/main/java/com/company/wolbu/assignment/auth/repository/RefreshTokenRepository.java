@@ -3,13 +3,45 @@ package com.company.wolbu.assignment.auth.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import com.company.wolbu.assignment.auth.domain.Member;
 import com.company.wolbu.assignment.auth.domain.RefreshToken;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    Optional<RefreshToken> findByToken(String token);
-    void deleteByMember(Member member);
-}
 
+    /**
+     * 토큰 해시로 리프레시 토큰 조회
+     *
+     * @param tokenHash 토큰 원문의 SHA-256 해시
+     * @return 리프레시 토큰
+     */
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * 회원의 리프레시 토큰 해시 교체 (로그인)
+     * 회원당 한 행이므로 기존 토큰은 UPDATE 한 번으로 무효화됩니다.
+     *
+     * @param memberId 회원 ID
+     * @param tokenHash 새 토큰의 해시
+     * @return 교체된 행 수 (0이면 아직 발급된 토큰이 없음)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE RefreshToken r SET r.tokenHash = :tokenHash WHERE r.member.id = :memberId")
+    int rotateByMemberId(@Param("memberId") Long memberId, @Param("tokenHash") String tokenHash);
 
+    /**
+     * 사용한 리프레시 토큰의 해시를 새 토큰 해시로 교체 (토큰 재발급)
+     * 사용한 토큰이 그대로일 때만 교체하므로, 같은 토큰으로 동시에 재발급하면 하나만 성공합니다.
+     *
+     * @param id 리프레시 토큰 ID
+     * @param oldTokenHash 사용한 토큰의 해시
+     * @param newTokenHash 새 토큰의 해시
+     * @return 교체된 행 수 (0이면 이미 다른 토큰으로 교체됨)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE RefreshToken r SET r.tokenHash = :newTokenHash WHERE r.id = :id AND r.tokenHash = :oldTokenHash")
+    int rotate(@Param("id") Long id, @Param("oldTokenHash") String oldTokenHash,
+               @Param("newTokenHash") String newTokenHash);
+}
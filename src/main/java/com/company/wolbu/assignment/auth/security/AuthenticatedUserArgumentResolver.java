@@ -16,6 +16,7 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * JWT 토큰에서 사용자 정보를 추출하여 AuthenticatedUser 객체로 주입하는 ArgumentResolver
+ * 한 번 검증한 토큰은 만료될 때까지 VerifiedTokenCache에서 바로 꺼내 사용합니다.
  */
 @Slf4j
 @Component
@@ -23,6 +24,7 @@ import lombok.extern.slf4j.Slf4j;
 public class AuthenticatedUserArgumentResolver implements HandlerMethodArgumentResolver {
 
     private final JwtProvider jwtProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
@@ -40,7 +42,12 @@ public class AuthenticatedUserArgumentResolver implements HandlerMethodArgumentR
         }
         
         String token = authorization.substring(7); // "Bearer " 제거
-        
+
+        AuthenticatedUser cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
         try {
             Claims claims = jwtProvider.parse(token);
             Long memberId = Long.parseLong(claims.getSubject());
@@ -48,7 +55,9 @@ public class AuthenticatedUserArgumentResolver implements HandlerMethodArgumentR
             String roleString = claims.get("role", String.class);
             MemberRole role = MemberRole.valueOf(roleString);
             
-            return new AuthenticatedUser(memberId, email, role);
+            AuthenticatedUser user = new AuthenticatedUser(memberId, email, role);
+            verifiedTokenCache.put(token, user, claims.getExpiration());
+            return user;
             
         } catch (Exception e) {
             log.warn("JWT 토큰 파싱 실패: {}", e.getMessage());
@@ -0,0 +1,80 @@
+package com.company.wolbu.assignment.auth.security;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 실행 환경에 맞춰 비용(strength)을 정하는 BCrypt 인코더
+ * 저장된 해시의 비용이 현재 비용보다 낮으면 upgradeEncoding이 true를 반환하여, 로그인 시 다시 해시하도록 합니다.
+ * 측정값이 재시작마다 달라져도 더 높은 비용의 해시를 낮은 비용으로 바꾸지 않습니다.
+ */
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+    private static final String CALIBRATION_PASSWORD = "Calibrate123";
+    private static final int CALIBRATION_SAMPLES = 3;
+
+    private final int strength;
+
+    public CalibratedBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    /**
+     * 저장된 해시의 비용이 현재 비용보다 낮은지 확인
+     *
+     * @param encodedPassword 저장된 해시
+     * @return 다시 해시해야 하면 true (BCrypt 해시가 아니면 false)
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        return matcher.matches() && Integer.parseInt(matcher.group(1)) < strength;
+    }
+
+    /**
+     * 해시 한 번이 목표 시간 안에 끝나는 가장 높은 비용 계산
+     * 비용이 1 오를 때마다 해시 시간이 두 배가 되므로, 최소 비용의 측정값으로 추정한 뒤 추정한 비용으로 한 번 더 확인합니다.
+     * 최소 비용으로도 목표 시간을 넘으면 최소 비용을 사용합니다.
+     *
+     * @param minStrength 최소 비용
+     * @param maxStrength 최대 비용
+     * @param targetMillis 해시 한 번의 목표 시간 (밀리초)
+     * @return 비용
+     */
+    public static int calibrate(int minStrength, int maxStrength, long targetMillis) {
+        long targetNanos = targetMillis * 1_000_000L;
+        measureNanos(minStrength); // 워밍업
+        long baseNanos = measureNanos(minStrength);
+
+        int strength = minStrength;
+        while (strength < maxStrength && (baseNanos << (strength + 1 - minStrength)) <= targetNanos) {
+            strength++;
+        }
+        if (strength > minStrength && measureNanos(strength) > targetNanos) {
+            strength--;
+        }
+        return strength;
+    }
+
+    private static long measureNanos(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_SAMPLES; i++) {
+            long started = System.nanoTime();
+            encoder.encode(CALIBRATION_PASSWORD);
+            fastest = Math.min(fastest, System.nanoTime() - started);
+        }
+        return fastest;
+    }
+}
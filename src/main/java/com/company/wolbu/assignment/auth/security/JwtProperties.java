@@ -12,6 +12,11 @@ public class JwtProperties {
     private String secret;
     private long accessTtlSeconds;
     private long refreshTtlSeconds;
+
+    /**
+     * 검증된 Access Token 캐시의 최대 항목 수 (토큰 단위)
+     */
+    private long verifiedTokenCacheMaximumSize = 10000;
 }
 
 
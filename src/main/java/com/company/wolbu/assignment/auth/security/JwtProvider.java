@@ -1,30 +1,70 @@
 package com.company.wolbu.assignment.auth.security;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
 import java.util.Date;
 import java.util.Map;
 import java.util.UUID;
 
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+
 import org.springframework.stereotype.Component;
 
 import com.company.wolbu.assignment.auth.domain.MemberRole;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 
+/**
+ * JWT 발급 및 검증
+ * 서명 키와 파서는 생성 시 한 번만 만들고, 인증 요청마다 실행되는 검증은 스레드별로 재사용하는 Mac으로
+ * 서명을 확인합니다. 고정 헤더가 아니거나 서명·만료 검증에 실패한 토큰은 jjwt 파서로 다시 검증하여
+ * 예외 종류(MalformedJwtException, SignatureException, ExpiredJwtException 등)를 그대로 유지합니다.
+ */
 @Component
-@RequiredArgsConstructor
 public class JwtProvider {
 
+    /**
+     * jjwt가 HS256으로 서명할 때 기록하는 헤더({"alg":"HS256"})의 Base64URL 인코딩
+     */
+    static final String HS256_HEADER = "eyJhbGciOiJIUzI1NiJ9";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> CLAIMS_TYPE = new TypeReference<>() {
+    };
+
     private final JwtProperties properties;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final ThreadLocal<Mac> macs;
 
-    public String generateAccessToken(Long userId, String email, MemberRole role) {
+    public JwtProvider(JwtProperties properties) {
+        this.properties = properties;
+        // secret이 없으면 사용 시점에 예외 발생 (기존 동작 유지)
         if (properties.getSecret() == null) {
-            throw new IllegalStateException("JWT secret is not configured");
+            this.signingKey = null;
+            this.parser = null;
+            this.macs = null;
+        } else {
+            SecretKey key = Keys.hmacShaKeyFor(properties.getSecret().getBytes(StandardCharsets.UTF_8));
+            this.signingKey = key;
+            this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+            this.macs = ThreadLocal.withInitial(() -> newMac(key));
         }
+    }
+
+    public String generateAccessToken(Long userId, String email, MemberRole role) {
+        SecretKey key = requireSigningKey();
         Date now = new Date();
         Date exp = new Date(now.getTime() + properties.getAccessTtlSeconds() * 1000);
         return Jwts.builder()
@@ -35,14 +75,12 @@ public class JwtProvider {
                         "email", email,
                         "role", role.name()
                 ))
-                .signWith(Keys.hmacShaKeyFor(properties.getSecret().getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public String generateRefreshToken(Long userId) {
-        if (properties.getSecret() == null) {
-            throw new IllegalStateException("JWT secret is not configured");
-        }
+        SecretKey key = requireSigningKey();
         Date now = new Date();
         Date exp = new Date(now.getTime() + properties.getRefreshTtlSeconds() * 1000);
         return Jwts.builder()
@@ -50,20 +88,70 @@ public class JwtProvider {
                 .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(exp)
-                .signWith(Keys.hmacShaKeyFor(properties.getSecret().getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public Claims parse(String token) {
-        if (properties.getSecret() == null) {
-            throw new IllegalStateException("JWT secret is not configured");
+        requireSigningKey();
+        Claims claims = verifyFast(token);
+        if (claims != null) {
+            return claims;
+        }
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * 이 서버가 발급한 형태(고정 HS256 헤더)의 유효한 토큰만 빠르게 검증
+     *
+     * @param token JWT
+     * @return 검증된 클레임, 빠른 경로로 판단할 수 없으면 null
+     */
+    private Claims verifyFast(String token) {
+        int payloadStart = HS256_HEADER.length() + 1;
+        if (token == null || !token.startsWith(HS256_HEADER) || token.length() <= payloadStart
+                || token.charAt(payloadStart - 1) != '.') {
+            return null;
+        }
+        int payloadEnd = token.indexOf('.', payloadStart);
+        if (payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0) {
+            return null;
+        }
+        try {
+            byte[] signature = Base64.getUrlDecoder().decode(token.substring(payloadEnd + 1));
+            byte[] expected = macs.get().doFinal(token.substring(0, payloadEnd).getBytes(StandardCharsets.US_ASCII));
+            if (!MessageDigest.isEqual(expected, signature)) {
+                return null;
+            }
+            byte[] payload = Base64.getUrlDecoder().decode(token.substring(payloadStart, payloadEnd));
+            Claims claims = Jwts.claims(OBJECT_MAPPER.readValue(payload, CLAIMS_TYPE));
+            Date now = new Date();
+            if (claims.getExpiration() != null && now.after(claims.getExpiration())) {
+                return null;
+            }
+            if (claims.getNotBefore() != null && now.before(claims.getNotBefore())) {
+                return null;
+            }
+            return claims;
+        } catch (IllegalArgumentException | IOException | JwtException e) {
+            return null;
         }
-        return Jwts.parserBuilder()
-                .setSigningKey(Keys.hmacShaKeyFor(properties.getSecret().getBytes(StandardCharsets.UTF_8)))
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
     }
-}
 
+    private SecretKey requireSigningKey() {
+        if (signingKey == null) {
+            throw new IllegalStateException("JWT secret is not configured");
+        }
+        return signingKey;
+    }
 
+    private static Mac newMac(SecretKey key) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+}
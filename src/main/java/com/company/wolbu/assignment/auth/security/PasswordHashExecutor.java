@@ -0,0 +1,141 @@
+package com.company.wolbu.assignment.auth.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.company.wolbu.assignment.auth.exception.AuthBusyException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 해시 전용 실행기
+ * BCrypt 해시는 요청마다 수십 ms의 CPU를 사용하므로, 코어 수만큼의 전용 스레드와 크기가 제한된 대기열에서만 실행합니다.
+ * 대기열이 가득 차면 기다리지 않고 AuthBusyException(503, Retry-After)으로 거절하여,
+ * 로그인이 몰려도 요청 스레드와 CPU가 다른 API(강의 목록 조회 등)에 남도록 합니다.
+ * 대기열 길이는 executor.queued{name=passwordHash}, 해시 시간은 auth.password.hash 지표로 확인할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class PasswordHashExecutor {
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashExecutor(PasswordEncoder passwordEncoder, PasswordHashProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.properties = properties;
+        int threads = properties.getThreads() > 0 ? properties.getThreads() : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        new ExecutorServiceMetrics(executor, "passwordHash", Tags.empty()).bindTo(meterRegistry);
+        this.encodeTimer = Timer.builder("auth.password.hash")
+                .description("비밀번호 해시 계산 시간")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hash")
+                .description("비밀번호 해시 계산 시간")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.hash.rejected")
+                .description("해시 대기열 포화로 거절한 요청 수")
+                .register(meterRegistry);
+        log.info("비밀번호 해시 실행기 시작: threads={}, queueCapacity={}", threads, properties.getQueueCapacity());
+    }
+
+    /**
+     * 비밀번호 해시 생성
+     *
+     * @param rawPassword 평문 비밀번호
+     * @return 해시
+     * @throws AuthBusyException 해시 대기열이 가득 찬 경우
+     */
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword), encodeTimer);
+    }
+
+    /**
+     * 비밀번호와 해시 비교
+     *
+     * @param rawPassword 평문 비밀번호
+     * @param encodedPassword 저장된 해시
+     * @return 일치 여부
+     * @throws AuthBusyException 해시 대기열이 가득 찬 경우
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    /**
+     * 저장된 해시를 현재 설정으로 다시 해시해야 하는지 확인 (해시 계산 없음)
+     *
+     * @param encodedPassword 저장된 해시
+     * @return 다시 해시해야 하면 true
+     */
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(Supplier<T> task, Timer timer) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.record(task));
+        } catch (RejectedExecutionException e) {
+            throw reject(e);
+        }
+        try {
+            return future.get(properties.getWaitTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw reject(e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw reject(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("비밀번호 해시 처리 실패", e.getCause());
+        }
+    }
+
+    private AuthBusyException reject(Exception cause) {
+        rejectedCounter.increment();
+        log.warn("비밀번호 해시 요청 거절: queued={}, reason={}", executor.getQueue().size(),
+                cause.getClass().getSimpleName());
+        return new AuthBusyException(properties.getRetryAfterSeconds(), cause);
+    }
+}
@@ -0,0 +1,57 @@
+package com.company.wolbu.assignment.auth.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.auth.password-hash")
+public class PasswordHashProperties {
+
+    /**
+     * 비밀번호 해시 전용 스레드 수 (0 이하이면 CPU 코어 수)
+     */
+    private int threads = 0;
+
+    /**
+     * 해시 대기열 크기 (가득 차면 즉시 503으로 거절)
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * 요청 스레드가 해시 결과를 기다리는 최대 시간 (밀리초)
+     */
+    private long waitTimeoutMillis = 3000;
+
+    /**
+     * 거절 응답의 Retry-After 값 (초)
+     */
+    private long retryAfterSeconds = 1;
+
+    /**
+     * 시작 시 BCrypt 비용을 측정하여 정할지 여부 (false이면 strength 사용)
+     */
+    private boolean calibrationEnabled = true;
+
+    /**
+     * 해시 한 번의 목표 시간 (밀리초, 이 시간 안에 끝나는 가장 높은 비용 선택)
+     */
+    private long targetMillis = 100;
+
+    /**
+     * 측정으로 정하는 BCrypt 비용의 하한
+     */
+    private int minStrength = 10;
+
+    /**
+     * 측정으로 정하는 BCrypt 비용의 상한
+     */
+    private int maxStrength = 14;
+
+    /**
+     * BCrypt 비용 하한 (측정하지 않으면 이 비용을 사용하고, 측정값이 이보다 낮아도 이 비용을 사용)
+     */
+    private int strength = 10;
+}
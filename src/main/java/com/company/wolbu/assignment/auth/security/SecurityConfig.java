@@ -6,22 +6,42 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+import lombok.extern.slf4j.Slf4j;
+
 /**
  * Spring Security 설정
  * JWT 토큰 기반 인증을 사용하고, 세션을 사용하지 않습니다.
  */
+@Slf4j
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled = true)
 public class SecurityConfig {
 
+    /**
+     * BCrypt 인코더
+     * 측정을 켜면 현재 하드웨어에서 목표 시간 안에 끝나는 가장 높은 비용을 사용하되, 설정한 비용(strength)보다 낮추지 않습니다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashProperties properties) {
+        if (!properties.isCalibrationEnabled()) {
+            return new CalibratedBCryptPasswordEncoder(properties.getStrength());
+        }
+        long started = System.currentTimeMillis();
+        int calibrated = CalibratedBCryptPasswordEncoder.calibrate(properties.getMinStrength(),
+                properties.getMaxStrength(), properties.getTargetMillis());
+        int strength = Math.max(calibrated, properties.getStrength());
+        if (calibrated < properties.getStrength()) {
+            log.warn("BCrypt 측정 비용이 설정한 하한보다 낮아 하한을 사용합니다: calibrated={}, floor={}", calibrated,
+                    properties.getStrength());
+        }
+        log.info("BCrypt 비용 결정: strength={}, calibrated={}, floor={}, targetMillis={}, elapsedMillis={}", strength,
+                calibrated, properties.getStrength(), properties.getTargetMillis(),
+                System.currentTimeMillis() - started);
+        return new CalibratedBCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -0,0 +1,104 @@
+package com.company.wolbu.assignment.auth.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 검증된 Access Token 캐시
+ * 같은 토큰으로 반복되는 요청은 서명 검증과 클레임 해석 없이 인증 사용자 정보를 반환합니다.
+ * 토큰 원문 대신 SHA-256 해시를 키로 보관하고, 항목은 토큰의 만료 시각(exp)에 함께 만료됩니다.
+ * Access Token은 서명 검증만으로 만료 시각까지 유효하므로(폐기 목록 없음) 캐시도 회원 단위 무효화를 하지 않습니다.
+ * 캐시에서 지워도 같은 토큰은 다시 검증을 통과하므로 토큰 단위 무효화도 제공하지 않습니다. (폐기처럼 보이지만 효과가 없음)
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<String, VerifiedToken> cache;
+    private final ThreadLocal<MessageDigest> digests = ThreadLocal.withInitial(VerifiedTokenCache::newDigest);
+
+    public VerifiedTokenCache(JwtProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getVerifiedTokenCacheMaximumSize())
+                .expireAfter(Expiry.creating((String key, VerifiedToken token) -> token.remaining()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "verifiedToken");
+    }
+
+    /**
+     * 검증된 토큰의 인증 사용자 조회
+     *
+     * @param token Access Token
+     * @return 인증 사용자, 캐시에 없거나 만료된 경우 null
+     */
+    public AuthenticatedUser get(String token) {
+        VerifiedToken verified = cache.getIfPresent(key(token));
+        if (verified == null || verified.isExpired()) {
+            return null;
+        }
+        return verified.user;
+    }
+
+    /**
+     * 검증을 마친 토큰 저장 (만료 시각이 없거나 이미 지난 토큰은 저장하지 않음)
+     *
+     * @param token Access Token
+     * @param user 토큰에서 읽은 인증 사용자
+     * @param expiration 토큰의 만료 시각(exp)
+     */
+    public void put(String token, AuthenticatedUser user, Date expiration) {
+        if (expiration == null) {
+            return;
+        }
+        VerifiedToken verified = new VerifiedToken(user, expiration.getTime());
+        if (!verified.isExpired()) {
+            cache.put(key(token), verified);
+        }
+    }
+
+    private String key(String token) {
+        MessageDigest digest = digests.get();
+        return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static class VerifiedToken {
+
+        private final AuthenticatedUser user;
+        private final long expiresAtMillis;
+
+        VerifiedToken(AuthenticatedUser user, long expiresAtMillis) {
+            this.user = user;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        boolean isExpired() {
+            // jjwt와 같이 만료 시각까지는 유효
+            return System.currentTimeMillis() > expiresAtMillis;
+        }
+
+        Duration remaining() {
+            return Duration.ofMillis(Math.max(0, expiresAtMillis - System.currentTimeMillis()));
+        }
+    }
+}
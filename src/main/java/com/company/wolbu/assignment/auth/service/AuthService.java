@@ -1,8 +1,10 @@
 package com.company.wolbu.assignment.auth.service;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.company.wolbu.assignment.auth.domain.Member;
 import com.company.wolbu.assignment.auth.domain.MemberRole;
@@ -15,7 +17,9 @@ import com.company.wolbu.assignment.auth.dto.SignUpRequestDto;
 import com.company.wolbu.assignment.auth.repository.MemberRepository;
 import com.company.wolbu.assignment.auth.repository.RefreshTokenRepository;
 import com.company.wolbu.assignment.auth.security.JwtProvider;
+import com.company.wolbu.assignment.auth.security.PasswordHashExecutor;
 import com.company.wolbu.assignment.auth.security.PasswordPolicy;
+import com.company.wolbu.assignment.auth.exception.AuthBusyException;
 import com.company.wolbu.assignment.auth.exception.DuplicateEmailException;
 import com.company.wolbu.assignment.auth.exception.InvalidCredentialsException;
 import com.company.wolbu.assignment.auth.exception.InvalidPasswordPolicyException;
@@ -30,10 +34,15 @@ public class AuthService {
 
     private final MemberRepository memberRepository;
     private final RefreshTokenRepository refreshTokenRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashExecutor passwordHashExecutor;
     private final JwtProvider jwtProvider;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    /**
+     * 회원가입
+     * 비밀번호 해시는 전용 실행기에서 트랜잭션 밖에서 계산하고, 저장만 트랜잭션으로 처리합니다.
+     * (해시를 기다리는 동안 DB 커넥션을 잡고 있지 않도록)
+     */
     public SignUpResponseDto signUp(SignUpRequestDto req) {
         if (!PasswordPolicy.isValid(req.getPassword())) {
             throw new InvalidPasswordPolicyException(
@@ -43,28 +52,40 @@ public class AuthService {
             throw new DuplicateEmailException("이미 가입된 이메일입니다. 다른 이메일을 사용해주세요.");
         }
 
-        String hash = passwordEncoder.encode(req.getPassword());
+        String hash = passwordHashExecutor.encode(req.getPassword());
         MemberRole role = req.getRole();
         Member member = Member.create(req.getName(), req.getEmail(), req.getPhone(), hash, role);
-        memberRepository.save(member);
+        transactionTemplate.executeWithoutResult(status -> memberRepository.save(member));
 
         return new SignUpResponseDto(member.getId(), member.getName(), member.getEmail(), member.getRole());
     }
 
-    @Transactional
+    /**
+     * 로그인
+     * 비밀번호 비교는 전용 실행기에서 트랜잭션 밖에서 처리하고, 리프레시 토큰 교체만 트랜잭션으로 처리합니다.
+     * 처음 로그인하는 같은 회원의 요청이 동시에 INSERT하면 member_id UNIQUE 제약으로 하나만 성공하므로,
+     * 실패한 요청은 롤백 후 한 번 더 실행하여 먼저 저장된 행을 UPDATE합니다.
+     */
     public AuthResultDto login(LoginRequestDto req) {
         Member member = memberRepository.findByEmail(req.getEmail())
                 .orElseThrow(() -> new InvalidCredentialsException());
-        if (!passwordEncoder.matches(req.getPassword(), member.getPasswordHash())) {
+        if (!passwordHashExecutor.matches(req.getPassword(), member.getPasswordHash())) {
             throw new InvalidCredentialsException();
         }
+        String rehashed = rehashIfNeeded(req.getPassword(), member.getPasswordHash());
 
         String access = jwtProvider.generateAccessToken(member.getId(), member.getEmail(), member.getRole());
         String refresh = jwtProvider.generateRefreshToken(member.getId());
 
-        refreshTokenRepository.deleteByMember(member);
-        refreshTokenRepository.flush();
-        refreshTokenRepository.save(RefreshToken.issue(member, refresh));
+        try {
+            saveLogin(member, rehashed, refresh);
+        } catch (DataIntegrityViolationException e) {
+            // 바깥 트랜잭션에 참여한 경우 이미 롤백 대상이므로 다시 실행하지 않음
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                throw e;
+            }
+            saveLogin(member, rehashed, refresh);
+        }
 
         return new AuthResultDto(
             new AuthResponseDto(member.getId(), member.getName(), member.getEmail(), access, member.getRole()),
@@ -74,36 +95,77 @@ public class AuthService {
 
     @Transactional
     public AuthResultDto refreshToken(String refreshToken) {
-        // 1. refresh token이 DB에 존재하는지 확인
-        RefreshToken token = refreshTokenRepository.findByToken(refreshToken)
+        // 1. refresh token이 DB에 존재하는지 확인 (원문 대신 해시로 조회)
+        String tokenHash = RefreshToken.hash(refreshToken);
+        RefreshToken token = refreshTokenRepository.findByTokenHash(tokenHash)
                 .orElseThrow(() -> new TokenExpiredException("유효하지 않은 리프레시 토큰입니다."));
 
-        // 2. refresh token 파싱하여 사용자 ID 확인
+        // 2. refresh token 파싱하여 사용자 ID 확인 후 사용자 정보 조회
+        Member member;
         try {
             var claims = jwtProvider.parse(refreshToken);
             Long userId = Long.parseLong(claims.getSubject());
-            
-            // 3. 사용자 정보 조회
-            Member member = memberRepository.findById(userId)
+            member = memberRepository.findById(userId)
                     .orElseThrow(() -> new MemberNotFoundException(userId));
-
-            // 4. 새로운 access token과 refresh token 생성
-            String newAccess = jwtProvider.generateAccessToken(member.getId(), member.getEmail(), member.getRole());
-            String newRefresh = jwtProvider.generateRefreshToken(member.getId());
-
-            // 5. 기존 refresh token 삭제 후 새로운 토큰 저장
-            refreshTokenRepository.deleteByMember(member);
-            refreshTokenRepository.flush();
-            refreshTokenRepository.save(RefreshToken.issue(member, newRefresh));
-
-            return new AuthResultDto(
-                new AuthResponseDto(member.getId(), member.getName(), member.getEmail(), newAccess, member.getRole()),
-                newRefresh
-            );
         } catch (Exception e) {
             // JWT 파싱 실패 시 refresh token 삭제
             refreshTokenRepository.delete(token);
             throw new TokenExpiredException();
         }
+
+        // 3. 새로운 access token과 refresh token 생성
+        String newAccess = jwtProvider.generateAccessToken(member.getId(), member.getEmail(), member.getRole());
+        String newRefresh = jwtProvider.generateRefreshToken(member.getId());
+
+        // 4. 같은 행의 토큰 해시만 교체 (같은 토큰으로 먼저 재발급한 요청이 있으면 실패)
+        if (refreshTokenRepository.rotate(token.getId(), tokenHash, RefreshToken.hash(newRefresh)) == 0) {
+            throw new TokenExpiredException("유효하지 않은 리프레시 토큰입니다.");
+        }
+
+        return new AuthResultDto(
+            new AuthResponseDto(member.getId(), member.getName(), member.getEmail(), newAccess, member.getRole()),
+            newRefresh
+        );
+    }
+
+    /**
+     * 저장된 해시의 비용이 현재 설정보다 낮으면 로그인한 비밀번호로 다시 해시 (일괄 마이그레이션 없이 점진적으로 교체)
+     * 해시 대기열이 가득 차면 로그인은 그대로 진행하고 다음 로그인에서 다시 시도합니다.
+     *
+     * @return 새 해시, 교체할 필요가 없거나 건너뛴 경우 null
+     */
+    private String rehashIfNeeded(String rawPassword, String passwordHash) {
+        if (!passwordHashExecutor.upgradeEncoding(passwordHash)) {
+            return null;
+        }
+        try {
+            return passwordHashExecutor.encode(rawPassword);
+        } catch (AuthBusyException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 다시 해시한 비밀번호와 새 리프레시 토큰을 한 트랜잭션으로 저장
+     */
+    private void saveLogin(Member member, String rehashed, String refreshToken) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (rehashed != null) {
+                member.changePasswordHash(rehashed);
+                memberRepository.save(member);
+            }
+            rotateRefreshToken(member, refreshToken);
+        });
+    }
+
+    /**
+     * 회원의 리프레시 토큰을 새 토큰으로 교체
+     * 회원당 한 행의 해시만 UPDATE하며, 처음 로그인한 회원만 INSERT합니다.
+     * INSERT는 바로 flush하여 동시 INSERT의 UNIQUE 위반이 이 트랜잭션 안에서 드러나게 합니다.
+     */
+    private void rotateRefreshToken(Member member, String refreshToken) {
+        if (refreshTokenRepository.rotateByMemberId(member.getId(), RefreshToken.hash(refreshToken)) == 0) {
+            refreshTokenRepository.saveAndFlush(RefreshToken.issue(member, refreshToken));
+        }
     }
 }
\ No newline at end of file
@@ -1,8 +1,10 @@
 package com.company.wolbu.assignment.common.exception;
 
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.BindException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingRequestHeaderException;
@@ -28,6 +30,16 @@ public class GlobalExceptionHandler {
                 .body(ApiResponseDto.failure(e.errorCode(), e.getMessage()));
     }
 
+    /**
+     * 일시적인 과부하 예외 처리
+     * 재시도 대기 시간을 Retry-After 헤더로 함께 전달합니다.
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiResponseDto<Void>> handleServiceUnavailable(ServiceUnavailableException e) {
+        return ResponseEntity.status(e.httpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.retryAfterSeconds()))
+                .body(ApiResponseDto.failure(e.errorCode(), e.getMessage()));
+    }
 
     @ExceptionHandler({MethodArgumentNotValidException.class, BindException.class})
     public ResponseEntity<ApiResponseDto<Void>> handleValidation(Exception e) {
@@ -61,6 +73,13 @@ public class GlobalExceptionHandler {
                 .body(ApiResponseDto.failure("DATA_INTEGRITY_ERROR", "데이터 무결성 오류가 발생했습니다."));
     }
 
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponseDto<Void>> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException e) {
+        // 동시에 같은 데이터가 변경된 경우 (버전 충돌)
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponseDto.failure("CONCURRENT_MODIFICATION", "다른 요청에 의해 데이터가 변경되었습니다. 다시 시도해주세요."));
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ApiResponseDto<Void>> handleIllegalArgument(IllegalArgumentException e) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
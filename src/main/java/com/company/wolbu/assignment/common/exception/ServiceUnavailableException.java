@@ -0,0 +1,31 @@
+package com.company.wolbu.assignment.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 일시적인 과부하로 요청을 처리할 수 없을 때 발생하는 예외
+ * 응답에 Retry-After 헤더로 재시도 대기 시간을 함께 전달합니다.
+ */
+public abstract class ServiceUnavailableException extends BusinessException {
+
+    private final long retryAfterSeconds;
+
+    protected ServiceUnavailableException(String errorCode, String message, long retryAfterSeconds) {
+        super(errorCode, message, HttpStatus.SERVICE_UNAVAILABLE);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    protected ServiceUnavailableException(String errorCode, String message, long retryAfterSeconds,
+                                          Throwable cause) {
+        super(errorCode, message, HttpStatus.SERVICE_UNAVAILABLE, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * 재시도까지 대기할 시간(초)을 반환합니다.
+     * @return 재시도 대기 시간(초)
+     */
+    public long retryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
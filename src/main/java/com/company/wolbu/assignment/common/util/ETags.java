@@ -0,0 +1,35 @@
+package com.company.wolbu.assignment.common.util;
+
+/**
+ * ETag 비교 유틸리티
+ */
+public final class ETags {
+
+    private ETags() {}
+
+    /**
+     * If-None-Match 헤더가 현재 ETag와 일치하는지 확인 (약한 비교)
+     *
+     * @param ifNoneMatch If-None-Match 헤더 값 (없으면 null)
+     * @param etag        현재 ETag (따옴표 포함)
+     * @return 일치하면 true
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,81 @@
+package com.company.wolbu.assignment.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일 키 동시 조회 합치기 (single-flight)
+ * 같은 키로 동시에 들어온 호출 중 첫 호출만 실제로 실행하고, 나머지는 진행 중인 결과를 함께 받습니다.
+ * 실행이 끝나면 키를 비우므로 결과를 보관하지 않으며, 예외도 대기 중인 호출에 그대로 전달됩니다.
+ * 대기 중에도 DB 커넥션을 잡지 않도록 트랜잭션 바깥에서 호출해야 합니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 결과 타입
+ */
+public final class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executedCounter;
+    private final Counter coalescedCounter;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.executedCounter = Counter.builder("singleflight.calls")
+                .description("동일 키 조회 중 실제로 실행된 호출 수")
+                .tag("name", name)
+                .tag("result", "executed")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("singleflight.calls")
+                .description("진행 중인 조회 결과를 함께 받은 호출 수")
+                .tag("name", name)
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 키 단위로 합쳐서 실행
+     *
+     * @param key    조회 키
+     * @param loader 실제 조회 함수
+     * @return 조회 결과
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, created);
+        if (running != null) {
+            coalescedCounter.increment();
+            return await(running);
+        }
+
+        executedCounter.increment();
+        try {
+            V value = loader.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
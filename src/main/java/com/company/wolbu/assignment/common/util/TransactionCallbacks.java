@@ -0,0 +1,52 @@
+package com.company.wolbu.assignment.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 완료 시점에 실행할 콜백 등록 유틸리티
+ * 메모리 상태(좌석 카운터, 캐시 등)를 DB 트랜잭션 결과와 맞추기 위해 사용합니다.
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {}
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 실행합니다.
+     * 활성 트랜잭션이 없으면 즉시 실행합니다.
+     *
+     * @param action 실행할 작업
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 롤백되면 실행합니다.
+     * 활성 트랜잭션이 없으면 롤백될 일이 없으므로 아무 것도 하지 않습니다.
+     *
+     * @param action 실행할 작업
+     */
+    public static void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+}
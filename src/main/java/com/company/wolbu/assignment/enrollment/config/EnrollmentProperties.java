@@ -0,0 +1,92 @@
+package com.company.wolbu.assignment.enrollment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.enrollment")
+public class EnrollmentProperties {
+
+    /**
+     * 좌석 확보 동시성 제어 방식
+     */
+    private ConcurrencyMode concurrencyMode = ConcurrencyMode.ATOMIC_UPDATE;
+
+    /**
+     * 강의마다 별도의 짧은 트랜잭션으로 신청할지 여부
+     * 활성화하면 한 강의의 잠금이 장바구니 전체 처리 시간 동안 유지되지 않습니다.
+     */
+    private boolean perLectureTransaction = false;
+
+    /**
+     * 낙관적 모드의 최대 시도 횟수 (첫 시도 포함)
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * 낙관적 모드의 재시도 대기 시간 초기값 (밀리초)
+     */
+    private long backoffInitialMillis = 5;
+
+    /**
+     * 낙관적 모드의 재시도 대기 시간 상한 (밀리초)
+     */
+    private long backoffMaxMillis = 100;
+
+    /**
+     * 시퀀서 모드의 샤드(전용 처리 스레드) 수
+     */
+    private int sequencerShards = 4;
+
+    /**
+     * 시퀀서 모드의 샤드별 대기열 크기
+     */
+    private int sequencerQueueCapacity = 1024;
+
+    /**
+     * 시퀀서 모드에서 한 트랜잭션으로 저장하는 최대 신청 수
+     */
+    private int sequencerBatchSize = 64;
+
+    /**
+     * 시퀀서 모드에서 요청 스레드가 결과를 기다리는 최대 시간 (밀리초)
+     */
+    private long sequencerAwaitTimeoutMillis = 5000;
+
+    /**
+     * 좌석 선점 기본 유지 시간 (초)
+     */
+    private long holdDefaultSeconds = 300;
+
+    /**
+     * 좌석 선점 최대 유지 시간 (초)
+     */
+    private long holdMaxSeconds = 1800;
+
+    /**
+     * 좌석 선점 만료를 확인하는 타이밍 휠의 틱 간격 (밀리초)
+     */
+    private long holdTickMillis = 1000;
+
+    /**
+     * 만료된 선점 좌석을 반환(대기자 배정 포함)하는 스레드 수
+     */
+    private int holdReturnThreads = 2;
+
+    /**
+     * 만료된 선점 좌석 반환 대기열 크기 (초과 시 대기자 배정 없이 좌석 카운터에 바로 반환)
+     */
+    private int holdReturnQueueCapacity = 1024;
+
+    public enum ConcurrencyMode {
+        /** 조건부 UPDATE 한 번으로 좌석 확보 */
+        ATOMIC_UPDATE,
+        /** 버전 비교 UPDATE + 재시도로 좌석 확보 */
+        OPTIMISTIC,
+        /** 강의별 단일 처리 스레드가 순서대로 일괄 처리 */
+        SEQUENCER
+    }
+}
@@ -16,7 +16,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import com.company.wolbu.assignment.enrollment.dto.EnrollmentRequestDto;
 import com.company.wolbu.assignment.enrollment.dto.EnrollmentResponseDto;
 import com.company.wolbu.assignment.enrollment.dto.EnrollmentResultDto;
+import com.company.wolbu.assignment.enrollment.dto.SeatHoldRequestDto;
+import com.company.wolbu.assignment.enrollment.dto.SeatHoldResultDto;
+import com.company.wolbu.assignment.enrollment.service.EnrollmentDispatcher;
 import com.company.wolbu.assignment.enrollment.service.EnrollmentService;
+import com.company.wolbu.assignment.enrollment.service.SeatHoldService;
 import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -43,10 +47,14 @@ import org.springframework.web.bind.annotation.RestController;
 public class EnrollmentController {
 
     private final EnrollmentService enrollmentService;
+    private final EnrollmentDispatcher enrollmentDispatcher;
+    private final SeatHoldService seatHoldService;
 
     @Operation(
         summary = "강의 수강 신청",
-        description = "여러 강의를 동시에 신청할 수 있습니다. 수강생 권한이 필요하며, 정원 초과 시 선착순으로 처리됩니다.",
+        description = "여러 강의를 동시에 신청할 수 있습니다. 수강생 권한이 필요하며, 정원 초과 시 선착순으로 처리됩니다. "
+            + "allOrNothing이 true이면 모든 강의가 신청되거나 하나도 신청되지 않습니다. "
+            + "joinWaitlist가 true이면 정원이 가득 찬 강의는 대기열에 등록(WAITLISTED)되고, 취소가 생기면 순서대로 자동 승급됩니다.",
         security = @SecurityRequirement(name = "bearerAuth"),
         requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
             description = "신청할 강의 ID 목록",
@@ -58,7 +66,9 @@ public class EnrollmentController {
                     name = "수강 신청 예시",
                     value = """
                         {
-                            "lectureIds": [1, 2, 3]
+                            "lectureIds": [1, 2, 3],
+                            "allOrNothing": false,
+                            "joinWaitlist": false
                         }
                         """
                 )
@@ -81,10 +91,10 @@ public class EnrollmentController {
         log.info("강의 신청 API 호출: memberId={}, lectureIds={}",
                 user.getMemberId(), request.getLectureIds());
 
-        EnrollmentResultDto result = enrollmentService.enrollInLectures(user.getMemberId(), request);
+        EnrollmentResultDto result = enrollmentDispatcher.enrollInLectures(user.getMemberId(), request);
 
-        // 모든 신청이 실패한 경우 적절한 HTTP 상태코드 반환
-        if (result.getSuccessCount() == 0) {
+        // 모든 신청이 실패한 경우 적절한 HTTP 상태코드 반환 (대기열 등록은 실패로 보지 않음)
+        if (result.getSuccessCount() == 0 && result.getWaitlistedCount() == 0) {
             // 정원 초과가 주요 원인인 경우 409 CONFLICT 반환
             boolean hasCapacityError = result.getFailedEnrollments().stream()
                     .anyMatch(failure -> "COURSE_FULL".equals(failure.getErrorCode()));
@@ -97,6 +107,85 @@ public class EnrollmentController {
         return ResponseEntity.ok(ApiResponseDto.success(result));
     }
 
+    @Operation(
+        summary = "강의 좌석 선점",
+        description = "결제 등 확정 전 단계 동안 좌석을 일정 시간 선점합니다. 선점 좌석은 정원에 포함되며, "
+            + "확정하지 않으면 유지 시간이 지난 뒤 자동으로 반환됩니다. 수강생 권한이 필요합니다.",
+        security = @SecurityRequirement(name = "bearerAuth"),
+        requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            description = "선점할 강의 ID 목록과 선점 유지 시간(초)",
+            required = true,
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = SeatHoldRequestDto.class),
+                examples = @ExampleObject(
+                    name = "좌석 선점 예시",
+                    value = """
+                        {
+                            "lectureIds": [1, 2],
+                            "holdSeconds": 300
+                        }
+                        """
+                )
+            )
+        )
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "선점 처리 완료 (부분 성공 포함)"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "입력값 검증 실패"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "수강생 권한 필요"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "정원 초과 또는 중복 선점")
+    })
+    @PostMapping("/holds")
+    @RequireRole(value = MemberRole.STUDENT, message = "좌석 선점은 수강생만 할 수 있습니다.")
+    public ResponseEntity<ApiResponseDto<SeatHoldResultDto>> createHolds(
+            AuthenticatedUser user,
+            @Valid @RequestBody SeatHoldRequestDto request) {
+
+        log.info("좌석 선점 API 호출: memberId={}, lectureIds={}",
+                user.getMemberId(), request.getLectureIds());
+
+        SeatHoldResultDto result = seatHoldService.createHolds(user.getMemberId(), request);
+
+        // 모든 선점이 정원 초과로 실패한 경우 409 CONFLICT 반환
+        if (result.getSuccessCount() == 0) {
+            boolean hasCapacityError = result.getFailedHolds().stream()
+                    .anyMatch(failure -> "COURSE_FULL".equals(failure.getErrorCode()));
+
+            if (hasCapacityError) {
+                return ResponseEntity.status(409).body(ApiResponseDto.error("COURSE_FULL", "정원이 초과되었습니다.", result));
+            }
+        }
+
+        return ResponseEntity.ok(ApiResponseDto.success(result));
+    }
+
+    @Operation(
+        summary = "선점 좌석 확정",
+        description = "선점한 좌석을 수강 신청으로 확정합니다. 만료되었거나 이미 확정된 선점은 확정할 수 없습니다.",
+        security = @SecurityRequirement(name = "bearerAuth"),
+        parameters = @Parameter(name = "holdId", description = "확정할 선점 ID", required = true)
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "확정 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "수강생 권한 필요 또는 본인 선점이 아님"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "선점 정보를 찾을 수 없음 (만료 포함)"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "이미 신청한 강의")
+    })
+    @PostMapping("/holds/{holdId}/confirm")
+    @RequireRole(value = MemberRole.STUDENT, message = "좌석 확정은 수강생만 할 수 있습니다.")
+    public ResponseEntity<ApiResponseDto<EnrollmentResponseDto>> confirmHold(
+            AuthenticatedUser user,
+            @PathVariable String holdId) {
+
+        log.info("선점 좌석 확정 API 호출: memberId={}, holdId={}", user.getMemberId(), holdId);
+
+        EnrollmentResponseDto response = seatHoldService.confirm(user.getMemberId(), holdId);
+        return ResponseEntity.ok(ApiResponseDto.success(response));
+    }
+
     @Operation(
         summary = "내 수강 신청 목록 조회",
         description = "로그인한 사용자의 수강 신청 목록을 조회합니다. 수강생 권한이 필요합니다.",
@@ -13,8 +13,12 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
+
+import org.hibernate.annotations.ColumnDefault;
 
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -36,7 +40,8 @@ import com.company.wolbu.assignment.lecture.domain.Lecture;
     indexes = {
         @Index(name = "idx_lecture_member_status", columnList = "lecture_id, member_id, status"),
         @Index(name = "idx_lecture_status", columnList = "lecture_id, status"),
-        @Index(name = "idx_member_status", columnList = "member_id, status")
+        @Index(name = "idx_member_status", columnList = "member_id, status"),
+        @Index(name = "idx_lecture_status_waitlist", columnList = "lecture_id, status, waitlist_position")
     }
 )
 @Getter
@@ -44,7 +49,8 @@ import com.company.wolbu.assignment.lecture.domain.Lecture;
 public class Enrollment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "enrollment_seq")
+    @SequenceGenerator(name = "enrollment_seq", sequenceName = "enrollments_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "lecture_id", nullable = false)
@@ -71,6 +77,17 @@ public class Enrollment {
     @Column
     private LocalDateTime canceledAt;
 
+    /**
+     * 강의별 대기 순서 (WAITLISTED 상태에서만 값이 있으며, 작을수록 먼저 승급)
+     */
+    @Column(name = "waitlist_position")
+    private Long waitlistPosition;
+
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+
     /**
      * 수강 신청 생성 팩토리 메서드
      * 
@@ -105,6 +122,21 @@ public class Enrollment {
         return enrollment;
     }
 
+    /**
+     * 대기 신청 생성 팩토리 메서드
+     *
+     * @param lectureId 강의 ID
+     * @param memberId  회원 ID
+     * @param position  대기 순서
+     * @return 생성된 대기 신청 엔티티
+     */
+    public static Enrollment createWaitlisted(Long lectureId, Long memberId, long position) {
+        Enrollment enrollment = create(lectureId, memberId);
+        enrollment.status = EnrollmentStatus.WAITLISTED;
+        enrollment.waitlistPosition = position;
+        return enrollment;
+    }
+
     /**
      * 수강 신청 취소 (소프트 삭제)
      * 재수강을 위해 물리적 삭제 대신 상태만 변경합니다.
@@ -114,6 +146,7 @@ public class Enrollment {
             throw new IllegalStateException("이미 취소된 수강 신청입니다.");
         }
         this.status = EnrollmentStatus.CANCELED;
+        this.waitlistPosition = null;
         this.updatedAt = LocalDateTime.now();
         this.canceledAt = LocalDateTime.now();
     }
@@ -132,6 +165,13 @@ public class Enrollment {
         return this.status == EnrollmentStatus.CANCELED;
     }
 
+    /**
+     * 대기 상태인지 확인
+     */
+    public boolean isWaitlisted() {
+        return this.status == EnrollmentStatus.WAITLISTED;
+    }
+
     /**
      * 재활성화 (재수강)
      * 취소된 신청을 다시 활성화합니다.
@@ -141,10 +181,40 @@ public class Enrollment {
             throw new IllegalStateException("이미 활성 상태인 수강 신청입니다.");
         }
         this.status = EnrollmentStatus.CONFIRMED;
+        this.waitlistPosition = null;
+        this.updatedAt = LocalDateTime.now();
+        this.canceledAt = null;
+    }
+
+    /**
+     * 대기열 재등록
+     * 취소된 신청을 대기 상태로 되돌립니다.
+     *
+     * @param position 대기 순서
+     */
+    public void waitlist(long position) {
+        if (this.status != EnrollmentStatus.CANCELED) {
+            throw new IllegalStateException("취소된 수강 신청만 대기열에 등록할 수 있습니다.");
+        }
+        this.status = EnrollmentStatus.WAITLISTED;
+        this.waitlistPosition = position;
         this.updatedAt = LocalDateTime.now();
         this.canceledAt = null;
     }
 
+    /**
+     * 대기 신청 승급
+     * 취소로 생긴 좌석을 승계하여 활성 상태로 전환합니다.
+     */
+    public void promote() {
+        if (this.status != EnrollmentStatus.WAITLISTED) {
+            throw new IllegalStateException("대기 중인 수강 신청만 승급할 수 있습니다.");
+        }
+        this.status = EnrollmentStatus.CONFIRMED;
+        this.waitlistPosition = null;
+        this.updatedAt = LocalDateTime.now();
+    }
+
     /**
      * 강의 ID 유효성 검증
      */
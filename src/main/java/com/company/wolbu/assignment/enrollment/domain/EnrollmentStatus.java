@@ -10,6 +10,12 @@ public enum EnrollmentStatus {
      * 정원 계산 및 중복 체크에 포함됩니다.
      */
     CONFIRMED,
+
+    /**
+     * 대기 상태 (정원 초과 시 대기열 등록)
+     * 정원 계산 및 중복 체크에서 제외되며, 취소가 발생하면 대기 순서대로 CONFIRMED로 승급됩니다.
+     */
+    WAITLISTED,
     
     /**
      * 취소 상태 (소프트 삭제)
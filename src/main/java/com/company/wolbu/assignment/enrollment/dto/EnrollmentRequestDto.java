@@ -20,7 +20,28 @@ public class EnrollmentRequestDto {
     @NotEmpty(message = "신청할 강의를 선택해주세요.")
     private List<@NotNull(message = "강의 ID는 필수입니다.") Long> lectureIds;
 
+    /**
+     * 묶음 신청 여부 (true면 모든 강의가 신청되거나 하나도 신청되지 않음)
+     */
+    private boolean allOrNothing;
+
+    /**
+     * 정원 초과 시 대기열 등록 여부 (묶음 신청에는 적용되지 않음)
+     */
+    private boolean joinWaitlist;
+
     public EnrollmentRequestDto(List<Long> lectureIds) {
         this.lectureIds = lectureIds;
     }
+
+    public EnrollmentRequestDto(List<Long> lectureIds, boolean allOrNothing) {
+        this.lectureIds = lectureIds;
+        this.allOrNothing = allOrNothing;
+    }
+
+    public EnrollmentRequestDto(List<Long> lectureIds, boolean allOrNothing, boolean joinWaitlist) {
+        this.lectureIds = lectureIds;
+        this.allOrNothing = allOrNothing;
+        this.joinWaitlist = joinWaitlist;
+    }
 }
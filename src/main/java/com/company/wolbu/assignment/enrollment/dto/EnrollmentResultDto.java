@@ -12,17 +12,30 @@ public class EnrollmentResultDto {
     
     private final List<EnrollmentResponseDto> successfulEnrollments;
     private final List<EnrollmentFailure> failedEnrollments;
+    /**
+     * 정원 초과로 대기열에 등록된 신청 (신청 성공에 포함되지 않음)
+     */
+    private final List<EnrollmentResponseDto> waitlistedEnrollments;
     private final int totalRequested;
     private final int successCount;
     private final int failureCount;
+    private final int waitlistedCount;
 
     public EnrollmentResultDto(List<EnrollmentResponseDto> successfulEnrollments, 
                            List<EnrollmentFailure> failedEnrollments) {
+        this(successfulEnrollments, failedEnrollments, List.of());
+    }
+
+    public EnrollmentResultDto(List<EnrollmentResponseDto> successfulEnrollments,
+                           List<EnrollmentFailure> failedEnrollments,
+                           List<EnrollmentResponseDto> waitlistedEnrollments) {
         this.successfulEnrollments = successfulEnrollments;
         this.failedEnrollments = failedEnrollments;
-        this.totalRequested = successfulEnrollments.size() + failedEnrollments.size();
+        this.waitlistedEnrollments = waitlistedEnrollments;
+        this.totalRequested = successfulEnrollments.size() + failedEnrollments.size() + waitlistedEnrollments.size();
         this.successCount = successfulEnrollments.size();
         this.failureCount = failedEnrollments.size();
+        this.waitlistedCount = waitlistedEnrollments.size();
     }
 
     /**
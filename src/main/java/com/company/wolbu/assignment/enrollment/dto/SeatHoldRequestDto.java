@@ -0,0 +1,38 @@
+package com.company.wolbu.assignment.enrollment.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 좌석 선점 요청 DTO
+ */
+@Getter
+@NoArgsConstructor
+public class SeatHoldRequestDto {
+
+    /**
+     * 좌석을 선점할 강의 ID 목록
+     */
+    @NotEmpty(message = "선점할 강의를 선택해주세요.")
+    private List<@NotNull(message = "강의 ID는 필수입니다.") Long> lectureIds;
+
+    /**
+     * 선점 유지 시간 (초, 생략 시 기본값, 최대값을 넘으면 최대값으로 제한)
+     */
+    @Min(value = 1, message = "선점 유지 시간은 1초 이상이어야 합니다.")
+    private Long holdSeconds;
+
+    public SeatHoldRequestDto(List<Long> lectureIds) {
+        this.lectureIds = lectureIds;
+    }
+
+    public SeatHoldRequestDto(List<Long> lectureIds, Long holdSeconds) {
+        this.lectureIds = lectureIds;
+        this.holdSeconds = holdSeconds;
+    }
+}
@@ -0,0 +1,24 @@
+package com.company.wolbu.assignment.enrollment.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+
+/**
+ * 좌석 선점 응답 DTO
+ */
+@Getter
+public class SeatHoldResponseDto {
+
+    private final String holdId;
+    private final Long lectureId;
+    private final Long memberId;
+    private final LocalDateTime expiresAt;
+
+    public SeatHoldResponseDto(String holdId, Long lectureId, Long memberId, LocalDateTime expiresAt) {
+        this.holdId = holdId;
+        this.lectureId = lectureId;
+        this.memberId = memberId;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,27 @@
+package com.company.wolbu.assignment.enrollment.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * 좌석 선점 결과 DTO
+ */
+@Getter
+public class SeatHoldResultDto {
+
+    private final List<SeatHoldResponseDto> holds;
+    private final List<EnrollmentResultDto.EnrollmentFailure> failedHolds;
+    private final int totalRequested;
+    private final int successCount;
+    private final int failureCount;
+
+    public SeatHoldResultDto(List<SeatHoldResponseDto> holds,
+                             List<EnrollmentResultDto.EnrollmentFailure> failedHolds) {
+        this.holds = holds;
+        this.failedHolds = failedHolds;
+        this.totalRequested = holds.size() + failedHolds.size();
+        this.successCount = holds.size();
+        this.failureCount = failedHolds.size();
+    }
+}
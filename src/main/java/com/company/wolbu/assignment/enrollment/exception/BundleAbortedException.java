@@ -0,0 +1,28 @@
+package com.company.wolbu.assignment.enrollment.exception;
+
+import com.company.wolbu.assignment.common.exception.ConflictException;
+
+/**
+ * 묶음 신청에서 다른 강의의 실패로 함께 취소되었을 때 사용하는 예외
+ */
+public class BundleAbortedException extends ConflictException {
+
+    private static final String ERROR_CODE = "BUNDLE_ABORTED";
+    private static final String DEFAULT_MESSAGE = "묶음 신청 중 다른 강의의 신청이 실패하여 함께 취소되었습니다.";
+
+    public BundleAbortedException() {
+        super(ERROR_CODE, DEFAULT_MESSAGE);
+    }
+
+    public BundleAbortedException(String message) {
+        super(ERROR_CODE, message);
+    }
+
+    public BundleAbortedException(Long lectureId) {
+        super(ERROR_CODE, String.format("묶음 신청 중 다른 강의의 신청이 실패하여 함께 취소되었습니다. (강의 ID: %d)", lectureId));
+    }
+
+    public BundleAbortedException(Throwable cause) {
+        super(ERROR_CODE, DEFAULT_MESSAGE, cause);
+    }
+}
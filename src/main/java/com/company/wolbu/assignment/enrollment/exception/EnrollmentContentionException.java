@@ -0,0 +1,28 @@
+package com.company.wolbu.assignment.enrollment.exception;
+
+import com.company.wolbu.assignment.common.exception.ConflictException;
+
+/**
+ * 동시 신청 경합으로 재시도 횟수를 모두 소진했을 때 발생하는 예외
+ */
+public class EnrollmentContentionException extends ConflictException {
+
+    private static final String ERROR_CODE = "ENROLLMENT_CONTENTION";
+    private static final String DEFAULT_MESSAGE = "신청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요.";
+
+    public EnrollmentContentionException() {
+        super(ERROR_CODE, DEFAULT_MESSAGE);
+    }
+
+    public EnrollmentContentionException(String message) {
+        super(ERROR_CODE, message);
+    }
+
+    public EnrollmentContentionException(Long lectureId, int attempts) {
+        super(ERROR_CODE, String.format("신청이 몰려 처리하지 못했습니다. (강의 ID: %d, 시도 횟수: %d회)", lectureId, attempts));
+    }
+
+    public EnrollmentContentionException(Throwable cause) {
+        super(ERROR_CODE, DEFAULT_MESSAGE, cause);
+    }
+}
@@ -0,0 +1,24 @@
+package com.company.wolbu.assignment.enrollment.exception;
+
+import com.company.wolbu.assignment.common.exception.NotFoundException;
+
+/**
+ * 좌석 선점 정보를 찾을 수 없을 때 발생하는 예외 (만료되었거나 이미 확정된 경우 포함)
+ */
+public class HoldNotFoundException extends NotFoundException {
+
+    private static final String ERROR_CODE = "HOLD_NOT_FOUND";
+    private static final String DEFAULT_MESSAGE = "좌석 선점 정보를 찾을 수 없습니다.";
+
+    public HoldNotFoundException() {
+        super(ERROR_CODE, DEFAULT_MESSAGE);
+    }
+
+    public HoldNotFoundException(String holdId) {
+        super(ERROR_CODE, String.format("좌석 선점 정보를 찾을 수 없거나 만료되었습니다. (선점 ID: %s)", holdId));
+    }
+
+    public HoldNotFoundException(Throwable cause) {
+        super(ERROR_CODE, DEFAULT_MESSAGE, cause);
+    }
+}
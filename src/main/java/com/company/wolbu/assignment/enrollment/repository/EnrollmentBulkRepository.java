@@ -0,0 +1,19 @@
+package com.company.wolbu.assignment.enrollment.repository;
+
+import com.company.wolbu.assignment.enrollment.domain.Enrollment;
+import java.util.Collection;
+
+/**
+ * 수강 신청 대량 저장 Repository
+ */
+public interface EnrollmentBulkRepository {
+
+    /**
+     * 새 수강 신청을 JDBC 배치 단위로 저장
+     * 영속화만 하고, INSERT는 flush 시점에 배치 크기(hibernate.jdbc.batch_size) 단위로 묶여 실행됩니다.
+     * 호출자가 같은 트랜잭션에서 다른 엔티티를 계속 사용하므로 영속성 컨텍스트는 비우지 않습니다.
+     *
+     * @param enrollments 저장할 수강 신청 목록 (신규 엔티티)
+     */
+    void persistAll(Collection<Enrollment> enrollments);
+}
@@ -0,0 +1,22 @@
+package com.company.wolbu.assignment.enrollment.repository;
+
+import com.company.wolbu.assignment.enrollment.domain.Enrollment;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.Collection;
+
+/**
+ * 수강 신청 대량 저장 Repository 구현
+ */
+public class EnrollmentBulkRepositoryImpl implements EnrollmentBulkRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void persistAll(Collection<Enrollment> enrollments) {
+        for (Enrollment enrollment : enrollments) {
+            entityManager.persist(enrollment);
+        }
+    }
+}
@@ -2,9 +2,9 @@ package com.company.wolbu.assignment.enrollment.repository;
 
 import com.company.wolbu.assignment.enrollment.domain.Enrollment;
 import com.company.wolbu.assignment.enrollment.domain.EnrollmentStatus;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,7 +14,7 @@ import org.springframework.stereotype.Repository;
  * 수강 신청 Repository 인터페이스
  */
 @Repository
-public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
+public interface EnrollmentRepository extends JpaRepository<Enrollment, Long>, EnrollmentBulkRepository {
 
     /**
      * 특정 강의의 활성 수강 신청 수 조회 (정원 계산용)
@@ -35,6 +35,16 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
     @Query("SELECT COUNT(e) FROM Enrollment e WHERE e.lectureId = :lectureId AND e.status = :status")
     long countByLectureIdAndStatus(@Param("lectureId") Long lectureId, @Param("status") EnrollmentStatus status);
 
+    /**
+     * 수강 신청의 강의 ID 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+     * 취소 시 강의 행을 먼저 잠근 뒤 수강 신청을 읽기 위해 사용합니다.
+     *
+     * @param id 수강 신청 ID
+     * @return 강의 ID (Optional)
+     */
+    @Query("SELECT e.lectureId FROM Enrollment e WHERE e.id = :id")
+    Optional<Long> findLectureIdById(@Param("id") Long id);
+
     /**
      * 회원의 특정 강의 수강 신청 조회 (UNIQUE 제약조건으로 하나만 존재)
      *
@@ -44,6 +54,24 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
      */
     Optional<Enrollment> findByLectureIdAndMemberId(Long lectureId, Long memberId);
 
+    /**
+     * 회원의 여러 강의 수강 신청 일괄 조회 (일괄 신청용)
+     *
+     * @param memberId   회원 ID
+     * @param lectureIds 강의 ID 목록
+     * @return 수강 신청 목록 - 활성/취소 상태 모두 포함
+     */
+    List<Enrollment> findByMemberIdAndLectureIdIn(Long memberId, Collection<Long> lectureIds);
+
+    /**
+     * 강의의 여러 회원 수강 신청 일괄 조회 (시퀀서 일괄 신청용)
+     *
+     * @param lectureId 강의 ID
+     * @param memberIds 회원 ID 목록
+     * @return 수강 신청 목록 - 활성/취소 상태 모두 포함
+     */
+    List<Enrollment> findByLectureIdAndMemberIdIn(Long lectureId, Collection<Long> memberIds);
+
     /**
      * 회원의 수강 신청 목록 조회
      *
@@ -62,14 +90,23 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
 
     /**
      * 회원의 특정 상태 수강 신청 목록 조회
+     * 강의명은 강의 메타데이터 캐시에서 채우므로 강의를 함께 조회하지 않습니다.
      *
      * @param memberId 회원 ID
      * @param status   수강 신청 상태
      * @return 해당 회원의 특정 상태 수강 신청 목록
      */
-    @EntityGraph(attributePaths = {"lecture"})
     List<Enrollment> findByMemberIdAndStatus(Long memberId, EnrollmentStatus status);
 
+    /**
+     * 회원의 여러 상태 수강 신청 목록 조회
+     *
+     * @param memberId 회원 ID
+     * @param statuses 수강 신청 상태 목록
+     * @return 해당 상태들의 수강 신청 목록
+     */
+    List<Enrollment> findByMemberIdAndStatusIn(Long memberId, Collection<EnrollmentStatus> statuses);
+
     /**
      * 회원의 특정 강의 활성 수강 신청 존재 여부 확인 (중복 체크용)
      *
@@ -81,5 +118,23 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
            "FROM Enrollment e WHERE e.lectureId = :lectureId AND e.memberId = :memberId AND e.status = 'CONFIRMED'")
     boolean existsActiveByLectureIdAndMemberId(@Param("lectureId") Long lectureId, @Param("memberId") Long memberId);
 
+    /**
+     * 강의의 대기 신청 ID를 대기 순서대로 조회 (대기열 적재용)
+     *
+     * @param lectureId 강의 ID
+     * @return 대기 순서대로 정렬된 수강 신청 ID 목록
+     */
+    @Query("SELECT e.id FROM Enrollment e WHERE e.lectureId = :lectureId AND e.status = 'WAITLISTED' " +
+           "ORDER BY e.waitlistPosition")
+    List<Long> findWaitlistedIdsByLectureId(@Param("lectureId") Long lectureId);
+
+    /**
+     * 강의의 마지막 대기 순서 조회 (대기열 적재용)
+     *
+     * @param lectureId 강의 ID
+     * @return 가장 큰 대기 순서 (대기 신청이 없으면 null)
+     */
+    @Query("SELECT MAX(e.waitlistPosition) FROM Enrollment e WHERE e.lectureId = :lectureId AND e.status = 'WAITLISTED'")
+    Long findMaxWaitlistPosition(@Param("lectureId") Long lectureId);
 
 }
@@ -0,0 +1,103 @@
+package com.company.wolbu.assignment.enrollment.service;
+
+import com.company.wolbu.assignment.lecture.domain.Lecture;
+import com.company.wolbu.assignment.lecture.exception.LectureNotFoundException;
+import com.company.wolbu.assignment.lecture.repository.LectureRepository;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * CAS 기반 메모리 좌석 카운터
+ * 애플리케이션 시작 시 DB에서 강의별 잔여 좌석을 적재하고,
+ * 이후 생성된 강의는 최초 접근 시 DB에서 한 번만 적재합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AtomicSeatCounter implements SeatCounter {
+
+    private final LectureRepository lectureRepository;
+
+    private final Map<Long, SeatState> seats = new ConcurrentHashMap<>();
+
+    /**
+     * 애플리케이션 시작 시 전체 강의의 잔여 좌석을 적재합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        for (Lecture lecture : lectureRepository.findAll()) {
+            seats.put(lecture.getId(), new SeatState(lecture.getMaxCapacity(), lecture.getEnrolledCount()));
+        }
+        log.info("좌석 카운터 적재 완료: lectures={}", seats.size());
+    }
+
+    @Override
+    public boolean tryReserve(Long lectureId) {
+        AtomicInteger remaining = stateOf(lectureId).remaining;
+        int current;
+        do {
+            current = remaining.get();
+            if (current <= 0) {
+                return false;
+            }
+        } while (!remaining.compareAndSet(current, current - 1));
+        return true;
+    }
+
+    @Override
+    public void release(Long lectureId) {
+        SeatState state = seats.get(lectureId);
+        if (state == null) {
+            // 아직 적재되지 않은 강의는 최초 접근 시 DB 기준으로 적재되므로 반환할 필요가 없음
+            return;
+        }
+        int current;
+        do {
+            current = state.remaining.get();
+            if (current >= state.capacity) {
+                return;
+            }
+        } while (!state.remaining.compareAndSet(current, current + 1));
+    }
+
+    @Override
+    public int capacityOf(Long lectureId) {
+        return stateOf(lectureId).capacity;
+    }
+
+    @Override
+    public int remainingOf(Long lectureId) {
+        return stateOf(lectureId).remaining.get();
+    }
+
+    private SeatState stateOf(Long lectureId) {
+        return seats.computeIfAbsent(lectureId, this::load);
+    }
+
+    private SeatState load(Long lectureId) {
+        Lecture lecture = lectureRepository.findById(lectureId)
+                .orElseThrow(() -> new LectureNotFoundException(lectureId));
+        log.debug("좌석 카운터 적재: lectureId={}, capacity={}, enrolled={}", lectureId, lecture.getMaxCapacity(),
+                lecture.getEnrolledCount());
+        return new SeatState(lecture.getMaxCapacity(), lecture.getEnrolledCount());
+    }
+
+    /**
+     * 강의 하나의 정원과 잔여 좌석
+     */
+    private static final class SeatState {
+        private final int capacity;
+        private final AtomicInteger remaining;
+
+        private SeatState(int capacity, int enrolledCount) {
+            this.capacity = capacity;
+            this.remaining = new AtomicInteger(Math.max(0, capacity - enrolledCount));
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.company.wolbu.assignment.enrollment.service;
+
+import com.company.wolbu.assignment.lecture.repository.LectureRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조건부 UPDATE 기반 좌석 확보 (기본 모드, 시퀀서 모드에서도 사용)
+ * 정원 확인과 증가를 하나의 문장으로 처리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnExpression("'${app.enrollment.concurrency-mode:ATOMIC_UPDATE}' != 'OPTIMISTIC'")
+public class ConditionalUpdateSeatAdmission implements SeatAdmission {
+
+    private final LectureRepository lectureRepository;
+
+    @Override
+    public boolean tryAdmit(Long lectureId) {
+        return lectureRepository.increaseEnrolledCount(lectureId) > 0;
+    }
+
+    @Override
+    public boolean supportsBatch() {
+        return true;
+    }
+}
@@ -0,0 +1,213 @@
+package com.company.wolbu.assignment.enrollment.service;
+
+import com.company.wolbu.assignment.auth.repository.MemberRepository;
+import com.company.wolbu.assignment.common.exception.BusinessException;
+import com.company.wolbu.assignment.enrollment.config.EnrollmentProperties;
+import com.company.wolbu.assignment.enrollment.domain.EnrollmentStatus;
+import com.company.wolbu.assignment.enrollment.dto.EnrollmentRequestDto;
+import com.company.wolbu.assignment.enrollment.dto.EnrollmentResponseDto;
+import com.company.wolbu.assignment.enrollment.dto.EnrollmentResultDto;
+import com.company.wolbu.assignment.enrollment.exception.EnrollmentContentionException;
+import com.company.wolbu.assignment.enrollment.exception.MemberNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 수강 신청 요청 분배기
+ * 시퀀서 모드에서는 강의별 시퀀서에 신청을 넘기고 결과를 기다리며,
+ * 강의별 트랜잭션 설정 또는 낙관적 모드에서는 강의마다 짧은 트랜잭션으로 신청합니다.
+ * 버전 충돌은 {@link OptimisticRetry}가 트랜잭션 밖에서 트랜잭션 전체를 다시 실행하여 처리합니다.
+ * 그 외 모드와 묶음 신청은 {@link EnrollmentService}에 그대로 위임합니다.
+ * 대기열 등록을 요청한 경우 정원 초과로 실패한 강의는 어떤 모드에서든 대기열에 등록합니다.
+ */
+@Slf4j
+@Service
+public class EnrollmentDispatcher {
+
+    private final EnrollmentService enrollmentService;
+    private final MemberRepository memberRepository;
+    private final EnrollmentProperties properties;
+    private final ObjectProvider<EnrollmentSequencer> sequencerProvider;
+    private final OptimisticRetry optimisticRetry;
+    private final TransactionTemplate perLectureTransaction;
+
+    public EnrollmentDispatcher(EnrollmentService enrollmentService, MemberRepository memberRepository,
+                                EnrollmentProperties properties, ObjectProvider<EnrollmentSequencer> sequencerProvider,
+                                OptimisticRetry optimisticRetry, PlatformTransactionManager transactionManager) {
+        this.enrollmentService = enrollmentService;
+        this.memberRepository = memberRepository;
+        this.properties = properties;
+        this.sequencerProvider = sequencerProvider;
+        this.optimisticRetry = optimisticRetry;
+        this.perLectureTransaction = new TransactionTemplate(transactionManager);
+        this.perLectureTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 여러 강의에 동시 신청
+     *
+     * @param memberId 회원 ID
+     * @param request  수강 신청 요청
+     * @return 신청 결과
+     */
+    public EnrollmentResultDto enrollInLectures(Long memberId, EnrollmentRequestDto request) {
+        EnrollmentResultDto result = dispatch(memberId, request);
+        if (!request.isJoinWaitlist() || request.isAllOrNothing()) {
+            return result;
+        }
+        return joinWaitlists(memberId, result);
+    }
+
+    private EnrollmentResultDto dispatch(Long memberId, EnrollmentRequestDto request) {
+        // 묶음 신청은 여러 강의에 걸친 원자성이 필요하므로 하나의 트랜잭션으로 처리
+        if (request.isAllOrNothing()) {
+            return optimisticRetry.execute(() -> enrollmentService.enrollInLectures(memberId, request));
+        }
+        EnrollmentSequencer sequencer = sequencerProvider.getIfAvailable();
+        if (sequencer == null) {
+            // 낙관적 모드는 버전 충돌 시 강의 하나의 트랜잭션만 다시 실행하도록 강의별 트랜잭션으로 처리
+            boolean eachTransaction = properties.isPerLectureTransaction()
+                    || properties.getConcurrencyMode() == EnrollmentProperties.ConcurrencyMode.OPTIMISTIC;
+            return eachTransaction
+                    ? enrollInEachTransaction(memberId, request)
+                    : optimisticRetry.execute(() -> enrollmentService.enrollInLectures(memberId, request));
+        }
+
+        log.info("강의 신청 요청 (시퀀서): memberId={}, lectureIds={}", memberId, request.getLectureIds());
+
+        // 1. 회원 존재 확인 (요청 스레드는 커넥션을 잡은 채 기다리지 않음)
+        memberRepository.findById(memberId).orElseThrow(() -> new MemberNotFoundException(memberId));
+
+        // 2. 강의별 시퀀서에 신청 전달
+        List<Long> sortedLectureIds = new ArrayList<>(request.getLectureIds());
+        sortedLectureIds.sort(Long::compareTo);
+        List<CompletableFuture<EnrollmentResponseDto>> futures = new ArrayList<>();
+        for (Long lectureId : sortedLectureIds) {
+            futures.add(sequencer.submit(memberId, lectureId));
+        }
+
+        // 3. 결과 수집 (전체 대기 시간 상한 적용)
+        List<EnrollmentResponseDto> successfulEnrollments = new ArrayList<>();
+        List<EnrollmentResultDto.EnrollmentFailure> failedEnrollments = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getSequencerAwaitTimeoutMillis());
+
+        for (int i = 0; i < sortedLectureIds.size(); i++) {
+            Long lectureId = sortedLectureIds.get(i);
+            try {
+                successfulEnrollments.add(await(futures.get(i), deadline));
+                log.info("강의 신청 성공: memberId={}, lectureId={}", memberId, lectureId);
+            } catch (BusinessException e) {
+                failedEnrollments.add(enrollmentService.toFailure(lectureId, e));
+                log.warn("강의 신청 실패: memberId={}, lectureId={}, error={}", memberId, lectureId, e.getMessage());
+            }
+        }
+
+        return new EnrollmentResultDto(successfulEnrollments, failedEnrollments);
+    }
+
+    /**
+     * 강의마다 별도 트랜잭션으로 신청 (부분 성공)
+     * 잠금은 강의 하나의 처리 시간 동안만 유지됩니다.
+     *
+     * @param memberId 회원 ID
+     * @param request  수강 신청 요청
+     * @return 신청 결과
+     */
+    private EnrollmentResultDto enrollInEachTransaction(Long memberId, EnrollmentRequestDto request) {
+        log.info("강의 신청 요청 (강의별 트랜잭션): memberId={}, lectureIds={}", memberId, request.getLectureIds());
+
+        memberRepository.findById(memberId).orElseThrow(() -> new MemberNotFoundException(memberId));
+
+        List<EnrollmentResponseDto> successfulEnrollments = new ArrayList<>();
+        List<EnrollmentResultDto.EnrollmentFailure> failedEnrollments = new ArrayList<>();
+
+        List<Long> sortedLectureIds = new ArrayList<>(request.getLectureIds());
+        sortedLectureIds.sort(Long::compareTo);
+
+        for (Long lectureId : sortedLectureIds) {
+            try {
+                successfulEnrollments.add(optimisticRetry.execute(() -> perLectureTransaction.execute(
+                        status -> enrollmentService.enrollInSingleLecture(memberId, lectureId))));
+                log.info("강의 신청 성공: memberId={}, lectureId={}", memberId, lectureId);
+            } catch (BusinessException e) {
+                failedEnrollments.add(enrollmentService.toFailure(lectureId, e));
+                log.warn("강의 신청 실패: memberId={}, lectureId={}, error={}", memberId, lectureId, e.getMessage());
+            }
+        }
+
+        return new EnrollmentResultDto(successfulEnrollments, failedEnrollments);
+    }
+
+    /**
+     * 정원 초과로 실패한 강의를 대기열에 등록 (강의마다 별도 트랜잭션)
+     * 대기 등록된 강의는 신청 성공이 아닌 대기 목록으로, 그 사이 좌석이 생겨 바로 신청된 강의는 신청 성공으로 반환합니다.
+     *
+     * @param memberId 회원 ID
+     * @param result   신청 결과
+     * @return 대기열 등록 결과를 반영한 신청 결과
+     */
+    private EnrollmentResultDto joinWaitlists(Long memberId, EnrollmentResultDto result) {
+        List<EnrollmentResponseDto> successfulEnrollments = new ArrayList<>(result.getSuccessfulEnrollments());
+        List<EnrollmentResultDto.EnrollmentFailure> failedEnrollments = new ArrayList<>();
+        List<EnrollmentResponseDto> waitlistedEnrollments = new ArrayList<>();
+
+        for (EnrollmentResultDto.EnrollmentFailure failure : result.getFailedEnrollments()) {
+            if (!"COURSE_FULL".equals(failure.getErrorCode())) {
+                failedEnrollments.add(failure);
+                continue;
+            }
+            Long lectureId = failure.getLectureId();
+            try {
+                EnrollmentResponseDto response =
+                        optimisticRetry.execute(() -> enrollmentService.joinWaitlist(memberId, lectureId));
+                if (EnrollmentStatus.WAITLISTED.name().equals(response.getStatus())) {
+                    waitlistedEnrollments.add(response);
+                } else {
+                    successfulEnrollments.add(response);
+                }
+            } catch (BusinessException e) {
+                failedEnrollments.add(enrollmentService.toFailure(lectureId, e));
+                log.warn("대기열 등록 실패: memberId={}, lectureId={}, error={}", memberId, lectureId, e.getMessage());
+            }
+        }
+
+        return new EnrollmentResultDto(successfulEnrollments, failedEnrollments, waitlistedEnrollments);
+    }
+
+    /**
+     * 시퀀서의 신청 결과 대기
+     * 대기 시간이 지나면 신청을 포기(취소)하여 이후에 반영되지 않게 하고 경합 실패로 응답합니다.
+     * 이미 처리 스레드가 가져간 신청은 포기할 수 없으므로, 곧 나오는 커밋 결과를 그대로 기다립니다.
+     */
+    private EnrollmentResponseDto await(CompletableFuture<EnrollmentResponseDto> future, long deadline) {
+        try {
+            try {
+                return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (future.cancel(false)) {
+                    throw new EnrollmentContentionException(e);
+                }
+                return future.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            throw new EnrollmentContentionException(e);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.company.wolbu.assignment.enrollment.service;
+
+import com.company.wolbu.assignment.common.exception.BusinessException;
+import com.company.wolbu.assignment.enrollment.config.EnrollmentProperties;
+import com.company.wolbu.assignment.enrollment.dto.EnrollmentResponseDto;
+import com.company.wolbu.assignment.enrollment.exception.EnrollmentContentionException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 강의별 단일 처리 스레드 기반 수강 신청 시퀀서
+ * 같은 강의의 신청은 항상 같은 샤드의 대기열로 모이고, 샤드 전용 스레드가 순서대로 처리합니다.
+ * 대기열에 쌓인 신청은 강의별로 묶어 신청 가능 여부를 메모리에서 판정하고,
+ * 강의마다 신청자 수 UPDATE 한 번과 일괄 저장으로 한 트랜잭션에 처리한 뒤 커밋 이후에 결과를 전달합니다.
+ * 요청 스레드가 기다리다 포기(취소)한 신청은 처리 스레드가 가져가기 전이면 처리하지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.enrollment", name = "concurrency-mode", havingValue = "SEQUENCER")
+public class EnrollmentSequencer {
+
+    private final EnrollmentService enrollmentService;
+    private final TransactionTemplate transactionTemplate;
+    private final EnrollmentProperties properties;
+    private final List<Shard> shards = new ArrayList<>();
+    private volatile boolean running;
+
+    public EnrollmentSequencer(EnrollmentService enrollmentService, PlatformTransactionManager transactionManager,
+                               EnrollmentProperties properties) {
+        this.enrollmentService = enrollmentService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    /**
+     * 샤드별 대기열과 처리 스레드를 시작합니다.
+     */
+    @PostConstruct
+    public void start() {
+        running = true;
+        int shardCount = Math.max(1, properties.getSequencerShards());
+        for (int i = 0; i < shardCount; i++) {
+            Shard shard = new Shard(new ArrayBlockingQueue<>(properties.getSequencerQueueCapacity()));
+            Thread worker = new Thread(() -> runShard(shard), "enrollment-sequencer-" + i);
+            worker.setDaemon(true);
+            shard.worker = worker;
+            shards.add(shard);
+            worker.start();
+        }
+        log.info("수강 신청 시퀀서 시작: shards={}, queueCapacity={}", shardCount,
+                properties.getSequencerQueueCapacity());
+    }
+
+    /**
+     * 처리 스레드를 중지하고, 처리되지 못한 신청은 실패로 완료합니다.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        for (Shard shard : shards) {
+            shard.worker.interrupt();
+        }
+        for (Shard shard : shards) {
+            try {
+                shard.worker.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            List<Command> pending = new ArrayList<>();
+            shard.queue.drainTo(pending);
+            pending.forEach(command -> command.completeExceptionally(new EnrollmentContentionException()));
+        }
+        shards.clear();
+    }
+
+    /**
+     * 신청을 강의가 속한 샤드의 대기열에 넣습니다.
+     * 대기열이 가득 차면 즉시 경합 예외로 완료됩니다.
+     * 반환된 결과를 취소하면 처리 스레드가 아직 가져가지 않은 신청은 처리되지 않으며,
+     * 이미 처리 중인 신청은 취소되지 않으므로(cancel이 false 반환) 결과를 기다려야 합니다.
+     *
+     * @param memberId  회원 ID
+     * @param lectureId 강의 ID
+     * @return 커밋 이후 완료되는 신청 결과
+     */
+    public CompletableFuture<EnrollmentResponseDto> submit(Long memberId, Long lectureId) {
+        Command command = new Command(memberId, lectureId);
+        if (!running || !shardOf(lectureId).queue.offer(command)) {
+            command.completeExceptionally(new EnrollmentContentionException());
+        }
+        return command;
+    }
+
+    private Shard shardOf(Long lectureId) {
+        return shards.get(Math.floorMod(lectureId.hashCode(), shards.size()));
+    }
+
+    private void runShard(Shard shard) {
+        int batchSize = Math.max(1, properties.getSequencerBatchSize());
+        List<Command> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                batch.add(shard.queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            shard.queue.drainTo(batch, batchSize - 1);
+            process(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * 대기열에서 꺼낸 신청을 강의별로 묶어 한 트랜잭션으로 처리합니다.
+     * 요청 스레드가 포기한 신청은 건너뛰며, 일괄 처리가 실패하면 신청별 트랜잭션으로 다시 처리합니다.
+     */
+    private void process(List<Command> batch) {
+        // 강의 ID 순으로 묶어 다른 일괄 신청과 같은 순서로 행 잠금을 잡음
+        Map<Long, List<Command>> byLecture = new TreeMap<>();
+        List<Command> claimed = new ArrayList<>(batch.size());
+        for (Command command : batch) {
+            if (command.claim()) {
+                byLecture.computeIfAbsent(command.lectureId, id -> new ArrayList<>()).add(command);
+                claimed.add(command);
+            }
+        }
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> byLecture.forEach(this::applyBatch));
+            claimed.forEach(Command::finish);
+        } catch (RuntimeException e) {
+            log.warn("수강 신청 일괄 저장 실패, 개별 처리로 전환: size={}, error={}", claimed.size(), e.getMessage());
+            for (Command command : claimed) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> apply(command));
+                    command.finish();
+                } catch (RuntimeException ex) {
+                    command.completeExceptionally(ex);
+                }
+            }
+        }
+    }
+
+    private void applyBatch(Long lectureId, List<Command> commands) {
+        List<Long> memberIds = new ArrayList<>(commands.size());
+        for (Command command : commands) {
+            command.response = null;
+            command.failure = null;
+            memberIds.add(command.memberId);
+        }
+        try {
+            LectureBatchAdmission admission = enrollmentService.enrollMembersInLecture(lectureId, memberIds);
+            for (int i = 0; i < commands.size(); i++) {
+                commands.get(i).response = admission.responseAt(i);
+                commands.get(i).failure = admission.failureAt(i);
+            }
+        } catch (BusinessException e) {
+            commands.forEach(command -> command.failure = e);
+        }
+    }
+
+    private void apply(Command command) {
+        command.response = null;
+        command.failure = null;
+        try {
+            command.response = enrollmentService.enrollInSingleLecture(command.memberId, command.lectureId);
+        } catch (BusinessException e) {
+            command.failure = e;
+        }
+    }
+
+    /**
+     * 샤드 하나의 대기열과 전용 처리 스레드
+     */
+    private static final class Shard {
+        private final BlockingQueue<Command> queue;
+        private Thread worker;
+
+        private Shard(BlockingQueue<Command> queue) {
+            this.queue = queue;
+        }
+    }
+
+    /**
+     * 대기열에 들어가는 신청 한 건 (요청 스레드에는 신청 결과로 전달됨)
+     * 처리 스레드가 가져가는 것(claim)과 요청 스레드가 포기하는 것(cancel) 중 먼저 성공한 쪽만 반영됩니다.
+     */
+    private static final class Command extends CompletableFuture<EnrollmentResponseDto> {
+        private static final int PENDING = 0;
+        private static final int CLAIMED = 1;
+        private static final int ABANDONED = 2;
+
+        private final Long memberId;
+        private final Long lectureId;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        private EnrollmentResponseDto response;
+        private BusinessException failure;
+
+        private Command(Long memberId, Long lectureId) {
+            this.memberId = memberId;
+            this.lectureId = lectureId;
+        }
+
+        private boolean claim() {
+            return state.compareAndSet(PENDING, CLAIMED);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return state.compareAndSet(PENDING, ABANDONED) && super.cancel(mayInterruptIfRunning);
+        }
+
+        private void finish() {
+            if (failure != null) {
+                completeExceptionally(failure);
+            } else {
+                complete(response);
+            }
+        }
+    }
+}
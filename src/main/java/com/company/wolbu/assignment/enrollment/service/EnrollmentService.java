@@ -2,6 +2,7 @@ package com.company.wolbu.assignment.enrollment.service;
 
 import com.company.wolbu.assignment.auth.repository.MemberRepository;
 import com.company.wolbu.assignment.common.exception.BusinessException;
+import com.company.wolbu.assignment.common.util.TransactionCallbacks;
 import com.company.wolbu.assignment.enrollment.domain.Enrollment;
 import com.company.wolbu.assignment.enrollment.domain.EnrollmentStatus;
 import com.company.wolbu.assignment.enrollment.dto.EnrollmentRequestDto;
@@ -9,19 +10,35 @@ import com.company.wolbu.assignment.enrollment.dto.EnrollmentResponseDto;
 import com.company.wolbu.assignment.enrollment.dto.EnrollmentResultDto;
 import com.company.wolbu.assignment.enrollment.exception.AlreadyCanceledException;
 import com.company.wolbu.assignment.enrollment.exception.AlreadyEnrolledException;
+import com.company.wolbu.assignment.enrollment.exception.BundleAbortedException;
 import com.company.wolbu.assignment.enrollment.exception.CourseFullException;
 import com.company.wolbu.assignment.enrollment.exception.EnrollmentNotFoundException;
 import com.company.wolbu.assignment.enrollment.exception.MemberNotFoundException;
 import com.company.wolbu.assignment.enrollment.exception.UnauthorizedEnrollmentException;
 import com.company.wolbu.assignment.enrollment.repository.EnrollmentRepository;
 import com.company.wolbu.assignment.lecture.domain.Lecture;
+import com.company.wolbu.assignment.lecture.dto.LectureMetadata;
 import com.company.wolbu.assignment.lecture.exception.LectureNotFoundException;
 import com.company.wolbu.assignment.lecture.repository.LectureRepository;
+import com.company.wolbu.assignment.lecture.service.LectureListCache;
+import com.company.wolbu.assignment.lecture.service.LectureMetadataCache;
+import com.company.wolbu.assignment.lecture.service.LectureRanking;
+import com.company.wolbu.assignment.lecture.service.LectureVersions;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,6 +53,13 @@ public class EnrollmentService {
     private final EnrollmentRepository enrollmentRepository;
     private final LectureRepository lectureRepository;
     private final MemberRepository memberRepository;
+    private final SeatCounter seatCounter;
+    private final SeatAdmission seatAdmission;
+    private final WaitlistRegistry waitlistRegistry;
+    private final LectureRanking lectureRanking;
+    private final LectureListCache lectureListCache;
+    private final LectureVersions lectureVersions;
+    private final LectureMetadataCache lectureMetadataCache;
 
     /**
      * 여러 강의에 동시 신청
@@ -58,7 +82,12 @@ public class EnrollmentService {
         List<Long> sortedLectureIds = new ArrayList<>(request.getLectureIds());
         sortedLectureIds.sort(Long::compareTo);
 
-        // 3. 각 강의에 대해 순차적으로 신청 처리
+        // 3. 묶음 신청과 여러 강의 신청은 일괄 처리 (강의 수와 관계없이 고정된 쿼리 수)
+        if (request.isAllOrNothing() || (sortedLectureIds.size() > 1 && seatAdmission.supportsBatch())) {
+            return enrollInLecturesBatch(memberId, sortedLectureIds, request.isAllOrNothing());
+        }
+
+        // 4. 각 강의에 대해 순차적으로 신청 처리
         for (Long lectureId : sortedLectureIds) {
             try {
                 EnrollmentResponseDto response = enrollInSingleLecture(memberId, lectureId);
@@ -67,12 +96,7 @@ public class EnrollmentService {
 
             } catch (BusinessException e) {
                 // 비즈니스 예외인 경우 실패 목록에 추가
-                Lecture lecture = lectureRepository.findById(lectureId)
-                        .orElseThrow(() -> new LectureNotFoundException(lectureId));
-                String lectureTitle = lecture.getTitle();
-
-                failedEnrollments.add(new EnrollmentResultDto.EnrollmentFailure(lectureId, lectureTitle, e.errorCode(),
-                        e.getMessage()));
+                failedEnrollments.add(toFailure(lectureId, e));
 
                 log.warn("강의 신청 실패: memberId={}, lectureId={}, error={}", memberId, lectureId, e.getMessage());
             }
@@ -81,27 +105,347 @@ public class EnrollmentService {
         return new EnrollmentResultDto(successfulEnrollments, failedEnrollments);
     }
 
+    /**
+     * 여러 강의 일괄 신청 처리
+     * 대상 강의 잠금, 기존 신청 조회, 신청자 수 갱신을 강의 수와 관계없이 각각 한 번의 쿼리로 처리합니다.
+     * 묶음 신청이면 하나라도 실패할 때 아무것도 저장하지 않고, 나머지 강의는 BUNDLE_ABORTED로 처리합니다.
+     *
+     * @param memberId         회원 ID
+     * @param sortedLectureIds 정렬된 강의 ID 목록
+     * @param allOrNothing     묶음 신청 여부
+     * @return 신청 결과
+     */
+    private EnrollmentResultDto enrollInLecturesBatch(Long memberId, List<Long> sortedLectureIds,
+                                                      boolean allOrNothing) {
+        int size = sortedLectureIds.size();
+        boolean[] reserved = new boolean[size];
+        BusinessException[] errors = new BusinessException[size];
+        Set<Long> admittedIds = new LinkedHashSet<>();
+
+        try {
+            // 1. 좌석 카운터로 정원이 가득 찬 강의를 DB 조회 없이 거름
+            Set<Long> candidateIds = new TreeSet<>();
+            for (int i = 0; i < size; i++) {
+                reserved[i] = seatCounter.tryReserve(sortedLectureIds.get(i));
+                if (reserved[i]) {
+                    candidateIds.add(sortedLectureIds.get(i));
+                }
+            }
+            boolean rejectedByCounter = candidateIds.size() < new HashSet<>(sortedLectureIds).size();
+            if (allOrNothing && rejectedByCounter) {
+                // 묶음 신청은 잠금 없이 즉시 중단
+                candidateIds.clear();
+            }
+
+            // 2. 대상 강의 일괄 잠금 (ID 순), 기존 신청 일괄 조회
+            // 잠금 조회가 최신 신청자 수를 함께 읽으므로 정원 판정에 별도 조회 없이 사용
+            Map<Long, LectureMetadata> lectures = new HashMap<>();
+            Set<Long> fullIds = new HashSet<>();
+            Map<Long, Enrollment> existingEnrollments = new HashMap<>();
+            if (!candidateIds.isEmpty()) {
+                for (Lecture locked : lectureRepository.findAllByIdInWithLock(candidateIds)) {
+                    lectures.put(locked.getId(), LectureMetadata.from(locked));
+                    if (locked.isFull()) {
+                        fullIds.add(locked.getId());
+                    }
+                }
+                enrollmentRepository.findByMemberIdAndLectureIdIn(memberId, candidateIds)
+                        .forEach(e -> existingEnrollments.put(e.getLectureId(), e));
+            }
+
+            // 잠그지 않은 강의는 메타데이터 캐시에서 강의명만 조회
+            Set<Long> unlockedIds = new TreeSet<>(sortedLectureIds);
+            unlockedIds.removeAll(lectures.keySet());
+            if (!unlockedIds.isEmpty()) {
+                lectures.putAll(lectureMetadataCache.getAll(unlockedIds));
+            }
+
+            // 3. 강의별 신청 가능 여부 판정
+            for (int i = 0; i < size; i++) {
+                Long lectureId = sortedLectureIds.get(i);
+                LectureMetadata lecture = lectures.get(lectureId);
+                if (lecture == null) {
+                    throw new LectureNotFoundException(lectureId);
+                }
+                Enrollment existing = existingEnrollments.get(lectureId);
+                if (!reserved[i]) {
+                    errors[i] = new CourseFullException(lectureId, lecture.getMaxCapacity());
+                } else if (!candidateIds.contains(lectureId)) {
+                    errors[i] = new BundleAbortedException(lectureId);
+                } else if (admittedIds.contains(lectureId) || (existing != null && existing.isActive())) {
+                    errors[i] = new AlreadyEnrolledException(lectureId);
+                } else if (fullIds.contains(lectureId)) {
+                    errors[i] = new CourseFullException(lectureId, lecture.getMaxCapacity());
+                } else {
+                    admittedIds.add(lectureId);
+                }
+            }
+
+            // 묶음 신청에 실패가 있으면 저장 없이 중단
+            boolean aborted = allOrNothing && Arrays.stream(errors).anyMatch(Objects::nonNull);
+            if (aborted) {
+                for (int i = 0; i < size; i++) {
+                    if (errors[i] == null) {
+                        errors[i] = new BundleAbortedException(sortedLectureIds.get(i));
+                    }
+                }
+                admittedIds.clear();
+            }
+
+            List<EnrollmentResultDto.EnrollmentFailure> failedEnrollments = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                if (errors[i] != null) {
+                    Long lectureId = sortedLectureIds.get(i);
+                    failedEnrollments.add(new EnrollmentResultDto.EnrollmentFailure(lectureId,
+                            lectures.get(lectureId).getTitle(), errors[i].errorCode(), errors[i].getMessage()));
+                    log.warn("강의 신청 실패: memberId={}, lectureId={}, error={}", memberId, lectureId,
+                            errors[i].getMessage());
+                }
+            }
+
+            if (admittedIds.isEmpty()) {
+                return new EnrollmentResultDto(new ArrayList<>(), failedEnrollments);
+            }
+
+            // 4. 신청자 수 일괄 증가 (잠금 상태이므로 대상 강의가 모두 갱신되어야 함)
+            int updated = lectureRepository.increaseEnrolledCountIn(admittedIds);
+            if (updated != admittedIds.size()) {
+                throw new IllegalStateException(
+                        String.format("신청자 수 일괄 갱신 불일치: expected=%d, updated=%d", admittedIds.size(), updated));
+            }
+
+            // 5. 취소된 신청은 재활성화, 나머지는 일괄 저장
+            List<Enrollment> admittedEnrollments = new ArrayList<>();
+            List<Enrollment> newEnrollments = new ArrayList<>();
+            for (Long lectureId : admittedIds) {
+                Enrollment enrollment = existingEnrollments.get(lectureId);
+                if (enrollment != null) {
+                    enrollment.reactivate();
+                } else {
+                    enrollment = Enrollment.create(lectureId, memberId);
+                    newEnrollments.add(enrollment);
+                }
+                admittedEnrollments.add(enrollment);
+            }
+            enrollmentRepository.persistAll(newEnrollments);
+
+            // 커밋 이후 인기순 랭킹, 목록 캐시 반영
+            for (Long lectureId : admittedIds) {
+                TransactionCallbacks.afterCommit(() -> onEnrolledCountChanged(lectureId, 1));
+            }
+
+            List<EnrollmentResponseDto> successfulEnrollments = new ArrayList<>();
+            for (Enrollment enrollment : admittedEnrollments) {
+                successfulEnrollments.add(new EnrollmentResponseDto(enrollment.getId(), enrollment.getLectureId(),
+                        lectures.get(enrollment.getLectureId()).getTitle(), enrollment.getMemberId(),
+                        enrollment.getStatus().name(), enrollment.getCreatedAt()));
+            }
+            log.info("강의 일괄 신청 완료: memberId={}, admitted={}, failed={}", memberId, admittedIds,
+                    failedEnrollments.size());
+
+            return new EnrollmentResultDto(successfulEnrollments, failedEnrollments);
+        } finally {
+            // 신청된 강의의 좌석은 롤백 시에만 반환, 나머지 선점 좌석은 즉시 반환
+            Set<Long> kept = new HashSet<>();
+            for (int i = 0; i < size; i++) {
+                if (!reserved[i]) {
+                    continue;
+                }
+                Long lectureId = sortedLectureIds.get(i);
+                if (admittedIds.contains(lectureId) && kept.add(lectureId)) {
+                    TransactionCallbacks.afterRollback(() -> seatCounter.release(lectureId));
+                } else {
+                    seatCounter.release(lectureId);
+                }
+            }
+        }
+    }
+
+    /**
+     * 한 강의에 여러 회원 일괄 신청 (시퀀서 모드)
+     * 신청 가능 여부를 메모리에서 판정한 뒤, 신청자 수 갱신은 한 번의 조건부 UPDATE로,
+     * 신규 신청은 일괄 저장으로 처리합니다. 호출자의 트랜잭션 안에서 실행됩니다.
+     * 좌석 카운터와 DB 신청자 수가 어긋나 일괄 갱신이 거절되면 예외를 던지므로, 호출자는 신청별로 다시 처리해야 합니다.
+     *
+     * @param lectureId 강의 ID
+     * @param memberIds 신청 순서대로의 회원 ID 목록
+     * @return 요청 순서별 신청 결과
+     */
+    public LectureBatchAdmission enrollMembersInLecture(Long lectureId, List<Long> memberIds) {
+        LectureMetadata lecture = lectureMetadataCache.get(lectureId);
+        LectureBatchAdmission result = new LectureBatchAdmission(memberIds.size());
+
+        // 1. 좌석 카운터에서 좌석 선점 (같은 회원의 중복 요청은 한 번만)
+        Map<Long, Integer> reservedIndexes = new LinkedHashMap<>();
+        for (int i = 0; i < memberIds.size(); i++) {
+            Long memberId = memberIds.get(i);
+            if (reservedIndexes.containsKey(memberId)) {
+                result.reject(i, new AlreadyEnrolledException(lectureId));
+            } else if (!seatCounter.tryReserve(lectureId)) {
+                result.reject(i, new CourseFullException(lectureId, lecture.getMaxCapacity()));
+            } else {
+                reservedIndexes.put(memberId, i);
+            }
+        }
+        if (reservedIndexes.isEmpty()) {
+            return result;
+        }
+
+        // 2. 기존 신청 일괄 조회 후 활성 신청이 있는 회원 제외 (좌석 즉시 반환)
+        Map<Long, Enrollment> existingEnrollments = new HashMap<>();
+        for (Enrollment enrollment : enrollmentRepository.findByLectureIdAndMemberIdIn(lectureId,
+                reservedIndexes.keySet())) {
+            existingEnrollments.put(enrollment.getMemberId(), enrollment);
+        }
+        List<Long> admittedMemberIds = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : reservedIndexes.entrySet()) {
+            Enrollment existing = existingEnrollments.get(entry.getKey());
+            if (existing != null && existing.isActive()) {
+                seatCounter.release(lectureId);
+                result.reject(entry.getValue(), new AlreadyEnrolledException(lectureId));
+            } else {
+                admittedMemberIds.add(entry.getKey());
+            }
+        }
+        if (admittedMemberIds.isEmpty()) {
+            return result;
+        }
+
+        // 트랜잭션이 롤백되면 선점한 좌석을 반환
+        int admittedCount = admittedMemberIds.size();
+        TransactionCallbacks.afterRollback(() -> {
+            for (int i = 0; i < admittedCount; i++) {
+                seatCounter.release(lectureId);
+            }
+        });
+
+        // 3. 신청자 수 일괄 증가 (한 번의 조건부 UPDATE)
+        if (lectureRepository.increaseEnrolledCountBy(lectureId, admittedCount) == 0) {
+            throw new IllegalStateException(
+                    String.format("신청자 수 일괄 갱신 거절: lectureId=%d, count=%d", lectureId, admittedCount));
+        }
+
+        // 4. 취소/대기 신청은 재활성화, 나머지는 일괄 저장
+        List<Enrollment> admittedEnrollments = new ArrayList<>();
+        List<Enrollment> newEnrollments = new ArrayList<>();
+        for (Long memberId : admittedMemberIds) {
+            Enrollment enrollment = existingEnrollments.get(memberId);
+            if (enrollment != null) {
+                enrollment.reactivate();
+            } else {
+                enrollment = Enrollment.create(lectureId, memberId);
+                newEnrollments.add(enrollment);
+            }
+            admittedEnrollments.add(enrollment);
+        }
+        enrollmentRepository.persistAll(newEnrollments);
+
+        // 커밋 이후 인기순 랭킹, 목록 캐시 반영
+        TransactionCallbacks.afterCommit(() -> onEnrolledCountChanged(lectureId, admittedCount));
+
+        for (Enrollment enrollment : admittedEnrollments) {
+            result.admit(reservedIndexes.get(enrollment.getMemberId()), new EnrollmentResponseDto(enrollment.getId(),
+                    enrollment.getLectureId(), lecture.getTitle(), enrollment.getMemberId(),
+                    enrollment.getStatus().name(), enrollment.getCreatedAt()));
+        }
+        log.info("강의 일괄 신청 완료 (시퀀서): lectureId={}, requested={}, admitted={}", lectureId, memberIds.size(),
+                admittedCount);
+        return result;
+    }
+
+    /**
+     * 신청 실패 정보 생성
+     *
+     * @param lectureId 강의 ID
+     * @param e         실패 원인
+     * @return 실패 정보 (강의명 포함)
+     */
+    public EnrollmentResultDto.EnrollmentFailure toFailure(Long lectureId, BusinessException e) {
+        LectureMetadata lecture = lectureMetadataCache.get(lectureId);
+        return new EnrollmentResultDto.EnrollmentFailure(lectureId, lecture.getTitle(), e.errorCode(), e.getMessage());
+    }
+
     /**
      * 단일 강의 신청 처리
+     * 좌석 카운터에서 좌석을 먼저 선점하여, 정원이 가득 찬 강의는 DB 갱신 없이 거절합니다.
+     * 호출자의 트랜잭션 안에서 실행되며, 실패 시 비즈니스 예외를 던집니다.
+     * 버전 충돌 시에는 좌석을 반환하고 충돌 예외를 그대로 던지므로, 호출자가 트랜잭션 밖에서 다시 실행해야 합니다.
      *
      * @param memberId  회원 ID
      * @param lectureId 강의 ID
      * @return 신청 응답
      */
-    private EnrollmentResponseDto enrollInSingleLecture(Long memberId, Long lectureId) {
-        // 1. 강의 존재 확인 및 비관적 락 획득
-        Lecture lecture = lectureRepository.findByIdWithLock(lectureId)
-                .orElseThrow(() -> new LectureNotFoundException(lectureId));
+    public EnrollmentResponseDto enrollInSingleLecture(Long memberId, Long lectureId) {
+        if (!seatCounter.tryReserve(lectureId)) {
+            throw new CourseFullException(lectureId, seatCounter.capacityOf(lectureId));
+        }
+        try {
+            return admitReserved(memberId, lectureId);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            seatCounter.release(lectureId);
+            throw e;
+        }
+    }
+
+    /**
+     * 선점된 좌석을 수강 신청으로 확정
+     * 좌석 선점(hold) 시 이미 좌석 카운터에서 좌석을 차감했으므로 다시 선점하지 않고,
+     * DB 정원 검증만 거쳐 CONFIRMED 신청을 생성합니다. 실패하면 선점 좌석을 반환하되,
+     * 버전 충돌은 트랜잭션 밖에서 다시 실행하므로 선점 좌석을 유지합니다.
+     *
+     * @param memberId  회원 ID
+     * @param lectureId 강의 ID
+     * @return 신청 응답
+     */
+    @Transactional
+    public EnrollmentResponseDto confirmHeldSeat(Long memberId, Long lectureId) {
+        log.info("선점 좌석 확정 요청: memberId={}, lectureId={}", memberId, lectureId);
+        return admitReserved(memberId, lectureId);
+    }
+
+    /**
+     * 좌석 카운터에서 선점한 좌석으로 신청 처리
+     * 신청에 성공하면 트랜잭션 롤백 시에만 좌석을 반환하고, 실패하면 즉시 반환합니다.
+     * 버전 충돌은 재시도 대상이므로 좌석을 반환하지 않고 호출자에게 맡깁니다.
+     *
+     * @param memberId  회원 ID
+     * @param lectureId 강의 ID
+     * @return 신청 응답
+     */
+    private EnrollmentResponseDto admitReserved(Long memberId, Long lectureId) {
+        EnrollmentResponseDto response;
+        try {
+            response = admit(memberId, lectureId);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            seatCounter.release(lectureId);
+            throw e;
+        }
+        // 트랜잭션이 롤백되면 선점한 좌석을 반환, 커밋되면 인기순 랭킹과 목록 캐시 반영
+        TransactionCallbacks.afterRollback(() -> seatCounter.release(lectureId));
+        TransactionCallbacks.afterCommit(() -> onEnrolledCountChanged(lectureId, 1));
+        return response;
+    }
+
+    /**
+     * DB 기준 신청 처리 (좌석 확보 전략으로 정원 재검증)
+     *
+     * @param memberId  회원 ID
+     * @param lectureId 강의 ID
+     * @return 신청 응답
+     */
+    private EnrollmentResponseDto admit(Long memberId, Long lectureId) {
+        // 1. 강의 존재 확인 (제목과 정원은 바뀌지 않으므로 메타데이터 캐시 사용)
+        LectureMetadata lecture = lectureMetadataCache.get(lectureId);
 
         // 2. 활성 중복 신청 확인 (CONFIRMED 상태만)
         if (enrollmentRepository.existsActiveByLectureIdAndMemberId(lectureId, memberId)) {
             throw new AlreadyEnrolledException(lectureId);
         }
 
-        // 3. 현재 활성 신청자 수 확인 (CONFIRMED 상태만 계산)
-        long currentActiveCount = enrollmentRepository.countActiveByLectureId(lectureId);
-
-        if (currentActiveCount >= lecture.getMaxCapacity()) {
+        // 3. 정원 이내일 때만 신청자 수 증가 (설정된 동시성 모드로 처리)
+        if (!seatAdmission.tryAdmit(lectureId)) {
             throw new CourseFullException(lectureId, lecture.getMaxCapacity());
         }
 
@@ -112,12 +456,15 @@ public class EnrollmentService {
         if (existingEnrollment.isPresent()) {
             // 기존 신청이 있으면 재활성화 (UNIQUE 제약조건으로 인해 하나만 존재)
             enrollment = existingEnrollment.get();
-            if (enrollment.isCanceled()) {
-                enrollment.reactivate();
-                enrollment = enrollmentRepository.save(enrollment);
-                log.info("기존 취소 신청 재활성화: enrollmentId={}, memberId={}, lectureId={}", enrollment.getId(), memberId,
-                        lectureId);
+            if (enrollment.isActive()) {
+                // 동시 요청으로 이미 활성화된 경우 증가시킨 신청자 수를 되돌림
+                lectureRepository.decreaseEnrolledCount(lectureId);
+                throw new AlreadyEnrolledException(lectureId);
             }
+            enrollment.reactivate();
+            enrollment = enrollmentRepository.save(enrollment);
+            log.info("기존 취소 신청 재활성화: enrollmentId={}, memberId={}, lectureId={}", enrollment.getId(), memberId,
+                    lectureId);
             return new EnrollmentResponseDto(enrollment.getId(), enrollment.getLectureId(), lecture.getTitle(),
                     enrollment.getMemberId(), enrollment.getStatus().name(), enrollment.getCreatedAt());
         }
@@ -146,12 +493,20 @@ public class EnrollmentService {
             throw new MemberNotFoundException(memberId);
         }
 
-        List<Enrollment> enrollments = enrollmentRepository.findByMemberIdAndStatus(memberId,
-                EnrollmentStatus.CONFIRMED);
+        // 확정된 신청과 대기 중인 신청 (대기 신청은 WAITLISTED 상태로 구분)
+        List<Enrollment> enrollments = enrollmentRepository.findByMemberIdAndStatusIn(memberId,
+                List.of(EnrollmentStatus.CONFIRMED, EnrollmentStatus.WAITLISTED));
+
+        // 강의명은 메타데이터 캐시에서 일괄 조회 (캐시에 없는 강의만 한 번의 쿼리)
+        Set<Long> lectureIds = new LinkedHashSet<>();
+        for (Enrollment enrollment : enrollments) {
+            lectureIds.add(enrollment.getLectureId());
+        }
+        Map<Long, LectureMetadata> lectures = lectureMetadataCache.getAll(lectureIds);
 
         List<EnrollmentResponseDto> enrollmentResponseDtos = new ArrayList<>();
         for (Enrollment enrollment : enrollments) {
-            Lecture lecture = enrollment.getLecture();
+            LectureMetadata lecture = lectures.get(enrollment.getLectureId());
             if (lecture == null) {
                 throw new LectureNotFoundException(enrollment.getLectureId());
             }
@@ -166,6 +521,7 @@ public class EnrollmentService {
 
     /**
      * 수강 신청 취소
+     * 강의 행을 먼저 잠근 뒤 수강 신청을 읽고 검증하므로, 같은 강의의 승급·대기열 등록과 겹치지 않습니다.
      *
      * @param memberId     회원 ID
      * @param enrollmentId 수강 신청 ID
@@ -174,6 +530,14 @@ public class EnrollmentService {
     public void cancelEnrollment(Long memberId, Long enrollmentId) {
         log.info("수강 신청 취소 요청: memberId={}, enrollmentId={}", memberId, enrollmentId);
 
+        Long lectureId = enrollmentRepository.findLectureIdById(enrollmentId)
+                .orElseThrow(() -> new EnrollmentNotFoundException(enrollmentId));
+
+        // 강의 행 잠금 (대기열 등록·승급과 직렬화하여 승급 누락 방지)
+        lectureRepository.findByIdWithLock(lectureId)
+                .orElseThrow(() -> new LectureNotFoundException(lectureId));
+
+        // 잠금 이후 수강 신청을 읽어 최신 상태로 검증
         Enrollment enrollment = enrollmentRepository.findById(enrollmentId)
                 .orElseThrow(() -> new EnrollmentNotFoundException(enrollmentId));
 
@@ -187,15 +551,155 @@ public class EnrollmentService {
             throw new AlreadyCanceledException(enrollmentId);
         }
 
-        // 동시성 제어를 위해 강의에 락 획득
-        lectureRepository.findByIdWithLock(enrollment.getLectureId())
-                .orElseThrow(() -> new LectureNotFoundException(enrollment.getLectureId()));
+        // 대기 신청 취소는 좌석과 무관 (대기열에 남은 항목은 승급 시 건너뜀)
+        if (enrollment.isWaitlisted()) {
+            enrollment.cancel();
+            enrollmentRepository.save(enrollment);
+            log.info("대기 신청 취소 완료: enrollmentId={}, memberId={}, lectureId={}", enrollmentId, memberId, lectureId);
+            return;
+        }
 
         // 소프트 삭제 (상태 변경)
         enrollment.cancel();
         enrollmentRepository.save(enrollment);
 
+        // 대기자가 있으면 같은 잠금 구간에서 좌석 승계 (신청자 수와 좌석 카운터는 그대로 유지)
+        Optional<Enrollment> promoted = promoteWaitlistHead(lectureId);
+        if (promoted.isPresent()) {
+            log.info("수강 신청 취소 및 대기자 승급 완료: enrollmentId={}, promotedEnrollmentId={}, lectureId={}",
+                    enrollmentId, promoted.get().getId(), lectureId);
+            return;
+        }
+
+        // 강의 신청자 수 감소
+        if (lectureRepository.decreaseEnrolledCount(lectureId) == 0) {
+            log.warn("강의 신청자 수 감소 실패: lectureId={}", lectureId);
+        }
+
+        // 커밋 이후 좌석 카운터에 좌석 반환, 인기순 랭킹과 목록 캐시 반영
+        TransactionCallbacks.afterCommit(() -> {
+            seatCounter.release(lectureId);
+            onEnrolledCountChanged(lectureId, -1);
+        });
+
         log.info("수강 신청 취소 완료: enrollmentId={}, memberId={}, lectureId={}", enrollmentId, memberId,
                 enrollment.getLectureId());
     }
+
+    /**
+     * 대기열 등록
+     * 정원이 가득 찬 강의에 대기 신청을 생성합니다. 강의 행을 잠근 상태에서 처리하므로
+     * 취소 시 승급과 겹치지 않으며, 그 사이 좌석이 생겼으면 바로 신청합니다.
+     *
+     * @param memberId  회원 ID
+     * @param lectureId 강의 ID
+     * @return 신청 응답 (대기 등록 시 WAITLISTED 상태)
+     */
+    @Transactional
+    public EnrollmentResponseDto joinWaitlist(Long memberId, Long lectureId) {
+        log.info("대기열 등록 요청: memberId={}, lectureId={}", memberId, lectureId);
+
+        // 1. 강의 행 잠금
+        Lecture lecture = lectureRepository.findByIdWithLock(lectureId)
+                .orElseThrow(() -> new LectureNotFoundException(lectureId));
+
+        // 2. 그 사이 좌석이 생겼으면 바로 신청 (잠금 조회로 읽은 최신 신청자 수 사용)
+        if (!lecture.isFull()) {
+            try {
+                return enrollInSingleLecture(memberId, lectureId);
+            } catch (CourseFullException e) {
+                // 선점 좌석 등으로 남은 좌석이 없으면 대기열에 등록
+                log.debug("대기열 등록 전 신청 실패: memberId={}, lectureId={}", memberId, lectureId);
+            }
+        }
+
+        // 3. 중복 확인 (활성 신청 또는 대기 중인 신청)
+        Optional<Enrollment> existingEnrollment = enrollmentRepository.findByLectureIdAndMemberId(lectureId, memberId);
+        if (existingEnrollment.isPresent() && existingEnrollment.get().isActive()) {
+            throw new AlreadyEnrolledException(lectureId);
+        }
+        if (existingEnrollment.isPresent() && existingEnrollment.get().isWaitlisted()) {
+            throw new AlreadyEnrolledException(String.format("이미 대기 중인 강의입니다. (강의 ID: %d)", lectureId));
+        }
+
+        // 4. 대기 순서 부여 후 저장 (취소된 신청은 재사용)
+        long position = waitlistRegistry.nextPosition(lectureId);
+        Enrollment enrollment;
+        if (existingEnrollment.isPresent()) {
+            enrollment = existingEnrollment.get();
+            enrollment.waitlist(position);
+        } else {
+            enrollment = Enrollment.createWaitlisted(lectureId, memberId, position);
+        }
+        enrollment = enrollmentRepository.save(enrollment);
+        waitlistRegistry.append(lectureId, enrollment.getId(), position);
+        TransactionCallbacks.afterRollback(() -> waitlistRegistry.evict(lectureId));
+
+        log.info("대기열 등록 완료: enrollmentId={}, memberId={}, lectureId={}, position={}", enrollment.getId(),
+                memberId, lectureId, position);
+        return new EnrollmentResponseDto(enrollment.getId(), enrollment.getLectureId(), lecture.getTitle(),
+                enrollment.getMemberId(), enrollment.getStatus().name(), enrollment.getCreatedAt());
+    }
+
+    /**
+     * 커밋된 신청자 수 변경을 인기순 랭킹, 데이터 버전, 강의 목록 캐시에 반영
+     *
+     * @param lectureId 강의 ID
+     * @param delta     증감량
+     */
+    private void onEnrolledCountChanged(Long lectureId, int delta) {
+        lectureRanking.adjust(lectureId, delta);
+        lectureVersions.lectureChanged(lectureId);
+        lectureListCache.evictLecture(lectureId);
+    }
+
+    /**
+     * 만료된 선점 좌석을 대기열 맨 앞의 대기자에게 배정
+     * 선점 좌석은 DB 신청자 수에 포함되지 않으므로 승급 시 신청자 수를 1 늘리고, 좌석 카운터의 좌석은 승급자에게 넘깁니다.
+     * 승급할 대기자가 없어 false를 반환하거나 예외가 발생하면 호출자가 좌석 카운터에 좌석을 반환해야 합니다.
+     *
+     * @param lectureId 강의 ID
+     * @return 대기자를 승급했으면 true
+     */
+    @Transactional
+    public boolean promoteIntoHeldSeat(Long lectureId) {
+        lectureRepository.findByIdWithLock(lectureId).orElseThrow(() -> new LectureNotFoundException(lectureId));
+
+        Optional<Enrollment> promoted = promoteWaitlistHead(lectureId);
+        if (promoted.isEmpty()) {
+            return false;
+        }
+        if (lectureRepository.increaseEnrolledCount(lectureId) == 0) {
+            throw new IllegalStateException(String.format("선점 좌석 승급 시 정원 초과: lectureId=%d", lectureId));
+        }
+        TransactionCallbacks.afterCommit(() -> onEnrolledCountChanged(lectureId, 1));
+        log.info("만료된 선점 좌석으로 대기자 승급: enrollmentId={}, memberId={}, lectureId={}", promoted.get().getId(),
+                promoted.get().getMemberId(), lectureId);
+        return true;
+    }
+
+    /**
+     * 대기열 맨 앞의 대기 신청 승급
+     * 강의 행 잠금을 잡은 상태에서 호출해야 합니다.
+     *
+     * @param lectureId 강의 ID
+     * @return 승급된 신청 (대기자가 없으면 빈 값)
+     */
+    private Optional<Enrollment> promoteWaitlistHead(Long lectureId) {
+        // 롤백되면 메모리 대기열을 버리고 DB 기준으로 다시 적재
+        TransactionCallbacks.afterRollback(() -> waitlistRegistry.evict(lectureId));
+
+        Long enrollmentId;
+        while ((enrollmentId = waitlistRegistry.pollHead(lectureId)) != null) {
+            Optional<Enrollment> candidate = enrollmentRepository.findById(enrollmentId);
+            // 이미 취소되었거나 직접 신청된 항목은 건너뜀
+            if (candidate.isPresent() && candidate.get().isWaitlisted()) {
+                Enrollment enrollment = candidate.get();
+                enrollment.promote();
+                enrollmentRepository.save(enrollment);
+                return Optional.of(enrollment);
+            }
+        }
+        return Optional.empty();
+    }
 }
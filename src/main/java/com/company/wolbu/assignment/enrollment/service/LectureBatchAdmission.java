@@ -0,0 +1,35 @@
+package com.company.wolbu.assignment.enrollment.service;
+
+import com.company.wolbu.assignment.common.exception.BusinessException;
+import com.company.wolbu.assignment.enrollment.dto.EnrollmentResponseDto;
+
+/**
+ * 한 강의에 대한 여러 회원의 일괄 신청 결과
+ * 요청 순서(인덱스)별로 신청 응답 또는 실패 원인 중 하나를 담습니다.
+ */
+public class LectureBatchAdmission {
+
+    private final EnrollmentResponseDto[] responses;
+    private final BusinessException[] failures;
+
+    public LectureBatchAdmission(int size) {
+        this.responses = new EnrollmentResponseDto[size];
+        this.failures = new BusinessException[size];
+    }
+
+    public void admit(int index, EnrollmentResponseDto response) {
+        responses[index] = response;
+    }
+
+    public void reject(int index, BusinessException failure) {
+        failures[index] = failure;
+    }
+
+    public EnrollmentResponseDto responseAt(int index) {
+        return responses[index];
+    }
+
+    public BusinessException failureAt(int index) {
+        return failures[index];
+    }
+}
@@ -0,0 +1,85 @@
+package com.company.wolbu.assignment.enrollment.service;
+
+import com.company.wolbu.assignment.enrollment.config.EnrollmentProperties;
+import com.company.wolbu.assignment.enrollment.exception.EnrollmentContentionException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 버전 충돌 재시도 실행기
+ * 버전 충돌({@link ObjectOptimisticLockingFailureException})로 트랜잭션이 롤백되면
+ * 지터가 적용된 지수 백오프 후 트랜잭션 전체를 다시 실행합니다.
+ * 대기는 트랜잭션 밖에서만 하며, 다음 시도는 새 트랜잭션에서 최신 값을 읽습니다.
+ * 이미 열린 트랜잭션 안에서 호출되면 재시도하지 않고 충돌을 그대로 던져 바깥 호출자가 처리하게 합니다.
+ */
+@Slf4j
+@Component
+public class OptimisticRetry {
+
+    private final EnrollmentProperties properties;
+    private final Counter retryCounter;
+    private final Counter exhaustedCounter;
+
+    public OptimisticRetry(EnrollmentProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.retryCounter = Counter.builder("enrollment.optimistic.retries")
+                .description("버전 충돌로 인한 좌석 확보 재시도 횟수")
+                .register(meterRegistry);
+        this.exhaustedCounter = Counter.builder("enrollment.optimistic.exhausted")
+                .description("재시도 횟수를 모두 소진한 좌석 확보 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 버전 충돌 시 재시도하며 실행
+     *
+     * @param action 트랜잭션 하나로 실행되는 작업
+     * @return 작업 결과
+     * @throws EnrollmentContentionException 재시도 횟수를 모두 소진한 경우
+     */
+    public <T> T execute(Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+
+        int maxAttempts = Math.max(1, properties.getMaxAttempts());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (ObjectOptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    exhaustedCounter.increment();
+                    throw e.getIdentifier() instanceof Long lectureId
+                            ? new EnrollmentContentionException(lectureId, maxAttempts)
+                            : new EnrollmentContentionException(e);
+                }
+                retryCounter.increment();
+                log.debug("좌석 확보 버전 충돌, 재시도: identifier={}, attempt={}", e.getIdentifier(), attempt);
+                backoff(attempt);
+            }
+        }
+    }
+
+    /**
+     * 지수 백오프 상한 내에서 무작위로 대기 (Full Jitter)
+     */
+    private void backoff(int attempt) {
+        long ceiling = Math.min(properties.getBackoffMaxMillis(),
+                properties.getBackoffInitialMillis() << Math.min(attempt - 1, 20));
+        if (ceiling <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EnrollmentContentionException(e);
+        }
+    }
+}
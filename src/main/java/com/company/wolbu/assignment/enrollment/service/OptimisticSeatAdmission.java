@@ -0,0 +1,37 @@
+package com.company.wolbu.assignment.enrollment.service;
+
+import com.company.wolbu.assignment.lecture.domain.Lecture;
+import com.company.wolbu.assignment.lecture.dto.LectureSeatSnapshot;
+import com.company.wolbu.assignment.lecture.exception.LectureNotFoundException;
+import com.company.wolbu.assignment.lecture.repository.LectureRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 버전 비교 UPDATE 기반 좌석 확보 (낙관적 모드)
+ * 스냅샷의 버전이 그대로일 때만 갱신하고, 경합 시 버전 충돌 예외로 트랜잭션을 롤백합니다.
+ * 같은 트랜잭션 안에서 다시 읽으면 이전 스냅샷이 보일 수 있으므로 재시도는 트랜잭션 밖의
+ * {@link OptimisticRetry}가 트랜잭션 전체를 다시 실행하여 처리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.enrollment", name = "concurrency-mode", havingValue = "OPTIMISTIC")
+public class OptimisticSeatAdmission implements SeatAdmission {
+
+    private final LectureRepository lectureRepository;
+
+    @Override
+    public boolean tryAdmit(Long lectureId) {
+        LectureSeatSnapshot snapshot = lectureRepository.findSeatSnapshot(lectureId)
+                .orElseThrow(() -> new LectureNotFoundException(lectureId));
+        if (snapshot.isFull()) {
+            return false;
+        }
+        if (lectureRepository.increaseEnrolledCountIfVersion(lectureId, snapshot.getVersion()) == 0) {
+            throw new ObjectOptimisticLockingFailureException(Lecture.class, lectureId);
+        }
+        return true;
+    }
+}
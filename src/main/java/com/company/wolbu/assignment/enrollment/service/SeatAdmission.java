@@ -0,0 +1,25 @@
+package com.company.wolbu.assignment.enrollment.service;
+
+/**
+ * DB 기준 좌석 확보 전략
+ * {@code app.enrollment.concurrency-mode} 설정에 따라 구현체가 선택됩니다.
+ */
+public interface SeatAdmission {
+
+    /**
+     * 강의의 신청자 수를 정원 이내에서 1 증가시킵니다.
+     *
+     * @param lectureId 강의 ID
+     * @return 좌석을 확보했으면 true, 정원이 가득 찼으면 false
+     */
+    boolean tryAdmit(Long lectureId);
+
+    /**
+     * 여러 강의를 한 번에 잠그고 일괄 갱신하는 신청 경로와 함께 사용할 수 있는지 여부
+     *
+     * @return 일괄 신청 경로 사용 가능 여부
+     */
+    default boolean supportsBatch() {
+        return false;
+    }
+}
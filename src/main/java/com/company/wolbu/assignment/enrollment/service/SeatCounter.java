@@ -0,0 +1,41 @@
+package com.company.wolbu.assignment.enrollment.service;
+
+/**
+ * 강의별 잔여 좌석을 관리하는 좌석 카운터
+ * 정원이 가득 찬 강의에 대한 신청을 DB 접근 없이 거절하기 위한 1차 관문입니다.
+ * 좌석 선점(hold)도 이 카운터에서 차감되므로, 모든 신청 경로의 정원 검증에 선점 좌석이 반영됩니다.
+ * 최종 정합성은 DB 정원 검증이 보장합니다.
+ */
+public interface SeatCounter {
+
+    /**
+     * 좌석 1개 선점을 시도합니다.
+     *
+     * @param lectureId 강의 ID
+     * @return 선점에 성공하면 true, 잔여 좌석이 없으면 false
+     */
+    boolean tryReserve(Long lectureId);
+
+    /**
+     * 선점했거나 사용 중이던 좌석 1개를 반환합니다.
+     *
+     * @param lectureId 강의 ID
+     */
+    void release(Long lectureId);
+
+    /**
+     * 강의 정원을 조회합니다.
+     *
+     * @param lectureId 강의 ID
+     * @return 최대 수강 인원
+     */
+    int capacityOf(Long lectureId);
+
+    /**
+     * 강의 잔여 좌석 수를 조회합니다.
+     *
+     * @param lectureId 강의 ID
+     * @return 잔여 좌석 수
+     */
+    int remainingOf(Long lectureId);
+}
@@ -0,0 +1,266 @@
+package com.company.wolbu.assignment.enrollment.service;
+
+import com.company.wolbu.assignment.auth.repository.MemberRepository;
+import com.company.wolbu.assignment.common.exception.BusinessException;
+import com.company.wolbu.assignment.common.util.HashedTimingWheel;
+import com.company.wolbu.assignment.enrollment.config.EnrollmentProperties;
+import com.company.wolbu.assignment.enrollment.dto.EnrollmentResponseDto;
+import com.company.wolbu.assignment.enrollment.dto.EnrollmentResultDto;
+import com.company.wolbu.assignment.enrollment.dto.SeatHoldRequestDto;
+import com.company.wolbu.assignment.enrollment.dto.SeatHoldResponseDto;
+import com.company.wolbu.assignment.enrollment.dto.SeatHoldResultDto;
+import com.company.wolbu.assignment.enrollment.exception.AlreadyEnrolledException;
+import com.company.wolbu.assignment.enrollment.exception.CourseFullException;
+import com.company.wolbu.assignment.enrollment.exception.EnrollmentContentionException;
+import com.company.wolbu.assignment.enrollment.exception.HoldNotFoundException;
+import com.company.wolbu.assignment.enrollment.exception.MemberNotFoundException;
+import com.company.wolbu.assignment.enrollment.exception.UnauthorizedEnrollmentException;
+import com.company.wolbu.assignment.enrollment.repository.EnrollmentRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 좌석 선점(hold) 서비스
+ * 결제 등 확정 전 단계 동안 DB 트랜잭션이나 행 잠금 없이 좌석을 붙잡아 둡니다.
+ * 선점 좌석은 좌석 카운터에서 차감되므로 다른 신청의 정원 검증에 함께 반영되며,
+ * 만료는 타이밍 휠이 처리하여 DB 정리 작업이 필요 없으며, 대기자가 있는 강의는 만료된 좌석을 대기열 맨 앞 대기자에게 배정합니다.
+ * 대기자 배정은 강의 행 잠금을 기다릴 수 있으므로 휠 스레드가 아닌 별도의 반환 스레드에서 처리하여,
+ * 잠금 대기가 길어져도 다른 선점의 만료가 늦어지지 않게 합니다.
+ * 선점은 이 인스턴스의 메모리에만 있으므로 단일 인스턴스 배포를 전제로 하며, 재시작하면 선점은 사라지고
+ * 좌석 카운터가 DB 기준으로 다시 적재되어 선점 좌석은 자동으로 반환됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatHoldService {
+
+    private static final int WHEEL_SIZE = 512;
+
+    private final EnrollmentService enrollmentService;
+    private final EnrollmentRepository enrollmentRepository;
+    private final MemberRepository memberRepository;
+    private final SeatCounter seatCounter;
+    private final WaitlistRegistry waitlistRegistry;
+    private final OptimisticRetry optimisticRetry;
+    private final EnrollmentProperties properties;
+
+    private final Map<String, SeatHold> holds = new ConcurrentHashMap<>();
+    private final Set<String> heldSeats = ConcurrentHashMap.newKeySet();
+
+    private HashedTimingWheel wheel;
+    private ThreadPoolExecutor returnExecutor;
+
+    @PostConstruct
+    public void start() {
+        int threads = Math.max(1, properties.getHoldReturnThreads());
+        AtomicInteger sequence = new AtomicInteger();
+        returnExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getHoldReturnQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "seat-hold-return-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        wheel = new HashedTimingWheel("seat-hold-wheel", properties.getHoldTickMillis(), WHEEL_SIZE);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (wheel != null) {
+            wheel.stop();
+        }
+        if (returnExecutor != null) {
+            returnExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 여러 강의 좌석 선점
+     *
+     * @param memberId 회원 ID
+     * @param request  좌석 선점 요청
+     * @return 선점 결과
+     */
+    public SeatHoldResultDto createHolds(Long memberId, SeatHoldRequestDto request) {
+        log.info("좌석 선점 요청: memberId={}, lectureIds={}", memberId, request.getLectureIds());
+
+        // 1. 회원 존재 확인
+        if (!memberRepository.existsById(memberId)) {
+            throw new MemberNotFoundException(memberId);
+        }
+
+        long holdSeconds = resolveHoldSeconds(request.getHoldSeconds());
+        List<SeatHoldResponseDto> createdHolds = new ArrayList<>();
+        List<EnrollmentResultDto.EnrollmentFailure> failedHolds = new ArrayList<>();
+
+        // 2. 강의별 좌석 선점 (중복 ID는 한 번만 처리)
+        for (Long lectureId : new LinkedHashSet<>(request.getLectureIds())) {
+            try {
+                createdHolds.add(createHold(memberId, lectureId, holdSeconds));
+            } catch (BusinessException e) {
+                failedHolds.add(enrollmentService.toFailure(lectureId, e));
+                log.warn("좌석 선점 실패: memberId={}, lectureId={}, error={}", memberId, lectureId, e.getMessage());
+            }
+        }
+
+        return new SeatHoldResultDto(createdHolds, failedHolds);
+    }
+
+    /**
+     * 선점 좌석을 수강 신청으로 확정
+     *
+     * @param memberId 회원 ID
+     * @param holdId   선점 ID
+     * @return 신청 응답
+     */
+    public EnrollmentResponseDto confirm(Long memberId, String holdId) {
+        log.info("좌석 선점 확정 요청: memberId={}, holdId={}", memberId, holdId);
+
+        SeatHold hold = holds.get(holdId);
+        if (hold == null) {
+            throw new HoldNotFoundException(holdId);
+        }
+
+        // 본인의 선점인지 확인
+        if (!hold.memberId.equals(memberId)) {
+            throw new UnauthorizedEnrollmentException();
+        }
+
+        // 만료 처리와 경합하면 먼저 제거한 쪽만 좌석을 처리
+        if (!holds.remove(holdId, hold)) {
+            throw new HoldNotFoundException(holdId);
+        }
+        hold.timeout.cancel();
+        heldSeats.remove(hold.seatKey());
+
+        // 좌석은 이미 선점되어 있으므로 DB 정원 검증 후 확정 (실패 시 좌석 반환)
+        // 버전 충돌 재시도 중에는 선점 좌석을 유지하고, 재시도를 모두 소진하면 반환
+        try {
+            return optimisticRetry.execute(() -> enrollmentService.confirmHeldSeat(memberId, hold.lectureId));
+        } catch (EnrollmentContentionException e) {
+            seatCounter.release(hold.lectureId);
+            throw e;
+        }
+    }
+
+    private SeatHoldResponseDto createHold(Long memberId, Long lectureId, long holdSeconds) {
+        String seatKey = seatKey(memberId, lectureId);
+        if (!heldSeats.add(seatKey)) {
+            throw new AlreadyEnrolledException(String.format("이미 좌석을 선점한 강의입니다. (강의 ID: %d)", lectureId));
+        }
+
+        boolean reserved = false;
+        try {
+            // 이미 신청한 강의는 선점 불가
+            if (enrollmentRepository.existsActiveByLectureIdAndMemberId(lectureId, memberId)) {
+                throw new AlreadyEnrolledException(lectureId);
+            }
+
+            // 좌석 카운터에서 좌석 차감 (정원 검증에 선점 좌석이 반영됨)
+            if (!seatCounter.tryReserve(lectureId)) {
+                throw new CourseFullException(lectureId, seatCounter.capacityOf(lectureId));
+            }
+            reserved = true;
+
+            String holdId = UUID.randomUUID().toString();
+            LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(holdSeconds);
+            SeatHold hold = new SeatHold(holdId, memberId, lectureId);
+            // 만료는 다음 틱 이후에 처리되므로 등록 후 저장해도 만료를 놓치지 않음
+            hold.timeout = wheel.schedule(() -> expire(hold), holdSeconds * 1000);
+            holds.put(holdId, hold);
+
+            log.info("좌석 선점 완료: holdId={}, memberId={}, lectureId={}, expiresAt={}", holdId, memberId, lectureId,
+                    expiresAt);
+            return new SeatHoldResponseDto(holdId, lectureId, memberId, expiresAt);
+        } catch (RuntimeException e) {
+            heldSeats.remove(seatKey);
+            if (reserved) {
+                seatCounter.release(lectureId);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 선점 만료 (타이밍 휠 스레드에서 실행)
+     * 휠 스레드에서는 선점 정보만 제거하고, 좌석 반환은 반환 스레드에 넘깁니다.
+     * 반환 대기열이 가득 차면 대기자 배정 없이 좌석 카운터에 바로 반환합니다.
+     */
+    private void expire(SeatHold hold) {
+        if (holds.remove(hold.holdId, hold)) {
+            heldSeats.remove(hold.seatKey());
+            log.info("좌석 선점 만료: holdId={}, memberId={}, lectureId={}", hold.holdId, hold.memberId, hold.lectureId);
+            try {
+                returnExecutor.execute(() -> returnSeat(hold.lectureId));
+            } catch (RejectedExecutionException e) {
+                log.warn("만료된 선점 좌석 반환 대기열 포화, 좌석 카운터에 바로 반환: lectureId={}", hold.lectureId);
+                seatCounter.release(hold.lectureId);
+            }
+        }
+    }
+
+    /**
+     * 만료된 선점 좌석 반환
+     * 대기자가 있을 수 있으면 좌석 카운터에 돌려놓기 전에 대기자에게 먼저 배정하여, 새 신청이 대기자를 앞지르지 않게 합니다.
+     */
+    private void returnSeat(Long lectureId) {
+        if (waitlistRegistry.mayHaveWaiting(lectureId)) {
+            try {
+                if (enrollmentService.promoteIntoHeldSeat(lectureId)) {
+                    return;
+                }
+            } catch (RuntimeException e) {
+                log.warn("만료된 선점 좌석 대기자 배정 실패, 좌석 반환: lectureId={}, error={}", lectureId, e.getMessage());
+            }
+        }
+        seatCounter.release(lectureId);
+    }
+
+    private long resolveHoldSeconds(Long requested) {
+        if (requested == null) {
+            return properties.getHoldDefaultSeconds();
+        }
+        return Math.min(requested, properties.getHoldMaxSeconds());
+    }
+
+    private static String seatKey(Long memberId, Long lectureId) {
+        return memberId + ":" + lectureId;
+    }
+
+    /**
+     * 메모리에만 유지되는 좌석 선점 정보
+     */
+    private static final class SeatHold {
+        private final String holdId;
+        private final Long memberId;
+        private final Long lectureId;
+        private volatile HashedTimingWheel.Timeout timeout;
+
+        private SeatHold(String holdId, Long memberId, Long lectureId) {
+            this.holdId = holdId;
+            this.memberId = memberId;
+            this.lectureId = lectureId;
+        }
+
+        private String seatKey() {
+            return SeatHoldService.seatKey(memberId, lectureId);
+        }
+    }
+}
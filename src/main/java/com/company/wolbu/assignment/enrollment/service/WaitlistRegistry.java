@@ -0,0 +1,116 @@
+package com.company.wolbu.assignment.enrollment.service;
+
+import com.company.wolbu.assignment.enrollment.repository.EnrollmentRepository;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 강의별 대기열 (메모리)
+ * 대기 신청 ID를 대기 순서대로 보관하여 취소 시 다음 대기자를 O(1)로 찾습니다.
+ * 최초 접근 시 DB의 대기 순서 컬럼 기준으로 적재하며, 호출자는 해당 강의 행 잠금을 잡은 상태에서 호출해야 합니다.
+ * 트랜잭션이 롤백되면 호출자가 {@link #evict(Long)}로 적재 상태를 버려 다음 접근 시 DB에서 다시 적재합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WaitlistRegistry {
+
+    private final EnrollmentRepository enrollmentRepository;
+
+    private final Map<Long, LectureWaitlist> waitlists = new ConcurrentHashMap<>();
+
+    /**
+     * 다음 대기 순서 조회
+     *
+     * @param lectureId 강의 ID
+     * @return 새 대기 신청에 부여할 대기 순서
+     */
+    public long nextPosition(Long lectureId) {
+        LectureWaitlist waitlist = waitlistOf(lectureId);
+        synchronized (waitlist) {
+            return waitlist.lastPosition + 1;
+        }
+    }
+
+    /**
+     * 대기열 끝에 대기 신청 추가
+     *
+     * @param lectureId    강의 ID
+     * @param enrollmentId 대기 신청 ID
+     * @param position     부여한 대기 순서
+     */
+    public void append(Long lectureId, Long enrollmentId, long position) {
+        LectureWaitlist waitlist = waitlistOf(lectureId);
+        synchronized (waitlist) {
+            waitlist.enrollmentIds.addLast(enrollmentId);
+            waitlist.lastPosition = Math.max(waitlist.lastPosition, position);
+        }
+    }
+
+    /**
+     * 대기열 맨 앞의 대기 신청 꺼내기
+     * 이미 취소되었거나 직접 신청된 항목이 남아 있을 수 있으므로 호출자가 상태를 확인해야 합니다.
+     *
+     * @param lectureId 강의 ID
+     * @return 대기 신청 ID (대기열이 비어 있으면 null)
+     */
+    public Long pollHead(Long lectureId) {
+        LectureWaitlist waitlist = waitlistOf(lectureId);
+        synchronized (waitlist) {
+            return waitlist.enrollmentIds.pollFirst();
+        }
+    }
+
+    /**
+     * 대기자가 있을 수 있는지 확인 (강의 행 잠금 없이 호출 가능)
+     * 아직 적재하지 않은 강의는 DB를 확인해야 하므로 true를 반환하고,
+     * 적재된 대기열은 이미 취소된 항목이 남아 있을 수 있으므로 비어 있지 않으면 true를 반환합니다.
+     *
+     * @param lectureId 강의 ID
+     * @return 대기자가 없다고 확실하면 false
+     */
+    public boolean mayHaveWaiting(Long lectureId) {
+        LectureWaitlist waitlist = waitlists.get(lectureId);
+        if (waitlist == null) {
+            return true;
+        }
+        synchronized (waitlist) {
+            return !waitlist.enrollmentIds.isEmpty();
+        }
+    }
+
+    /**
+     * 강의 대기열 적재 상태 제거 (다음 접근 시 DB에서 다시 적재)
+     *
+     * @param lectureId 강의 ID
+     */
+    public void evict(Long lectureId) {
+        waitlists.remove(lectureId);
+    }
+
+    private LectureWaitlist waitlistOf(Long lectureId) {
+        return waitlists.computeIfAbsent(lectureId, this::load);
+    }
+
+    private LectureWaitlist load(Long lectureId) {
+        LectureWaitlist waitlist = new LectureWaitlist();
+        waitlist.enrollmentIds.addAll(enrollmentRepository.findWaitlistedIdsByLectureId(lectureId));
+        Long lastPosition = enrollmentRepository.findMaxWaitlistPosition(lectureId);
+        waitlist.lastPosition = lastPosition != null ? lastPosition : 0L;
+        log.debug("대기열 적재: lectureId={}, size={}", lectureId, waitlist.enrollmentIds.size());
+        return waitlist;
+    }
+
+    /**
+     * 강의 하나의 대기열
+     */
+    private static final class LectureWaitlist {
+        private final Deque<Long> enrollmentIds = new ArrayDeque<>();
+        private long lastPosition;
+    }
+}
@@ -0,0 +1,33 @@
+package com.company.wolbu.assignment.lecture.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.lecture")
+public class LectureProperties {
+
+    /**
+     * 강의 목록 응답 캐시 사용 여부
+     */
+    private boolean listCacheEnabled = true;
+
+    /**
+     * 강의 목록 응답 캐시의 최대 항목 수 (page, size, sort 조합 단위)
+     */
+    private long listCacheMaximumSize = 1000;
+
+    /**
+     * 강의 목록 응답 캐시의 최대 허용 지연 시간 (밀리초)
+     * 무효화로 잡히지 않는 순위 변동도 이 시간이 지나면 반영됩니다.
+     */
+    private long listCacheMaxStalenessMillis = 5000;
+
+    /**
+     * 강의 메타데이터 캐시의 최대 항목 수 (강의 단위)
+     */
+    private long metadataCacheMaximumSize = 10000;
+}
@@ -1,12 +1,17 @@
 package com.company.wolbu.assignment.lecture.controller;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -15,6 +20,7 @@ import com.company.wolbu.assignment.auth.domain.MemberRole;
 import com.company.wolbu.assignment.auth.security.AuthenticatedUser;
 import com.company.wolbu.assignment.auth.security.RequireRole;
 import com.company.wolbu.assignment.common.dto.ApiResponseDto;
+import com.company.wolbu.assignment.common.util.ETags;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -27,8 +33,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import com.company.wolbu.assignment.lecture.dto.CreateLectureRequestDto;
 import com.company.wolbu.assignment.lecture.dto.CreateLectureResponseDto;
 import com.company.wolbu.assignment.lecture.dto.LectureListResponseDto;
+import com.company.wolbu.assignment.lecture.dto.LectureMetadata;
+import com.company.wolbu.assignment.lecture.dto.LecturePageResponseDto;
+import com.company.wolbu.assignment.lecture.dto.LectureSliceResponseDto;
 import com.company.wolbu.assignment.lecture.dto.LectureSortTypeDto;
+import com.company.wolbu.assignment.lecture.dto.LectureSuggestionDto;
+import com.company.wolbu.assignment.lecture.service.LectureListCache;
+import com.company.wolbu.assignment.lecture.service.LectureMetadataCache;
 import com.company.wolbu.assignment.lecture.service.LectureService;
+import com.company.wolbu.assignment.lecture.service.LectureVersions;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -46,6 +59,9 @@ import lombok.extern.slf4j.Slf4j;
 public class LectureController {
 
     private final LectureService lectureService;
+    private final LectureListCache lectureListCache;
+    private final LectureMetadataCache lectureMetadataCache;
+    private final LectureVersions lectureVersions;
 
     @Operation(
         summary = "강의 개설",
@@ -92,28 +108,125 @@ public class LectureController {
 
     @Operation(
         summary = "강의 목록 조회",
-        description = "페이징과 정렬 옵션을 지원하는 강의 목록을 조회합니다. 인증 없이 접근 가능합니다.",
+        description = "페이징과 정렬 옵션을 지원하는 강의 목록을 조회합니다. 신청자 수는 최대 수 초 늦게 반영될 수 있습니다. "
+            + "응답의 ETag를 If-None-Match로 보내면 변경이 없을 때 304를 반환합니다. "
+            + "전체 개수가 필요 없으면 withTotal=false로 다음 페이지 여부(hasNext)만 받을 수 있습니다. 인증 없이 접근 가능합니다.",
         parameters = {
             @Parameter(name = "page", description = "페이지 번호 (1부터 시작)", example = "1"),
             @Parameter(name = "size", description = "페이지 크기 (최대 100)", example = "20"),
             @Parameter(name = "sort", description = "정렬 방식", example = "RECENT",
-                schema = @Schema(implementation = LectureSortTypeDto.class))
+                schema = @Schema(implementation = LectureSortTypeDto.class)),
+            @Parameter(name = "withTotal", description = "전체 개수 포함 여부", example = "true")
         }
     )
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "강의 목록 조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 파라미터")
     })
     @GetMapping
-    public ResponseEntity<ApiResponseDto<Page<LectureListResponseDto>>> getLectureList(
+    public ResponseEntity<ApiResponseDto<LecturePageResponseDto>> getLectureList(
             @RequestParam(value = "page", defaultValue = "1") Integer page,
             @RequestParam(value = "size", defaultValue = "20") Integer size,
-            @RequestParam(value = "sort", defaultValue = "RECENT") LectureSortTypeDto sort) {
+            @RequestParam(value = "sort", defaultValue = "RECENT") LectureSortTypeDto sort,
+            @RequestParam(value = "withTotal", defaultValue = "true") boolean withTotal,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         
-        log.info("강의 목록 조회 API 호출: page={}, size={}, sort={}", page, size, sort);
+        log.info("강의 목록 조회 API 호출: page={}, size={}, sort={}, withTotal={}", page, size, sort, withTotal);
+
+        // 데이터 버전이 그대로면 조회 없이 304
+        String currentTag = lectureVersions.listTag(lectureVersions.currentVersion());
+        if (ETags.matches(ifNoneMatch, currentTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentTag).build();
+        }
         
-        Page<LectureListResponseDto> lectureList = lectureService.getLectureList(page, size, sort);
-        return ResponseEntity.ok(ApiResponseDto.success(lectureList));
+        LectureListCache.CachedPage lectureList = lectureListCache.get(page, size, sort, withTotal,
+                () -> withTotal
+                        ? lectureService.getLectureList(page, size, sort)
+                        : lectureService.getLectureSlice(page, size, sort));
+        return ResponseEntity.ok()
+                .eTag(lectureVersions.listTag(lectureList.getVersion()))
+                .body(ApiResponseDto.success(LecturePageResponseDto.from(lectureList.getPage())));
+    }
+
+    @Operation(
+        summary = "강의 목록 커서 조회",
+        description = "커서 기반으로 강의 목록을 이어서 조회합니다. 깊은 페이지도 조회 비용이 일정하며, "
+            + "응답의 nextCursor를 다음 요청의 cursor로 전달합니다. 전체 개수는 withTotal=true일 때만 계산합니다. "
+            + "인증 없이 접근 가능합니다.",
+        parameters = {
+            @Parameter(name = "cursor", description = "다음 페이지 커서 (첫 페이지는 생략)"),
+            @Parameter(name = "size", description = "페이지 크기 (최대 100)", example = "20"),
+            @Parameter(name = "sort", description = "정렬 방식 (커서 생성 시와 같아야 함)", example = "RECENT",
+                schema = @Schema(implementation = LectureSortTypeDto.class)),
+            @Parameter(name = "withTotal", description = "전체 개수 포함 여부", example = "false")
+        }
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "강의 목록 조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 파라미터 또는 커서")
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponseDto<LectureSliceResponseDto>> getLectureListByCursor(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") Integer size,
+            @RequestParam(value = "sort", defaultValue = "RECENT") LectureSortTypeDto sort,
+            @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal) {
+
+        log.info("강의 목록 커서 조회 API 호출: size={}, sort={}, withTotal={}", size, sort, withTotal);
+
+        LectureSliceResponseDto lectureSlice = lectureService.getLectureListByCursor(cursor, size, sort, withTotal);
+        return ResponseEntity.ok(ApiResponseDto.success(lectureSlice));
+    }
+
+    @Operation(
+        summary = "강의 제목 검색",
+        description = "제목에 검색어가 포함된 강의를 관련도 순으로 조회합니다. 공백으로 나눈 단어가 모두 포함되어야 하며, "
+            + "한글과 영문 대소문자 구분 없이 검색합니다. 시작 직후 검색 색인을 적재하는 동안에는 503으로 응답합니다. "
+            + "인증 없이 접근 가능합니다.",
+        parameters = {
+            @Parameter(name = "q", description = "검색어 (최대 100자)", example = "기초반", required = true),
+            @Parameter(name = "page", description = "페이지 번호 (1부터 시작)", example = "1"),
+            @Parameter(name = "size", description = "페이지 크기 (최대 100)", example = "20")
+        }
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "강의 검색 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 검색어"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "시작 직후 검색 색인 적재 중")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponseDto<LecturePageResponseDto>> searchLectures(
+            @RequestParam(value = "q", required = false) String query,
+            @RequestParam(value = "page", defaultValue = "1") Integer page,
+            @RequestParam(value = "size", defaultValue = "20") Integer size) {
+
+        log.info("강의 검색 API 호출: query={}, page={}, size={}", query, page, size);
+
+        Page<LectureListResponseDto> lectures = lectureService.searchLectures(query, page, size);
+        return ResponseEntity.ok(ApiResponseDto.success(LecturePageResponseDto.from(lectures)));
+    }
+
+    @Operation(
+        summary = "강의 제목 자동완성",
+        description = "입력 중인 검색어로 시작하는 강의 제목을 인기순(신청자 수)으로 조회합니다. 제목 안 단어의 시작 부분도 찾으며, "
+            + "받침이나 초성만 입력된 한글도 다음 글자로 이어서 찾습니다. 인증 없이 접근 가능합니다.",
+        parameters = {
+            @Parameter(name = "q", description = "입력 중인 검색어", example = "기초"),
+            @Parameter(name = "k", description = "최대 개수 (최대 10)", example = "10")
+        }
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "자동완성 조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 검색어")
+    })
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponseDto<List<LectureSuggestionDto>>> suggestLectures(
+            @RequestParam(value = "q", required = false) String prefix,
+            @RequestParam(value = "k", defaultValue = "10") Integer limit) {
+
+        List<LectureSuggestionDto> suggestions = lectureService.suggestLectures(prefix, limit);
+        return ResponseEntity.ok(ApiResponseDto.success(suggestions));
     }
 
     @Operation(
@@ -123,13 +236,26 @@ public class LectureController {
     )
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "강의 조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "강의를 찾을 수 없음")
     })
     @GetMapping("/{lectureId}")
-    public ResponseEntity<ApiResponseDto<CreateLectureResponseDto>> getLecture(@PathVariable Long lectureId) {
+    public ResponseEntity<ApiResponseDto<CreateLectureResponseDto>> getLecture(
+            @PathVariable Long lectureId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("강의 조회 API 호출: lectureId={}", lectureId);
+
+        // 304보다 존재 여부를 먼저 확인 (If-None-Match: *는 없는 강의에 일치하지 않아야 함)
+        // 강의 정보는 개설 이후 바뀌지 않으므로 캐시된 메타데이터로 판단하고 응답도 그대로 만듦
+        LectureMetadata lecture = lectureMetadataCache.get(lectureId);
+
+        // 조회 전에 버전을 읽어 응답 데이터보다 새 ETag가 붙지 않도록 함
+        String tag = lectureVersions.lectureTag(lectureId);
+        if (ETags.matches(ifNoneMatch, tag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tag).build();
+        }
         
-        CreateLectureResponseDto response = lectureService.getLecture(lectureId);
-        return ResponseEntity.ok(ApiResponseDto.success(response));
+        CreateLectureResponseDto response = CreateLectureResponseDto.from(lecture);
+        return ResponseEntity.ok().eTag(tag).body(ApiResponseDto.success(response));
     }
 }
@@ -7,7 +7,11 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.ColumnDefault;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -17,13 +21,21 @@ import lombok.NoArgsConstructor;
  * 강사가 개설하는 강의를 나타냅니다.
  */
 @Entity
-@Table(name = "lectures")
+@Table(
+    name = "lectures",
+    indexes = {
+        // 커서 기반 목록 조회 (최근 등록순, 신청자 많은 순)
+        @Index(name = "idx_lecture_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_lecture_enrolled_created_at_id", columnList = "enrolled_count, created_at, id")
+    }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Lecture {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lecture_seq")
+    @SequenceGenerator(name = "lecture_seq", sequenceName = "lectures_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -32,6 +44,14 @@ public class Lecture {
     @Column(nullable = false)
     private Integer maxCapacity;
 
+    /**
+     * 현재 활성 수강 신청 수 (비정규화 컬럼)
+     * 수강 신청/취소 시 조건부 UPDATE로만 증감합니다.
+     */
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Integer enrolledCount;
+
     @Column(nullable = false)
     private Integer price;
 
@@ -41,6 +61,11 @@ public class Lecture {
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+
     /**
      * 강의 생성 팩토리 메서드
      * @param title 강의명
@@ -57,6 +82,7 @@ public class Lecture {
         Lecture lecture = new Lecture();
         lecture.title = title;
         lecture.maxCapacity = maxCapacity;
+        lecture.enrolledCount = 0;
         lecture.price = price;
         lecture.instructorId = instructorId;
         lecture.createdAt = LocalDateTime.now();
@@ -99,6 +125,13 @@ public class Lecture {
         }
     }
 
+    /**
+     * 정원이 가득 찼는지 확인
+     */
+    public boolean isFull() {
+        return enrolledCount >= maxCapacity;
+    }
+
     /**
      * 강사 ID 확인
      */
@@ -27,4 +27,15 @@ public class CreateLectureResponseDto {
         this.instructorId = instructorId;
         this.createdAt = createdAt;
     }
+
+    public static CreateLectureResponseDto from(LectureMetadata lecture) {
+        return new CreateLectureResponseDto(
+            lecture.getId(),
+            lecture.getTitle(),
+            lecture.getMaxCapacity(),
+            lecture.getPrice(),
+            lecture.getInstructorId(),
+            lecture.getCreatedAt()
+        );
+    }
 }
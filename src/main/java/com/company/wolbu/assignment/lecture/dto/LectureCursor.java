@@ -0,0 +1,81 @@
+package com.company.wolbu.assignment.lecture.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.company.wolbu.assignment.lecture.exception.InvalidCursorException;
+
+import lombok.Getter;
+
+/**
+ * 강의 목록 커서
+ * 마지막으로 받은 강의의 정렬 키(신청자 수, 정원), 등록일, ID를 담으며
+ * 클라이언트에는 불투명한 토큰으로 전달됩니다.
+ */
+@Getter
+public class LectureCursor {
+
+    private static final String VERSION = "v1";
+    private static final String DELIMITER = "|";
+
+    private final LectureSortTypeDto sort;
+    private final Integer enrolledCount;
+    private final Integer maxCapacity;
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public LectureCursor(LectureSortTypeDto sort, Integer enrolledCount, Integer maxCapacity,
+                         LocalDateTime createdAt, Long id) {
+        this.sort = sort;
+        this.enrolledCount = enrolledCount;
+        this.maxCapacity = maxCapacity;
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    /**
+     * 마지막 강의 기준 커서 생성
+     *
+     * @param sort 정렬 타입
+     * @param last 현재 페이지의 마지막 강의
+     * @return 다음 페이지 커서
+     */
+    public static LectureCursor after(LectureSortTypeDto sort, LectureListResponseDto last) {
+        return new LectureCursor(sort, last.getCurrentEnrollmentCount().intValue(), last.getMaxCapacity(),
+                last.getCreatedAt(), last.getId());
+    }
+
+    /**
+     * 토큰으로 변환
+     *
+     * @return URL에 그대로 사용할 수 있는 토큰
+     */
+    public String encode() {
+        String raw = String.join(DELIMITER, VERSION, sort.name(), String.valueOf(enrolledCount),
+                String.valueOf(maxCapacity), createdAt.toString(), String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰 해석
+     *
+     * @param token 커서 토큰
+     * @return 커서
+     * @throws InvalidCursorException 토큰 형식이 올바르지 않은 경우
+     */
+    public static LectureCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 6 || !VERSION.equals(parts[0])) {
+                throw new InvalidCursorException();
+            }
+            return new LectureCursor(LectureSortTypeDto.valueOf(parts[1]), Integer.valueOf(parts[2]),
+                    Integer.valueOf(parts[3]), LocalDateTime.parse(parts[4]), Long.valueOf(parts[5]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException(e);
+        }
+    }
+}
@@ -1,27 +1,40 @@
 package com.company.wolbu.assignment.lecture.dto;
 
+import java.io.IOException;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDateTime;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import lombok.AccessLevel;
 import lombok.Getter;
 
 /**
  * 강의 목록 조회 응답 DTO
+ * 목록 응답은 행 수만큼 직렬화되므로 전용 직렬화기로 필드를 직접 기록합니다.
  */
 @Getter
+@JsonSerialize(using = LectureListResponseDto.Serializer.class)
 public class LectureListResponseDto {
-    
+
     private final Long id;
     private final String title;
     private final Integer price;
     private final String instructorName;
     private final Long currentEnrollmentCount;
     private final Integer maxCapacity;
-    private final BigDecimal enrollmentRate;
     private final LocalDateTime createdAt;
 
-    public LectureListResponseDto(Long id, String title, Integer price, String instructorName, 
+    /**
+     * 신청률 (신청자 수 ÷ 최대 정원을 소수 넷째 자리에서 반올림한 값의 만분율, 0 ~ 10000)
+     */
+    @Getter(AccessLevel.NONE)
+    private final long enrollmentRateBasisPoints;
+
+    public LectureListResponseDto(Long id, String title, Integer price, String instructorName,
                               Long currentEnrollmentCount, Integer maxCapacity, LocalDateTime createdAt) {
         this.id = id;
         this.title = title;
@@ -30,14 +43,69 @@ public class LectureListResponseDto {
         this.currentEnrollmentCount = currentEnrollmentCount;
         this.maxCapacity = maxCapacity;
         this.createdAt = createdAt;
-        
-        // 신청률 계산 (신청자 수 ÷ 최대 정원)
+
+        // 신청률 계산 (신청자 수 ÷ 최대 정원, 소수 넷째 자리 HALF_UP 반올림, 정수 연산)
         if (maxCapacity > 0) {
-            this.enrollmentRate = BigDecimal.valueOf(currentEnrollmentCount)
-                    .divide(BigDecimal.valueOf(maxCapacity), 4, RoundingMode.HALF_UP)
-                    .multiply(BigDecimal.valueOf(100)); // 백분율로 변환
+            this.enrollmentRateBasisPoints = (currentEnrollmentCount * 20000 + maxCapacity) / (2L * maxCapacity);
         } else {
-            this.enrollmentRate = BigDecimal.ZERO;
+            this.enrollmentRateBasisPoints = -1;
+        }
+    }
+
+    /**
+     * 신청률 (백분율, 소수 넷째 자리까지 예: 50.0000, 정원이 0이면 0)
+     */
+    public BigDecimal getEnrollmentRate() {
+        if (enrollmentRateBasisPoints < 0) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(enrollmentRateBasisPoints * 100, 4);
+    }
+
+    /**
+     * {@link #getEnrollmentRate()}의 문자열 표현을 BigDecimal 없이 만듭니다. (예: 3333 -> "33.3300")
+     */
+    private String enrollmentRateText() {
+        if (enrollmentRateBasisPoints < 0) {
+            return "0";
+        }
+        long fraction = enrollmentRateBasisPoints % 100;
+        return (enrollmentRateBasisPoints / 100) + (fraction < 10 ? ".0" : ".") + fraction + "00";
+    }
+
+    /**
+     * 강의 목록 행 직렬화기
+     * 리플렉션 기반 빈 직렬화 대신 필드를 순서대로 기록하고, 신청률은 BigDecimal을 만들지 않고 같은 표기(50.0000)로 기록합니다.
+     */
+    public static class Serializer extends StdSerializer<LectureListResponseDto> {
+
+        public Serializer() {
+            super(LectureListResponseDto.class);
+        }
+
+        @Override
+        public void serialize(LectureListResponseDto value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject();
+            writeNumber(gen, "id", value.id);
+            gen.writeStringField("title", value.title);
+            writeNumber(gen, "price", value.price);
+            gen.writeStringField("instructorName", value.instructorName);
+            writeNumber(gen, "currentEnrollmentCount", value.currentEnrollmentCount);
+            writeNumber(gen, "maxCapacity", value.maxCapacity);
+            gen.writeFieldName("enrollmentRate");
+            gen.writeNumber(value.enrollmentRateText());
+            // 날짜 형식은 ObjectMapper 설정을 따름
+            provider.defaultSerializeField("createdAt", value.createdAt, gen);
+            gen.writeEndObject();
+        }
+
+        private static void writeNumber(JsonGenerator gen, String name, Number number) throws IOException {
+            if (number == null) {
+                gen.writeNullField(name);
+            } else {
+                gen.writeNumberField(name, number.longValue());
+            }
         }
     }
 }
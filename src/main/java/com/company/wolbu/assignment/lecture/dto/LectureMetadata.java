@@ -0,0 +1,38 @@
+package com.company.wolbu.assignment.lecture.dto;
+
+import java.time.LocalDateTime;
+
+import com.company.wolbu.assignment.lecture.domain.Lecture;
+
+import lombok.Getter;
+
+/**
+ * 강의 메타데이터
+ * 강의 개설 이후 바뀌지 않는 값(제목, 정원, 가격, 강사, 등록일)만 담습니다.
+ * 신청자 수처럼 변하는 값은 포함하지 않으므로 캐시에 오래 보관해도 됩니다.
+ */
+@Getter
+public class LectureMetadata {
+
+    private final Long id;
+    private final String title;
+    private final Integer maxCapacity;
+    private final Integer price;
+    private final Long instructorId;
+    private final LocalDateTime createdAt;
+
+    public LectureMetadata(Long id, String title, Integer maxCapacity, Integer price, Long instructorId,
+                           LocalDateTime createdAt) {
+        this.id = id;
+        this.title = title;
+        this.maxCapacity = maxCapacity;
+        this.price = price;
+        this.instructorId = instructorId;
+        this.createdAt = createdAt;
+    }
+
+    public static LectureMetadata from(Lecture lecture) {
+        return new LectureMetadata(lecture.getId(), lecture.getTitle(), lecture.getMaxCapacity(), lecture.getPrice(),
+                lecture.getInstructorId(), lecture.getCreatedAt());
+    }
+}
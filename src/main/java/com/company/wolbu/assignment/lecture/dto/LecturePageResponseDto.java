@@ -0,0 +1,49 @@
+package com.company.wolbu.assignment.lecture.dto;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import lombok.Getter;
+
+/**
+ * 강의 목록 페이지 응답 DTO
+ * Page(PageImpl, Pageable, Sort) 객체 그래프 대신 목록과 페이지 정보만 담습니다.
+ * 전체 개수를 계산하지 않은 경우 totalElements, totalPages는 null입니다.
+ */
+@Getter
+public class LecturePageResponseDto {
+
+    private final List<LectureListResponseDto> content;
+    private final int page;
+    private final int size;
+    private final boolean hasNext;
+    private final Long totalElements;
+    private final Integer totalPages;
+
+    public LecturePageResponseDto(List<LectureListResponseDto> content, int page, int size, boolean hasNext,
+                                  Long totalElements, Integer totalPages) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.totalElements = totalElements;
+        this.totalPages = totalPages;
+    }
+
+    /**
+     * 조회한 페이지로 응답 생성 (페이지 번호는 1부터 시작, Page일 때만 전체 개수 포함)
+     *
+     * @param slice 강의 목록 페이지 또는 슬라이스
+     * @return 페이지 응답
+     */
+    public static LecturePageResponseDto from(Slice<LectureListResponseDto> slice) {
+        if (slice instanceof Page<LectureListResponseDto> page) {
+            return new LecturePageResponseDto(page.getContent(), page.getNumber() + 1, page.getSize(),
+                    page.hasNext(), page.getTotalElements(), page.getTotalPages());
+        }
+        return new LecturePageResponseDto(slice.getContent(), slice.getNumber() + 1, slice.getSize(),
+                slice.hasNext(), null, null);
+    }
+}
@@ -0,0 +1,31 @@
+package com.company.wolbu.assignment.lecture.dto;
+
+import lombok.Getter;
+
+/**
+ * 강의 좌석 스냅샷
+ * 영속성 컨텍스트를 거치지 않고 조회하므로 항상 최신 커밋 값을 담습니다.
+ * 낙관적 모드의 버전 비교에 사용합니다.
+ */
+@Getter
+public class LectureSeatSnapshot {
+
+    private final Long lectureId;
+    private final Long version;
+    private final Integer enrolledCount;
+    private final Integer maxCapacity;
+
+    public LectureSeatSnapshot(Long lectureId, Long version, Integer enrolledCount, Integer maxCapacity) {
+        this.lectureId = lectureId;
+        this.version = version;
+        this.enrolledCount = enrolledCount;
+        this.maxCapacity = maxCapacity;
+    }
+
+    /**
+     * 정원이 가득 찼는지 확인
+     */
+    public boolean isFull() {
+        return enrolledCount >= maxCapacity;
+    }
+}
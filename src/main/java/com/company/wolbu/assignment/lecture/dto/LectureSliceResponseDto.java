@@ -0,0 +1,28 @@
+package com.company.wolbu.assignment.lecture.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * 강의 목록 커서 페이지 응답 DTO
+ * 전체 개수는 요청한 경우에만 포함됩니다.
+ */
+@Getter
+public class LectureSliceResponseDto {
+
+    private final List<LectureListResponseDto> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+    private final Long totalElements;
+
+    public LectureSliceResponseDto(List<LectureListResponseDto> content, int size, boolean hasNext,
+                                   String nextCursor, Long totalElements) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+        this.totalElements = totalElements;
+    }
+}
@@ -0,0 +1,18 @@
+package com.company.wolbu.assignment.lecture.dto;
+
+import lombok.Getter;
+
+/**
+ * 강의 제목 자동완성 항목 DTO
+ */
+@Getter
+public class LectureSuggestionDto {
+
+    private final Long lectureId;
+    private final String title;
+
+    public LectureSuggestionDto(Long lectureId, String title) {
+        this.lectureId = lectureId;
+        this.title = title;
+    }
+}
@@ -0,0 +1,24 @@
+package com.company.wolbu.assignment.lecture.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 강의 목록 커서가 유효하지 않을 때 발생하는 예외
+ */
+public class InvalidCursorException extends LectureException {
+
+    private static final String ERROR_CODE = "INVALID_CURSOR";
+    private static final String DEFAULT_MESSAGE = "커서가 올바르지 않습니다.";
+
+    public InvalidCursorException() {
+        super(ERROR_CODE, DEFAULT_MESSAGE, HttpStatus.BAD_REQUEST);
+    }
+
+    public InvalidCursorException(String message) {
+        super(ERROR_CODE, message, HttpStatus.BAD_REQUEST);
+    }
+
+    public InvalidCursorException(Throwable cause) {
+        super(ERROR_CODE, DEFAULT_MESSAGE, HttpStatus.BAD_REQUEST, cause);
+    }
+}
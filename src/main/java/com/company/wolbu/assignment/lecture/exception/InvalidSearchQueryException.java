@@ -0,0 +1,24 @@
+package com.company.wolbu.assignment.lecture.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 강의 검색어가 유효하지 않을 때 발생하는 예외
+ */
+public class InvalidSearchQueryException extends LectureException {
+
+    private static final String ERROR_CODE = "INVALID_SEARCH_QUERY";
+    private static final String DEFAULT_MESSAGE = "검색어가 올바르지 않습니다.";
+
+    public InvalidSearchQueryException() {
+        super(ERROR_CODE, DEFAULT_MESSAGE, HttpStatus.BAD_REQUEST);
+    }
+
+    public InvalidSearchQueryException(String message) {
+        super(ERROR_CODE, message, HttpStatus.BAD_REQUEST);
+    }
+
+    public InvalidSearchQueryException(Throwable cause) {
+        super(ERROR_CODE, DEFAULT_MESSAGE, HttpStatus.BAD_REQUEST, cause);
+    }
+}
@@ -0,0 +1,17 @@
+package com.company.wolbu.assignment.lecture.exception;
+
+import com.company.wolbu.assignment.common.exception.ServiceUnavailableException;
+
+/**
+ * 시작 직후 검색 색인이 아직 적재되지 않아 검색할 수 없을 때 발생하는 예외
+ */
+public class SearchNotReadyException extends ServiceUnavailableException {
+
+    private static final String ERROR_CODE = "SEARCH_NOT_READY";
+    private static final String DEFAULT_MESSAGE = "검색을 준비하고 있습니다. 잠시 후 다시 시도해주세요.";
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    public SearchNotReadyException() {
+        super(ERROR_CODE, DEFAULT_MESSAGE, RETRY_AFTER_SECONDS);
+    }
+}
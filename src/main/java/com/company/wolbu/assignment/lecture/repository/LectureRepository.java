@@ -1,19 +1,23 @@
 package com.company.wolbu.assignment.lecture.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
 
 import com.company.wolbu.assignment.lecture.domain.Lecture;
 import com.company.wolbu.assignment.lecture.dto.LectureListResponseDto;
+import com.company.wolbu.assignment.lecture.dto.LectureSeatSnapshot;
 
 /**
  * 강의 Repository 인터페이스
@@ -29,73 +33,198 @@ public interface LectureRepository extends JpaRepository<Lecture, Long> {
     List<Lecture> findByInstructorId(Long instructorId);
 
     /**
-     * 강의 ID와 강사 ID로 강의 조회 (권한 확인용)
-     * @param id 강의 ID
-     * @param instructorId 강사 ID
-     * @return 해당 강사의 강의 (Optional)
+     * 전체 강의 목록 조회 (인기순 랭킹 적재용)
+     *
+     * @return 강의 목록과 신청자 수 정보
      */
-    @Query("SELECT l FROM Lecture l WHERE l.id = :id AND l.instructorId = :instructorId")
-    Optional<Lecture> findByIdAndInstructorId(@Param("id") Long id, @Param("instructorId") Long instructorId);
+    @Query("SELECT new com.company.wolbu.assignment.lecture.dto.LectureListResponseDto(" +
+           "l.id, l.title, l.price, m.name, " +
+           "CAST(l.enrolledCount AS Long), l.maxCapacity, l.createdAt) " +
+           "FROM Lecture l " +
+           "LEFT JOIN Member m ON l.instructorId = m.id")
+    List<LectureListResponseDto> findAllForRanking();
 
     /**
-     * 강의 제목으로 검색 (부분 일치)
-     * @param title 검색할 강의 제목
-     * @return 제목에 해당 문자열이 포함된 강의 목록
+     * 강의 목록 슬라이스 조회 - 커서 첫 페이지, 오프셋 페이지 (최근 등록순)
+     * 전체 개수를 세지 않고 페이지 크기보다 한 건 더 읽어 다음 페이지 여부만 판단합니다.
+     *
+     * @param pageable 페이지 정보 (커서 조회는 항상 0페이지, 오프셋 목록 조회는 요청한 페이지)
+     * @return 강의 목록 슬라이스
      */
-    @Query("SELECT l FROM Lecture l WHERE l.title LIKE %:title%")
-    List<Lecture> findByTitleContaining(@Param("title") String title);
+    @Query("SELECT new com.company.wolbu.assignment.lecture.dto.LectureListResponseDto(" +
+           "l.id, l.title, l.price, m.name, " +
+           "CAST(l.enrolledCount AS Long), l.maxCapacity, l.createdAt) " +
+           "FROM Lecture l " +
+           "LEFT JOIN Member m ON l.instructorId = m.id " +
+           "ORDER BY l.createdAt DESC, l.id DESC")
+    Slice<LectureListResponseDto> findSliceOrderByCreatedAt(Pageable pageable);
 
     /**
-     * 강의 목록 조회 (최근 등록순)
-     * 
-     * @param pageable 페이징 정보
-     * @return 강의 목록과 신청자 수 정보
+     * 강의 목록 커서 조회 - 커서 이후 (최근 등록순)
+     *
+     * @param createdAt 커서 강의 등록일
+     * @param id        커서 강의 ID
+     * @param pageable  페이지 크기 (페이지 번호는 항상 0)
+     * @return 강의 목록 슬라이스
      */
     @Query("SELECT new com.company.wolbu.assignment.lecture.dto.LectureListResponseDto(" +
            "l.id, l.title, l.price, m.name, " +
-           "COALESCE(COUNT(e), 0), l.maxCapacity, l.createdAt) " +
+           "CAST(l.enrolledCount AS Long), l.maxCapacity, l.createdAt) " +
            "FROM Lecture l " +
            "LEFT JOIN Member m ON l.instructorId = m.id " +
-           "LEFT JOIN Enrollment e ON l.id = e.lectureId AND e.status = 'CONFIRMED' " +
-           "GROUP BY l.id, l.title, l.price, m.name, l.maxCapacity, l.createdAt " +
-           "ORDER BY l.createdAt DESC")
-    Page<LectureListResponseDto> findAllWithEnrollmentCountOrderByCreatedAt(Pageable pageable);
+           "WHERE l.createdAt < :createdAt OR (l.createdAt = :createdAt AND l.id < :id) " +
+           "ORDER BY l.createdAt DESC, l.id DESC")
+    Slice<LectureListResponseDto> findSliceOrderByCreatedAtAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                                 @Param("id") Long id, Pageable pageable);
 
     /**
-     * 강의 목록 조회 (신청자 많은 순)
-     * 
-     * @param pageable 페이징 정보
-     * @return 강의 목록과 신청자 수 정보
+     * 강의 목록 슬라이스 조회 - 커서 첫 페이지, 오프셋 페이지 (신청자 많은 순)
+     *
+     * @param pageable 페이지 정보 (커서 조회는 항상 0페이지, 오프셋 목록 조회는 요청한 페이지)
+     * @return 강의 목록 슬라이스
      */
     @Query("SELECT new com.company.wolbu.assignment.lecture.dto.LectureListResponseDto(" +
            "l.id, l.title, l.price, m.name, " +
-           "COALESCE(COUNT(e), 0), l.maxCapacity, l.createdAt) " +
+           "CAST(l.enrolledCount AS Long), l.maxCapacity, l.createdAt) " +
            "FROM Lecture l " +
            "LEFT JOIN Member m ON l.instructorId = m.id " +
-           "LEFT JOIN Enrollment e ON l.id = e.lectureId AND e.status = 'CONFIRMED' " +
-           "GROUP BY l.id, l.title, l.price, m.name, l.maxCapacity, l.createdAt " +
-           "ORDER BY COUNT(e) DESC, l.createdAt DESC")
-    Page<LectureListResponseDto> findAllWithEnrollmentCountOrderByEnrollmentCount(Pageable pageable);
+           "ORDER BY l.enrolledCount DESC, l.createdAt DESC, l.id DESC")
+    Slice<LectureListResponseDto> findSliceOrderByEnrollmentCount(Pageable pageable);
 
     /**
-     * 강의 목록 조회 (신청률 높은 순)
-     * 
-     * @param pageable 페이징 정보
-     * @return 강의 목록과 신청자 수 정보
+     * 강의 목록 커서 조회 - 커서 이후 (신청자 많은 순)
+     *
+     * @param enrolledCount 커서 강의 신청자 수
+     * @param createdAt     커서 강의 등록일
+     * @param id            커서 강의 ID
+     * @param pageable      페이지 크기 (페이지 번호는 항상 0)
+     * @return 강의 목록 슬라이스
+     */
+    @Query("SELECT new com.company.wolbu.assignment.lecture.dto.LectureListResponseDto(" +
+           "l.id, l.title, l.price, m.name, " +
+           "CAST(l.enrolledCount AS Long), l.maxCapacity, l.createdAt) " +
+           "FROM Lecture l " +
+           "LEFT JOIN Member m ON l.instructorId = m.id " +
+           "WHERE l.enrolledCount < :enrolledCount " +
+           "OR (l.enrolledCount = :enrolledCount AND (l.createdAt < :createdAt " +
+           "OR (l.createdAt = :createdAt AND l.id < :id))) " +
+           "ORDER BY l.enrolledCount DESC, l.createdAt DESC, l.id DESC")
+    Slice<LectureListResponseDto> findSliceOrderByEnrollmentCountAfter(@Param("enrolledCount") Integer enrolledCount,
+                                                                       @Param("createdAt") LocalDateTime createdAt,
+                                                                       @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 강의 목록 슬라이스 조회 - 커서 첫 페이지, 오프셋 페이지 (신청률 높은 순)
+     *
+     * @param pageable 페이지 정보 (커서 조회는 항상 0페이지, 오프셋 목록 조회는 요청한 페이지)
+     * @return 강의 목록 슬라이스
      */
     @Query("SELECT new com.company.wolbu.assignment.lecture.dto.LectureListResponseDto(" +
            "l.id, l.title, l.price, m.name, " +
-           "COALESCE(COUNT(e), 0), l.maxCapacity, l.createdAt) " +
+           "CAST(l.enrolledCount AS Long), l.maxCapacity, l.createdAt) " +
            "FROM Lecture l " +
            "LEFT JOIN Member m ON l.instructorId = m.id " +
-           "LEFT JOIN Enrollment e ON l.id = e.lectureId AND e.status = 'CONFIRMED' " +
-           "GROUP BY l.id, l.title, l.price, m.name, l.maxCapacity, l.createdAt " +
-           "ORDER BY (CAST(COUNT(e) AS double) / l.maxCapacity) DESC, l.createdAt DESC")
-    Page<LectureListResponseDto> findAllWithEnrollmentCountOrderByEnrollmentRate(Pageable pageable);
+           "ORDER BY (CAST(l.enrolledCount AS double) / l.maxCapacity) DESC, l.createdAt DESC, l.id DESC")
+    Slice<LectureListResponseDto> findSliceOrderByEnrollmentRate(Pageable pageable);
+
+    /**
+     * 강의 목록 커서 조회 - 커서 이후 (신청률 높은 순)
+     * 신청률 비교는 부동소수점 오차가 없도록 교차 곱셈(신청자 수 × 커서 정원 vs 커서 신청자 수 × 정원)으로 처리합니다.
+     *
+     * @param enrolledCount 커서 강의 신청자 수
+     * @param maxCapacity   커서 강의 정원
+     * @param createdAt     커서 강의 등록일
+     * @param id            커서 강의 ID
+     * @param pageable      페이지 크기 (페이지 번호는 항상 0)
+     * @return 강의 목록 슬라이스
+     */
+    @Query("SELECT new com.company.wolbu.assignment.lecture.dto.LectureListResponseDto(" +
+           "l.id, l.title, l.price, m.name, " +
+           "CAST(l.enrolledCount AS Long), l.maxCapacity, l.createdAt) " +
+           "FROM Lecture l " +
+           "LEFT JOIN Member m ON l.instructorId = m.id " +
+           "WHERE l.enrolledCount * :maxCapacity < :enrolledCount * l.maxCapacity " +
+           "OR (l.enrolledCount * :maxCapacity = :enrolledCount * l.maxCapacity AND (l.createdAt < :createdAt " +
+           "OR (l.createdAt = :createdAt AND l.id < :id))) " +
+           "ORDER BY (CAST(l.enrolledCount AS double) / l.maxCapacity) DESC, l.createdAt DESC, l.id DESC")
+    Slice<LectureListResponseDto> findSliceOrderByEnrollmentRateAfter(@Param("enrolledCount") Integer enrolledCount,
+                                                                      @Param("maxCapacity") Integer maxCapacity,
+                                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                                      @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 정원 이내일 때만 신청자 수 증가 (조건부 UPDATE)
+     * 정원 확인과 증가를 하나의 원자적 문장으로 처리합니다.
+     *
+     * @param id 강의 ID
+     * @return 갱신된 행 수 (0이면 정원 초과 또는 강의 없음)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Lecture l SET l.enrolledCount = l.enrolledCount + 1, l.version = l.version + 1 " +
+           "WHERE l.id = :id AND l.enrolledCount < l.maxCapacity")
+    int increaseEnrolledCount(@Param("id") Long id);
+
+    /**
+     * 신청자 수 감소 (수강 취소 시)
+     *
+     * @param id 강의 ID
+     * @return 갱신된 행 수 (0이면 감소할 신청자 없음 또는 강의 없음)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Lecture l SET l.enrolledCount = l.enrolledCount - 1, l.version = l.version + 1 " +
+           "WHERE l.id = :id AND l.enrolledCount > 0")
+    int decreaseEnrolledCount(@Param("id") Long id);
+
+    /**
+     * 강의 좌석 스냅샷 조회 (낙관적 동시성 모드용)
+     * 스칼라 조회이므로 재시도 시마다 최신 커밋 값을 읽습니다.
+     *
+     * @param id 강의 ID
+     * @return 버전, 신청자 수, 정원 (Optional)
+     */
+    @Query("SELECT new com.company.wolbu.assignment.lecture.dto.LectureSeatSnapshot(" +
+           "l.id, l.version, l.enrolledCount, l.maxCapacity) FROM Lecture l WHERE l.id = :id")
+    Optional<LectureSeatSnapshot> findSeatSnapshot(@Param("id") Long id);
+
+    /**
+     * 정원 이내인 강의들의 신청자 수 일괄 증가 (일괄 신청용)
+     * 대상 강의를 먼저 잠근 뒤 호출하므로, 갱신 행 수가 대상 수와 같아야 합니다.
+     *
+     * @param ids 강의 ID 목록
+     * @return 갱신된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Lecture l SET l.enrolledCount = l.enrolledCount + 1, l.version = l.version + 1 " +
+           "WHERE l.id IN :ids AND l.enrolledCount < l.maxCapacity")
+    int increaseEnrolledCountIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 정원 이내일 때만 신청자 수를 한 번에 여러 명 증가 (시퀀서 일괄 신청용)
+     *
+     * @param id    강의 ID
+     * @param count 증가시킬 신청자 수
+     * @return 갱신된 행 수 (0이면 정원 초과 또는 강의 없음)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Lecture l SET l.enrolledCount = l.enrolledCount + :count, l.version = l.version + 1 " +
+           "WHERE l.id = :id AND l.enrolledCount + :count <= l.maxCapacity")
+    int increaseEnrolledCountBy(@Param("id") Long id, @Param("count") int count);
+
+    /**
+     * 읽은 버전이 그대로일 때만 신청자 수 증가 (버전 비교 UPDATE)
+     *
+     * @param id      강의 ID
+     * @param version 스냅샷 조회 시점의 버전
+     * @return 갱신된 행 수 (0이면 다른 트랜잭션이 먼저 갱신했거나 정원 초과)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Lecture l SET l.enrolledCount = l.enrolledCount + 1, l.version = l.version + 1 " +
+           "WHERE l.id = :id AND l.version = :version AND l.enrolledCount < l.maxCapacity")
+    int increaseEnrolledCountIfVersion(@Param("id") Long id, @Param("version") Long version);
 
     /**
      * 동시성 제어를 위한 강의 조회 (비관적 락)
-     * 수강 신청/취소 시 정원 체크를 위해 사용합니다.
+     * 강의 단위로 직렬화가 필요한 작업에 사용합니다.
      * 
      * @param id 강의 ID
      * @return 강의 정보 (비관적 락 적용)
@@ -103,4 +232,15 @@ public interface LectureRepository extends JpaRepository<Lecture, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT l FROM Lecture l WHERE l.id = :id")
     Optional<Lecture> findByIdWithLock(@Param("id") Long id);
+
+    /**
+     * 여러 강의를 ID 순으로 한 번에 잠금 조회 (비관적 락)
+     * 항상 같은 순서로 잠그므로 일괄 신청 간 데드락이 발생하지 않습니다.
+     *
+     * @param ids 강의 ID 목록
+     * @return ID 오름차순 강의 목록 (비관적 락 적용)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM Lecture l WHERE l.id IN :ids ORDER BY l.id")
+    List<Lecture> findAllByIdInWithLock(@Param("ids") Collection<Long> ids);
 }
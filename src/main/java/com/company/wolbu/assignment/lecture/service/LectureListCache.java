@@ -0,0 +1,202 @@
+package com.company.wolbu.assignment.lecture.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import com.company.wolbu.assignment.common.util.SingleFlight;
+import com.company.wolbu.assignment.lecture.config.LectureProperties;
+import com.company.wolbu.assignment.lecture.dto.LectureListResponseDto;
+import com.company.wolbu.assignment.lecture.dto.LectureSortTypeDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 강의 목록 응답 캐시
+ * (page, size, sort, 전체 개수 포함 여부) 조합별로 목록 페이지를 보관하며, 크기 제한을 넘으면 W-TinyLFU 정책으로 자주 쓰이지 않는 페이지부터 제거합니다.
+ * 신청/취소가 커밋되면 해당 강의가 포함된 페이지만, 강의가 개설되면 전체 페이지를 무효화합니다.
+ * 강의별로 그 강의가 포함된 캐시 키를 역색인으로 유지하므로, 강의 하나의 무효화는 캐시 전체를 훑지 않습니다.
+ * 신청자 수 변동으로 다른 페이지에 새로 들어오는 순위 변화는 무효화 대상이 아니므로 최대 허용 지연 시간 안에서만 늦게 반영됩니다.
+ * 캐시에 없는 같은 페이지를 동시에 요청하면 조회는 한 번만 실행됩니다.
+ * 각 페이지는 조회 직전의 데이터 버전과 함께 보관하여, 오래된 페이지에 최신 ETag가 붙지 않도록 합니다.
+ */
+@Slf4j
+@Component
+public class LectureListCache {
+
+    private final LectureProperties properties;
+    private final LectureVersions lectureVersions;
+    private final Cache<String, CachedPage> cache;
+    private final SingleFlight<String, CachedPage> loads;
+
+    /**
+     * 강의 ID별 해당 강의가 포함된 캐시 키 (저장 후 추가, 캐시에서 제거될 때 정리)
+     */
+    private final Map<Long, Set<String>> keysByLecture = new ConcurrentHashMap<>();
+
+    /**
+     * 강의 ID별 마지막 변경 순번 (조회 중에 페이지에 포함된 강의가 변경되었는지 판단, 강의 수만큼만 유지)
+     */
+    private final Map<Long, Long> changedAt = new ConcurrentHashMap<>();
+
+    /**
+     * 강의 변경 순번
+     */
+    private final AtomicLong changeSequence = new AtomicLong();
+
+    /**
+     * 전체 무효화 세대 (조회 중에 전체 무효화가 일어났는지 판단)
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    public LectureListCache(LectureProperties properties, LectureVersions lectureVersions,
+                            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.lectureVersions = lectureVersions;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getListCacheMaximumSize())
+                .expireAfterWrite(Duration.ofMillis(properties.getListCacheMaxStalenessMillis()))
+                .removalListener((String key, CachedPage removed, RemovalCause cause) -> unindex(key, removed))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "lectureList");
+        this.loads = new SingleFlight<>("lectureList", meterRegistry);
+    }
+
+    /**
+     * 강의 목록 조회 (캐시에 없으면 조회 후 저장)
+     *
+     * @param page     페이지 번호 (1부터 시작)
+     * @param size     페이지 크기
+     * @param sortType  정렬 타입
+     * @param withTotal 전체 개수 포함 여부
+     * @param loader    캐시에 없을 때 목록을 조회하는 함수
+     * @return 강의 목록 페이지와 조회 시점의 데이터 버전
+     */
+    public CachedPage get(Integer page, Integer size, LectureSortTypeDto sortType, boolean withTotal,
+                          Supplier<Slice<LectureListResponseDto>> loader) {
+        String key = key(page, size, sortType, withTotal);
+        if (!properties.isListCacheEnabled()) {
+            return loads.execute(key, () -> {
+                long version = lectureVersions.currentVersion();
+                return new CachedPage(loader.get(), version);
+            });
+        }
+
+        CachedPage cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        return loads.execute(key, () -> load(key, loader));
+    }
+
+    private CachedPage load(String key, Supplier<Slice<LectureListResponseDto>> loader) {
+        long observedGeneration = generation.get();
+        long observedSequence = changeSequence.get();
+        long version = lectureVersions.currentVersion();
+        CachedPage loaded = new CachedPage(loader.get(), version);
+        cache.put(key, loaded);
+        // 저장 후 색인하고 변경 순번을 확인하므로, 이 사이에 지나간 무효화도 아래 비교로 걸러짐
+        index(key, loaded);
+        // 조회 도중 전체 무효화나 이 페이지에 포함된 강의의 변경이 지나갔으면 이전 데이터일 수 있으므로 저장한 항목을 다시 제거
+        if (generation.get() != observedGeneration || changedSince(loaded, observedSequence)) {
+            cache.invalidate(key);
+        }
+        return loaded;
+    }
+
+    private boolean changedSince(CachedPage page, long observedSequence) {
+        for (LectureListResponseDto lecture : page.getPage().getContent()) {
+            if (changedAt.getOrDefault(lecture.getId(), 0L) > observedSequence) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 강의가 포함된 페이지 무효화 (신청자 수 변경 시)
+     *
+     * @param lectureId 강의 ID
+     */
+    public void evictLecture(Long lectureId) {
+        changedAt.merge(lectureId, changeSequence.incrementAndGet(), Math::max);
+        Set<String> keys = keysByLecture.get(lectureId);
+        if (keys != null) {
+            cache.invalidateAll(List.copyOf(keys));
+        }
+    }
+
+    /**
+     * 전체 페이지 무효화 (강의 개설 시 정렬 위치와 전체 개수가 바뀌므로)
+     */
+    public void evictAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+        log.debug("강의 목록 캐시 전체 무효화");
+    }
+
+    private void index(String key, CachedPage page) {
+        for (LectureListResponseDto lecture : page.getPage().getContent()) {
+            keysByLecture.computeIfAbsent(lecture.getId(), id -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+    }
+
+    /**
+     * 캐시에서 제거된 페이지의 색인 정리
+     * 같은 키로 다시 저장된 페이지에 남아 있는 강의는 색인을 유지합니다.
+     */
+    private void unindex(String key, CachedPage removed) {
+        if (key == null || removed == null) {
+            return;
+        }
+        for (LectureListResponseDto lecture : removed.getPage().getContent()) {
+            keysByLecture.computeIfPresent(lecture.getId(), (id, keys) -> {
+                CachedPage current = cache.asMap().get(key);
+                if (current == null || !current.contains(id)) {
+                    keys.remove(key);
+                }
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    /**
+     * LectureService와 같은 기준으로 정규화한 캐시 키
+     */
+    private static String key(Integer page, Integer size, LectureSortTypeDto sortType, boolean withTotal) {
+        int pageNumber = (page != null && page > 0) ? page : 1;
+        int pageSize = (size != null && size > 0) ? Math.min(size, 100) : 20;
+        LectureSortTypeDto sort = (sortType != null) ? sortType : LectureSortTypeDto.RECENT;
+        return sort + ":" + pageNumber + ":" + pageSize + (withTotal ? ":total" : "");
+    }
+
+    /**
+     * 캐시에 보관하는 목록 페이지 (전체 개수를 포함하면 Page)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class CachedPage {
+        private final Slice<LectureListResponseDto> page;
+        /** 페이지를 조회하기 직전의 전체 데이터 버전 */
+        private final long version;
+
+        boolean contains(Long lectureId) {
+            return page.getContent().stream().anyMatch(lecture -> lecture.getId().equals(lectureId));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.company.wolbu.assignment.lecture.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.company.wolbu.assignment.common.util.TransactionCallbacks;
+import com.company.wolbu.assignment.lecture.config.LectureProperties;
+import com.company.wolbu.assignment.lecture.domain.Lecture;
+import com.company.wolbu.assignment.lecture.dto.LectureMetadata;
+import com.company.wolbu.assignment.lecture.exception.LectureNotFoundException;
+import com.company.wolbu.assignment.lecture.repository.LectureRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 강의 메타데이터 캐시 (read-through)
+ * 강의는 개설 이후 수정/삭제되지 않으므로 무효화 없이 크기 제한으로만 보관합니다.
+ * 강의 개설이 커밋되면 바로 저장하고, 그 외에는 처음 조회할 때 DB에서 읽어 저장합니다.
+ * 트랜잭션 안에서 읽은 강의는 롤백될 수 있으므로 커밋된 뒤에만 저장합니다.
+ */
+@Component
+public class LectureMetadataCache {
+
+    private final LectureRepository lectureRepository;
+    private final Cache<Long, LectureMetadata> cache;
+
+    public LectureMetadataCache(LectureRepository lectureRepository, LectureProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.lectureRepository = lectureRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMetadataCacheMaximumSize())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "lectureMetadata");
+    }
+
+    /**
+     * 강의 메타데이터 조회
+     *
+     * @param lectureId 강의 ID
+     * @return 강의 메타데이터
+     * @throws LectureNotFoundException 강의를 찾을 수 없는 경우
+     */
+    public LectureMetadata get(Long lectureId) {
+        return find(lectureId).orElseThrow(() -> new LectureNotFoundException(lectureId));
+    }
+
+    /**
+     * 강의 메타데이터 조회 (없으면 빈 값)
+     *
+     * @param lectureId 강의 ID
+     * @return 강의 메타데이터
+     */
+    public Optional<LectureMetadata> find(Long lectureId) {
+        LectureMetadata cached = cache.getIfPresent(lectureId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return lectureRepository.findById(lectureId).map(this::remember);
+    }
+
+    /**
+     * 여러 강의 메타데이터 일괄 조회 (캐시에 없는 강의만 한 번의 쿼리로 조회)
+     *
+     * @param lectureIds 강의 ID 목록
+     * @return 강의 ID별 메타데이터 (존재하지 않는 강의는 제외)
+     */
+    public Map<Long, LectureMetadata> getAll(Collection<Long> lectureIds) {
+        Map<Long, LectureMetadata> result = new HashMap<>(cache.getAllPresent(lectureIds));
+        Set<Long> missing = new LinkedHashSet<>(lectureIds);
+        missing.removeAll(result.keySet());
+        if (!missing.isEmpty()) {
+            lectureRepository.findAllById(missing).forEach(lecture -> result.put(lecture.getId(), remember(lecture)));
+        }
+        return result;
+    }
+
+    /**
+     * 개설된 강의 저장 (강의 개설 커밋 이후 호출)
+     *
+     * @param metadata 강의 메타데이터
+     */
+    public void put(LectureMetadata metadata) {
+        cache.put(metadata.getId(), metadata);
+    }
+
+    private LectureMetadata remember(Lecture lecture) {
+        LectureMetadata metadata = LectureMetadata.from(lecture);
+        TransactionCallbacks.afterCommit(() -> cache.put(metadata.getId(), metadata));
+        return metadata;
+    }
+}
@@ -0,0 +1,204 @@
+package com.company.wolbu.assignment.lecture.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.company.wolbu.assignment.lecture.dto.LectureCursor;
+import com.company.wolbu.assignment.lecture.dto.LectureListResponseDto;
+import com.company.wolbu.assignment.lecture.dto.LectureSortTypeDto;
+import com.company.wolbu.assignment.lecture.repository.LectureRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인기순 강의 목록용 메모리 랭킹
+ * 신청자 수 순, 신청률 순으로 정렬된 스킵 리스트를 유지하여 인기순 목록을 SQL 없이 제공합니다.
+ * 신청/취소/강의 개설이 커밋될 때마다 해당 강의 항목만 갱신하며, 최종 기준은 DB의 신청자 수입니다.
+ * 갱신은 강의별로 직렬화되고, 갱신 중인 강의는 조회 시 잠시 누락될 수 있습니다.
+ * 스킵 리스트는 순위(몇 번째 항목인지)를 알지 못하므로 O(log n + pageSize)는 커서 조회({@link #after})만 보장하고,
+ * 페이지 번호 조회({@link #page})는 앞 항목을 순회하는 O(offset + pageSize)입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LectureRanking {
+
+    /**
+     * 신청자 수 DESC, 등록일 DESC, ID DESC (SQL 정렬과 동일)
+     */
+    static final Comparator<LectureListResponseDto> BY_COUNT =
+            Comparator.comparing(LectureListResponseDto::getCurrentEnrollmentCount, Comparator.reverseOrder())
+                    .thenComparing(LectureListResponseDto::getCreatedAt, Comparator.reverseOrder())
+                    .thenComparing(LectureListResponseDto::getId, Comparator.reverseOrder());
+
+    /**
+     * 신청률 DESC (교차 곱셈 비교), 등록일 DESC, ID DESC (SQL 정렬과 동일)
+     */
+    static final Comparator<LectureListResponseDto> BY_RATE =
+            ((Comparator<LectureListResponseDto>) (a, b) -> Long.compare(
+                    b.getCurrentEnrollmentCount() * a.getMaxCapacity(),
+                    a.getCurrentEnrollmentCount() * b.getMaxCapacity()))
+                    .thenComparing(LectureListResponseDto::getCreatedAt, Comparator.reverseOrder())
+                    .thenComparing(LectureListResponseDto::getId, Comparator.reverseOrder());
+
+    private final LectureRepository lectureRepository;
+
+    private final Map<Long, LectureListResponseDto> lectures = new ConcurrentHashMap<>();
+    private final NavigableSet<LectureListResponseDto> byCount = new ConcurrentSkipListSet<>(BY_COUNT);
+    private final NavigableSet<LectureListResponseDto> byRate = new ConcurrentSkipListSet<>(BY_RATE);
+
+    private volatile boolean ready;
+
+    /**
+     * 애플리케이션 시작 시 전체 강의를 한 번 적재합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        for (LectureListResponseDto lecture : lectureRepository.findAllForRanking()) {
+            put(lecture);
+        }
+        ready = true;
+        log.info("강의 랭킹 적재 완료: lectures={}", lectures.size());
+    }
+
+    /**
+     * 랭킹 사용 가능 여부 (적재 전에는 SQL로 조회)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 개설된 강의 추가
+     *
+     * @param lecture 강의 목록 항목
+     */
+    public void add(LectureListResponseDto lecture) {
+        put(lecture);
+    }
+
+    /**
+     * 강의 신청자 수 증감 반영
+     *
+     * @param lectureId 강의 ID
+     * @param delta     증감량
+     */
+    public void adjust(Long lectureId, int delta) {
+        lectures.computeIfPresent(lectureId, (id, current) -> {
+            long count = Math.max(0, Math.min(current.getMaxCapacity(), current.getCurrentEnrollmentCount() + delta));
+            LectureListResponseDto updated = new LectureListResponseDto(current.getId(), current.getTitle(),
+                    current.getPrice(), current.getInstructorName(), count, current.getMaxCapacity(),
+                    current.getCreatedAt());
+            byCount.remove(current);
+            byRate.remove(current);
+            byCount.add(updated);
+            byRate.add(updated);
+            return updated;
+        });
+    }
+
+    /**
+     * 인기순 페이지 조회 (O(offset + pageSize))
+     * 앞 페이지 항목을 하나씩 건너뛰므로 비용이 offset에 비례합니다. DB의 OFFSET보다는 저렴하지만
+     * 깊은 페이지는 커서 조회({@link #after})를 사용해야 합니다.
+     *
+     * @param sort     정렬 타입 (POPULAR_COUNT 또는 POPULAR_RATE)
+     * @param offset   건너뛸 항목 수
+     * @param pageSize 페이지 크기
+     * @return 강의 목록
+     */
+    public List<LectureListResponseDto> page(LectureSortTypeDto sort, long offset, int pageSize) {
+        return take(setOf(sort).iterator(), offset, pageSize);
+    }
+
+    /**
+     * 인기순 커서 이후 조회 (O(log n + pageSize))
+     *
+     * @param sort     정렬 타입 (POPULAR_COUNT 또는 POPULAR_RATE)
+     * @param after    커서 (첫 페이지는 null)
+     * @param limit    조회할 최대 항목 수
+     * @return 강의 목록
+     */
+    public List<LectureListResponseDto> after(LectureSortTypeDto sort, LectureCursor after, int limit) {
+        NavigableSet<LectureListResponseDto> set = setOf(sort);
+        if (after == null) {
+            return take(set.iterator(), 0, limit);
+        }
+        LectureListResponseDto probe = new LectureListResponseDto(after.getId(), null, null, null,
+                after.getEnrolledCount().longValue(), after.getMaxCapacity(), after.getCreatedAt());
+        return take(set.tailSet(probe, false).iterator(), 0, limit);
+    }
+
+    /**
+     * 전체 강의를 인기순으로 복사 (자동완성 재구성 등 전체 순회가 필요한 경우, O(n))
+     *
+     * @param sort 정렬 타입 (POPULAR_COUNT 또는 POPULAR_RATE)
+     * @return 정렬된 강의 목록 복사본
+     */
+    public List<LectureListResponseDto> ranked(LectureSortTypeDto sort) {
+        return new ArrayList<>(setOf(sort));
+    }
+
+    /**
+     * 강의 목록 항목 조회
+     *
+     * @param lectureId 강의 ID
+     * @return 강의 목록 항목 (없으면 null)
+     */
+    public LectureListResponseDto get(Long lectureId) {
+        return lectures.get(lectureId);
+    }
+
+    /**
+     * 전체 강의 수
+     */
+    public long size() {
+        return lectures.size();
+    }
+
+    private void put(LectureListResponseDto lecture) {
+        lectures.compute(lecture.getId(), (id, current) -> {
+            if (current != null) {
+                byCount.remove(current);
+                byRate.remove(current);
+            }
+            byCount.add(lecture);
+            byRate.add(lecture);
+            return lecture;
+        });
+    }
+
+    private NavigableSet<LectureListResponseDto> setOf(LectureSortTypeDto sort) {
+        switch (sort) {
+            case POPULAR_COUNT:
+                return byCount;
+            case POPULAR_RATE:
+                return byRate;
+            default:
+                throw new IllegalArgumentException("인기순 정렬만 지원합니다: " + sort);
+        }
+    }
+
+    private static List<LectureListResponseDto> take(Iterator<LectureListResponseDto> iterator, long offset,
+                                                     int limit) {
+        for (long skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+            iterator.next();
+        }
+        List<LectureListResponseDto> result = new ArrayList<>(limit);
+        while (result.size() < limit && iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+}
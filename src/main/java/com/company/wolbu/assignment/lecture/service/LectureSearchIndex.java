@@ -0,0 +1,278 @@
+package com.company.wolbu.assignment.lecture.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.company.wolbu.assignment.lecture.dto.LectureListResponseDto;
+import com.company.wolbu.assignment.lecture.repository.LectureRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 강의 제목 검색용 메모리 n-gram 역색인
+ * 정규화한 제목의 1~3글자 조각마다 강의 문서 번호 목록(오름차순 int 배열)을 유지하고,
+ * 검색어 조각들의 목록 교집합을 구한 뒤 실제 포함 여부를 확인하여 LIKE '%검색어%'와 같은 결과를 반환합니다.
+ * 한글은 음절 단위 문자로 다루며, NFKC 정규화로 자모 분리 입력과 전각 문자도 같은 조각이 됩니다.
+ * 강의 개설이 커밋되면 해당 강의만 추가하며, 강의는 수정/삭제되지 않으므로 제거는 지원하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LectureSearchIndex {
+
+    private static final int MAX_GRAM = 3;
+
+    /**
+     * 정확히 일치, 첫 단어로 시작, 첫 등장 위치, 제목 길이, 최근 강의 순
+     */
+    private static final Comparator<Match> RANKING =
+            Comparator.comparing((Match match) -> !match.exact)
+                    .thenComparing(match -> !match.prefix)
+                    .thenComparingInt(match -> match.position)
+                    .thenComparingInt(match -> match.length)
+                    .thenComparing(match -> match.lectureId, Comparator.reverseOrder());
+
+    private final LectureRepository lectureRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> documentIds = new HashMap<>();
+    private long[] lectureIds = new long[64];
+    private String[] titles = new String[64];
+    private int documentCount;
+
+    private volatile boolean ready;
+
+    /**
+     * 애플리케이션 시작 시 전체 강의 제목을 한 번 색인합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        List<LectureListResponseDto> lectures = lectureRepository.findAllForRanking();
+        lock.writeLock().lock();
+        try {
+            for (LectureListResponseDto lecture : lectures) {
+                index(lecture.getId(), lecture.getTitle());
+            }
+            log.info("강의 검색 색인 적재 완료: lectures={}, grams={}", documentCount, postings.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+        ready = true;
+    }
+
+    /**
+     * 색인 사용 가능 여부 (적재 전에는 SQL로 검색)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 개설된 강의 추가
+     *
+     * @param lectureId 강의 ID
+     * @param title     강의 제목
+     */
+    public void add(Long lectureId, String title) {
+        lock.writeLock().lock();
+        try {
+            index(lectureId, title);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 제목 검색
+     * 공백으로 나눈 검색어가 모두 제목에 포함된 강의를 관련도 순으로 반환합니다.
+     *
+     * @param query 검색어
+     * @return 관련도 순 강의 ID 목록
+     */
+    public List<Long> search(String query) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        String[] terms = normalized.split(" ");
+
+        lock.readLock().lock();
+        try {
+            // 1. 검색어 조각별 문서 목록 수집 (하나라도 없으면 결과 없음)
+            List<Postings> lists = new ArrayList<>();
+            for (String term : terms) {
+                for (long gram : queryGrams(term)) {
+                    Postings list = postings.get(gram);
+                    if (list == null) {
+                        return List.of();
+                    }
+                    lists.add(list);
+                }
+            }
+
+            // 2. 짧은 목록부터 교집합
+            lists.sort(Comparator.comparingInt(list -> list.size));
+            int[] candidates = Arrays.copyOf(lists.get(0).documents, lists.get(0).size);
+            int candidateCount = candidates.length;
+            for (int i = 1; i < lists.size() && candidateCount > 0; i++) {
+                candidateCount = lists.get(i).retainAll(candidates, candidateCount);
+            }
+
+            // 3. 실제 포함 여부 확인 및 관련도 계산
+            List<Match> matches = new ArrayList<>(candidateCount);
+            for (int i = 0; i < candidateCount; i++) {
+                Match match = match(candidates[i], normalized, terms);
+                if (match != null) {
+                    matches.add(match);
+                }
+            }
+            matches.sort(RANKING);
+
+            List<Long> result = new ArrayList<>(matches.size());
+            for (Match match : matches) {
+                result.add(match.lectureId);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void index(Long lectureId, String title) {
+        if (documentIds.containsKey(lectureId)) {
+            return;
+        }
+        int document = documentCount++;
+        if (document == lectureIds.length) {
+            lectureIds = Arrays.copyOf(lectureIds, document * 2);
+            titles = Arrays.copyOf(titles, document * 2);
+        }
+        String normalized = normalize(title);
+        lectureIds[document] = lectureId;
+        titles[document] = normalized;
+        documentIds.put(lectureId, document);
+
+        // 공백을 포함하지 않는 1~3글자 조각 색인 (문서 번호가 증가 순이므로 목록은 항상 정렬 상태)
+        for (int start = 0; start < normalized.length(); start++) {
+            for (int length = 1; length <= MAX_GRAM && start + length <= normalized.length(); length++) {
+                if (normalized.charAt(start + length - 1) == ' ') {
+                    break;
+                }
+                postings.computeIfAbsent(gram(normalized, start, length), key -> new Postings()).add(document);
+            }
+        }
+    }
+
+    private Match match(int document, String normalized, String[] terms) {
+        String title = titles[document];
+        int position = 0;
+        for (String term : terms) {
+            int index = title.indexOf(term);
+            if (index < 0) {
+                return null;
+            }
+            position += index;
+        }
+        return new Match(lectureIds[document], title.equals(normalized), title.startsWith(terms[0]), position,
+                title.length());
+    }
+
+    /**
+     * 검색어 조각 (3글자 이하는 그대로, 그보다 길면 모든 3글자 조각)
+     */
+    private static long[] queryGrams(String term) {
+        if (term.length() <= MAX_GRAM) {
+            return new long[] {gram(term, 0, term.length())};
+        }
+        long[] grams = new long[term.length() - MAX_GRAM + 1];
+        for (int start = 0; start < grams.length; start++) {
+            grams[start] = gram(term, start, MAX_GRAM);
+        }
+        return grams;
+    }
+
+    /**
+     * 1~3글자 조각을 길이와 UTF-16 문자 값으로 하나의 long 키로 변환
+     */
+    private static long gram(String text, int start, int length) {
+        long key = length;
+        for (int i = 0; i < length; i++) {
+            key = (key << 16) | text.charAt(start + i);
+        }
+        return key;
+    }
+
+    /**
+     * NFKC 정규화, 소문자 변환, 연속 공백 정리
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+
+    /**
+     * 조각 하나의 문서 번호 목록 (오름차순)
+     */
+    private static final class Postings {
+        private int[] documents = new int[4];
+        private int size;
+
+        private void add(int document) {
+            // 같은 제목 안에서 반복된 조각은 한 번만 기록
+            if (size > 0 && documents[size - 1] == document) {
+                return;
+            }
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+            }
+            documents[size++] = document;
+        }
+
+        /**
+         * 후보 중 이 목록에 있는 문서만 남기고 남은 개수 반환
+         */
+        private int retainAll(int[] candidates, int count) {
+            int kept = 0;
+            for (int i = 0; i < count; i++) {
+                if (Arrays.binarySearch(documents, 0, size, candidates[i]) >= 0) {
+                    candidates[kept++] = candidates[i];
+                }
+            }
+            return kept;
+        }
+    }
+
+    private static final class Match {
+        private final long lectureId;
+        private final boolean exact;
+        private final boolean prefix;
+        private final int position;
+        private final int length;
+
+        private Match(long lectureId, boolean exact, boolean prefix, int position, int length) {
+            this.lectureId = lectureId;
+            this.exact = exact;
+            this.prefix = prefix;
+            this.position = position;
+            this.length = length;
+        }
+    }
+}
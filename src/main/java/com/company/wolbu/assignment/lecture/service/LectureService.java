@@ -1,22 +1,35 @@
 package com.company.wolbu.assignment.lecture.service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.company.wolbu.assignment.auth.domain.Member;
 import com.company.wolbu.assignment.auth.repository.MemberRepository;
+import com.company.wolbu.assignment.common.util.TransactionCallbacks;
 import com.company.wolbu.assignment.enrollment.exception.MemberNotFoundException;
 import com.company.wolbu.assignment.lecture.exception.InstructorOnlyException;
+import com.company.wolbu.assignment.lecture.exception.InvalidCursorException;
 import com.company.wolbu.assignment.lecture.exception.InvalidLectureDataException;
-import com.company.wolbu.assignment.lecture.exception.LectureNotFoundException;
+import com.company.wolbu.assignment.lecture.exception.InvalidSearchQueryException;
+import com.company.wolbu.assignment.lecture.exception.SearchNotReadyException;
 import com.company.wolbu.assignment.lecture.domain.Lecture;
 import com.company.wolbu.assignment.lecture.dto.CreateLectureRequestDto;
 import com.company.wolbu.assignment.lecture.dto.CreateLectureResponseDto;
+import com.company.wolbu.assignment.lecture.dto.LectureCursor;
 import com.company.wolbu.assignment.lecture.dto.LectureListResponseDto;
+import com.company.wolbu.assignment.lecture.dto.LectureMetadata;
+import com.company.wolbu.assignment.lecture.dto.LectureSliceResponseDto;
 import com.company.wolbu.assignment.lecture.dto.LectureSortTypeDto;
+import com.company.wolbu.assignment.lecture.dto.LectureSuggestionDto;
 import com.company.wolbu.assignment.lecture.repository.LectureRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -30,8 +43,16 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class LectureService {
 
+    private static final int MAX_SEARCH_QUERY_LENGTH = 100;
+
     private final LectureRepository lectureRepository;
     private final MemberRepository memberRepository;
+    private final LectureRanking lectureRanking;
+    private final LectureListCache lectureListCache;
+    private final LectureVersions lectureVersions;
+    private final LectureSearchIndex lectureSearchIndex;
+    private final LectureSuggester lectureSuggester;
+    private final LectureMetadataCache lectureMetadataCache;
 
     /**
      * 강의 개설
@@ -67,6 +88,20 @@ public class LectureService {
             
             Lecture savedLecture = lectureRepository.save(lecture);
             
+            // 커밋 이후 메타데이터 캐시, 인기순 랭킹, 검색 색인, 자동완성에 추가, 데이터 버전 갱신 및 목록 캐시 무효화
+            LectureMetadata metadata = LectureMetadata.from(savedLecture);
+            LectureListResponseDto ranked = new LectureListResponseDto(savedLecture.getId(), savedLecture.getTitle(),
+                    savedLecture.getPrice(), member.getName(), 0L, savedLecture.getMaxCapacity(),
+                    savedLecture.getCreatedAt());
+            TransactionCallbacks.afterCommit(() -> {
+                lectureMetadataCache.put(metadata);
+                lectureRanking.add(ranked);
+                lectureSearchIndex.add(ranked.getId(), ranked.getTitle());
+                lectureSuggester.add(ranked.getId(), ranked.getTitle());
+                lectureVersions.lecturesChanged();
+                lectureListCache.evictAll();
+            });
+
             log.info("강의 개설 완료: lectureId={}, instructorId={}", savedLecture.getId(), memberId);
             
             return new CreateLectureResponseDto(
@@ -91,19 +126,9 @@ public class LectureService {
      * @return 강의 정보
      * @throws NotFoundException 강의를 찾을 수 없는 경우
      */
-    @Transactional(readOnly = true)
     public CreateLectureResponseDto getLecture(Long lectureId) {
-        Lecture lecture = lectureRepository.findById(lectureId)
-                .orElseThrow(() -> new LectureNotFoundException(lectureId));
-        
-        return new CreateLectureResponseDto(
-            lecture.getId(),
-            lecture.getTitle(),
-            lecture.getMaxCapacity(),
-            lecture.getPrice(),
-            lecture.getInstructorId(),
-            lecture.getCreatedAt()
-        );
+        // 강의 정보는 개설 이후 바뀌지 않으므로 메타데이터 캐시에서 조회
+        return CreateLectureResponseDto.from(lectureMetadataCache.get(lectureId));
     }
 
     /**
@@ -113,13 +138,15 @@ public class LectureService {
      * @param instructorId 강사 ID
      * @return 권한이 있으면 true, 없으면 false
      */
-    @Transactional(readOnly = true)
     public boolean hasInstructorPermission(Long lectureId, Long instructorId) {
-        return lectureRepository.findByIdAndInstructorId(lectureId, instructorId).isPresent();
+        return lectureMetadataCache.find(lectureId)
+                .map(lecture -> lecture.getInstructorId().equals(instructorId))
+                .orElse(false);
     }
 
     /**
      * 강의 목록 조회 (페이징 및 정렬)
+     * 목록은 다음 페이지 여부만 확인하는 조회로 읽고, 전체 개수는 COUNT 쿼리 대신 메모리 랭킹의 강의 수를 사용합니다.
      * 
      * @param page 페이지 번호 (1부터 시작)
      * @param size 페이지 크기 (기본값 20, 최대 100)
@@ -128,6 +155,21 @@ public class LectureService {
      */
     @Transactional(readOnly = true)
     public Page<LectureListResponseDto> getLectureList(Integer page, Integer size, LectureSortTypeDto sortType) {
+        Slice<LectureListResponseDto> slice = getLectureSlice(page, size, sortType);
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), countLectures());
+    }
+
+    /**
+     * 강의 목록 조회 (전체 개수 없이)
+     * 한 건을 더 읽어 다음 페이지 여부만 판단하므로 무한 스크롤처럼 전체 개수가 필요 없는 화면에 사용합니다.
+     *
+     * @param page 페이지 번호 (1부터 시작)
+     * @param size 페이지 크기 (기본값 20, 최대 100)
+     * @param sortType 정렬 타입
+     * @return 강의 목록 슬라이스
+     */
+    @Transactional(readOnly = true)
+    public Slice<LectureListResponseDto> getLectureSlice(Integer page, Integer size, LectureSortTypeDto sortType) {
         // 페이지 번호 검증 (1부터 시작, 0으로 변환)
         int pageNumber = (page != null && page > 0) ? page - 1 : 0;
         
@@ -140,16 +182,165 @@ public class LectureService {
         Pageable pageable = PageRequest.of(pageNumber, pageSize);
         
         log.info("강의 목록 조회: page={}, size={}, sort={}", pageNumber + 1, pageSize, sort);
+
+        // 인기순은 메모리 랭킹에서 조회 (앞 항목을 순회하므로 O(offset), 깊은 페이지는 커서 조회 권장)
+        // 적재 전에는 SQL, 다음 페이지 여부 판단용으로 한 건 더
+        if (sort != LectureSortTypeDto.RECENT && lectureRanking.isReady()) {
+            List<LectureListResponseDto> ranked = lectureRanking.page(sort, pageable.getOffset(), pageSize + 1);
+            boolean hasNext = ranked.size() > pageSize;
+            return new SliceImpl<>(hasNext ? ranked.subList(0, pageSize) : ranked, pageable, hasNext);
+        }
         
-        // 정렬 타입에 따른 조회
+        // 정렬 타입에 따른 조회 (첫 페이지 커서 조회와 같은 쿼리에 OFFSET만 적용)
+        return findSlice(sort, null, pageable);
+    }
+
+    /**
+     * 전체 강의 수 (랭킹 적재 후에는 강의 개설 시 함께 늘어나는 메모리 값, 적재 전에는 COUNT 쿼리)
+     */
+    private long countLectures() {
+        return lectureRanking.isReady() ? lectureRanking.size() : lectureRepository.count();
+    }
+
+    /**
+     * 강의 목록 커서 조회 (정렬 키 기준 이어 읽기)
+     * OFFSET 없이 커서 이후 행만 읽으므로 깊이와 관계없이 조회 비용이 일정하며,
+     * 전체 개수는 요청한 경우에만 계산합니다.
+     *
+     * @param cursor    이전 응답의 다음 페이지 커서 (첫 페이지는 null)
+     * @param size      페이지 크기 (기본값 20, 최대 100)
+     * @param sortType  정렬 타입
+     * @param withTotal 전체 개수 포함 여부
+     * @return 강의 목록 커서 페이지
+     * @throws InvalidCursorException 커서가 올바르지 않거나 정렬 타입과 맞지 않는 경우
+     */
+    @Transactional(readOnly = true)
+    public LectureSliceResponseDto getLectureListByCursor(String cursor, Integer size, LectureSortTypeDto sortType,
+                                                          boolean withTotal) {
+        // 페이지 크기 검증 (기본값 20, 최대 100)
+        int pageSize = (size != null && size > 0) ? Math.min(size, 100) : 20;
+
+        // 정렬 타입 기본값 설정
+        LectureSortTypeDto sort = (sortType != null) ? sortType : LectureSortTypeDto.RECENT;
+
+        LectureCursor after = (cursor != null && !cursor.isBlank()) ? LectureCursor.decode(cursor) : null;
+        if (after != null && after.getSort() != sort) {
+            throw new InvalidCursorException("커서의 정렬 방식이 요청과 다릅니다.");
+        }
+
+        Pageable pageable = PageRequest.of(0, pageSize);
+
+        log.info("강의 목록 커서 조회: size={}, sort={}, hasCursor={}", pageSize, sort, after != null);
+
+        Slice<LectureListResponseDto> slice;
+        if (sort != LectureSortTypeDto.RECENT && lectureRanking.isReady()) {
+            // 인기순은 메모리 랭킹에서 커서 이후 항목만 조회 (다음 페이지 여부 판단용으로 한 건 더)
+            List<LectureListResponseDto> ranked = lectureRanking.after(sort, after, pageSize + 1);
+            boolean hasNext = ranked.size() > pageSize;
+            slice = new SliceImpl<>(hasNext ? ranked.subList(0, pageSize) : ranked, pageable, hasNext);
+        } else {
+            slice = findSlice(sort, after, pageable);
+        }
+
+        List<LectureListResponseDto> content = slice.getContent();
+        String nextCursor = (slice.hasNext() && !content.isEmpty())
+                ? LectureCursor.after(sort, content.get(content.size() - 1)).encode()
+                : null;
+        Long totalElements = withTotal ? countLectures() : null;
+
+        return new LectureSliceResponseDto(content, pageSize, slice.hasNext(), nextCursor, totalElements);
+    }
+
+    /**
+     * 강의 제목 검색 (관련도 순)
+     * 메모리 n-gram 색인으로 후보를 찾으므로 DB를 읽지 않습니다.
+     * 색인 적재 전에는 같은 검색어의 결과가 적재 후와 달라지지 않도록 검색하지 않고 503으로 응답합니다.
+     *
+     * @param query 검색어 (공백으로 나눈 단어가 모두 포함된 강의를 찾음)
+     * @param page  페이지 번호 (1부터 시작)
+     * @param size  페이지 크기 (기본값 20, 최대 100)
+     * @return 강의 목록 페이지
+     * @throws InvalidSearchQueryException 검색어가 비어 있거나 너무 긴 경우
+     * @throws SearchNotReadyException 검색 색인이나 랭킹이 아직 적재되지 않은 경우
+     */
+    public Page<LectureListResponseDto> searchLectures(String query, Integer page, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidSearchQueryException("검색어를 입력해주세요.");
+        }
+        if (query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new InvalidSearchQueryException(
+                    String.format("검색어는 %d자 이하여야 합니다.", MAX_SEARCH_QUERY_LENGTH));
+        }
+
+        // 페이지 번호 검증 (1부터 시작, 0으로 변환)
+        int pageNumber = (page != null && page > 0) ? page - 1 : 0;
+
+        // 페이지 크기 검증 (기본값 20, 최대 100)
+        int pageSize = (size != null && size > 0) ? Math.min(size, 100) : 20;
+
+        Pageable pageable = PageRequest.of(pageNumber, pageSize);
+
+        log.info("강의 검색: query={}, page={}, size={}", query, pageNumber + 1, pageSize);
+
+        if (!lectureSearchIndex.isReady() || !lectureRanking.isReady()) {
+            throw new SearchNotReadyException();
+        }
+
+        // 색인에서 관련도 순 ID를 찾고, 목록 항목은 랭킹의 최신 신청자 수로 채움
+        List<Long> lectureIds = lectureSearchIndex.search(query);
+        int from = (int) Math.min(pageable.getOffset(), lectureIds.size());
+        int to = Math.min(from + pageSize, lectureIds.size());
+        List<LectureListResponseDto> content = new ArrayList<>(to - from);
+        for (Long lectureId : lectureIds.subList(from, to)) {
+            LectureListResponseDto lecture = lectureRanking.get(lectureId);
+            if (lecture != null) {
+                content.add(lecture);
+            }
+        }
+        return new PageImpl<>(content, pageable, lectureIds.size());
+    }
+
+    /**
+     * 강의 제목 자동완성 (인기순)
+     * 입력할 때마다 호출되므로 DB를 읽지 않고 메모리 트라이에서만 조회합니다.
+     *
+     * @param prefix 입력 중인 검색어 (제목 또는 제목 안 단어의 시작 부분)
+     * @param limit  최대 개수 (기본값 10, 최대 10)
+     * @return 자동완성 목록 (검색어가 비어 있으면 빈 목록)
+     * @throws InvalidSearchQueryException 검색어가 너무 긴 경우
+     */
+    public List<LectureSuggestionDto> suggestLectures(String prefix, Integer limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        if (prefix.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new InvalidSearchQueryException(
+                    String.format("검색어는 %d자 이하여야 합니다.", MAX_SEARCH_QUERY_LENGTH));
+        }
+        int suggestionLimit = (limit != null && limit > 0)
+                ? Math.min(limit, LectureSuggester.MAX_SUGGESTIONS)
+                : LectureSuggester.MAX_SUGGESTIONS;
+        return lectureSuggester.suggest(prefix, suggestionLimit);
+    }
+
+    private Slice<LectureListResponseDto> findSlice(LectureSortTypeDto sort, LectureCursor after, Pageable pageable) {
         switch (sort) {
             case POPULAR_COUNT:
-                return lectureRepository.findAllWithEnrollmentCountOrderByEnrollmentCount(pageable);
+                return (after == null)
+                        ? lectureRepository.findSliceOrderByEnrollmentCount(pageable)
+                        : lectureRepository.findSliceOrderByEnrollmentCountAfter(after.getEnrolledCount(),
+                                after.getCreatedAt(), after.getId(), pageable);
             case POPULAR_RATE:
-                return lectureRepository.findAllWithEnrollmentCountOrderByEnrollmentRate(pageable);
+                return (after == null)
+                        ? lectureRepository.findSliceOrderByEnrollmentRate(pageable)
+                        : lectureRepository.findSliceOrderByEnrollmentRateAfter(after.getEnrolledCount(),
+                                after.getMaxCapacity(), after.getCreatedAt(), after.getId(), pageable);
             case RECENT:
             default:
-                return lectureRepository.findAllWithEnrollmentCountOrderByCreatedAt(pageable);
+                return (after == null)
+                        ? lectureRepository.findSliceOrderByCreatedAt(pageable)
+                        : lectureRepository.findSliceOrderByCreatedAtAfter(after.getCreatedAt(), after.getId(),
+                                pageable);
         }
     }
 }
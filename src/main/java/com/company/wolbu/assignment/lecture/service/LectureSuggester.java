@@ -0,0 +1,336 @@
+package com.company.wolbu.assignment.lecture.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.company.wolbu.assignment.lecture.dto.LectureListResponseDto;
+import com.company.wolbu.assignment.lecture.dto.LectureSortTypeDto;
+import com.company.wolbu.assignment.lecture.dto.LectureSuggestionDto;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 강의 제목 자동완성용 접두사 트라이
+ * 제목과 제목 안 각 단어의 시작 위치부터 자모 단위로 색인하여, 입력 중인 글자("깇", "기ㅊ")도 접두사로 찾습니다.
+ * 각 노드는 인기순(신청자 수) 상위 {@link #MAX_SUGGESTIONS}개 강의를 미리 계산해 두므로 조회는 접두사 길이만큼만 걷습니다.
+ * 노드는 쓰기 시 복사로 갱신되어 조회는 잠금 없이 동작하고, 강의 개설 시에는 해당 제목만 추가합니다.
+ * 신청자 수 변동으로 바뀐 상위 목록은 {@link #REBUILD_INTERVAL_MILLIS}마다 전용 스레드에서 메모리 랭킹으로 다시 만들어
+ * 통째로 교체하므로, 자동완성 요청은 재구성을 기다리지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LectureSuggester {
+
+    /**
+     * 노드마다 보관하는 상위 강의 수 (요청 가능한 최대 개수)
+     */
+    public static final int MAX_SUGGESTIONS = 10;
+
+    /**
+     * 색인하는 최대 자모 길이 (더 긴 입력은 이 길이까지 찾은 뒤 나머지를 직접 확인)
+     */
+    private static final int MAX_DEPTH = 32;
+
+    private static final long REBUILD_INTERVAL_MILLIS = 60_000;
+
+    /**
+     * 재구성 필요 여부 확인 주기 (랭킹 적재 직후 첫 트라이를 빨리 만들기 위함)
+     */
+    private static final long CHECK_INTERVAL_MILLIS = 1_000;
+
+    private static final int JONGSEONG_BASE = 0x11A8;
+
+    /**
+     * 받침(종성) 자모에 대응하는 초성 자모 (겹받침은 0)
+     */
+    private static final char[] JONGSEONG_TO_CHOSEONG = {
+            0x1100, 0x1101, 0, 0x1102, 0, 0, 0x1103, 0x1105, 0, 0, 0, 0, 0, 0, 0, 0x1106,
+            0x1107, 0, 0x1109, 0x110A, 0x110B, 0x110C, 0x110E, 0x110F, 0x1110, 0x1111, 0x1112
+    };
+
+    private final LectureRanking lectureRanking;
+
+    private volatile Trie trie;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * 애플리케이션 시작 시 재구성 스레드를 시작합니다.
+     * 랭킹 적재가 끝나면 첫 트라이를 만들고, 이후 {@link #REBUILD_INTERVAL_MILLIS}마다 다시 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "lecture-suggester-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::rebuildIfStale, 0, CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 접두사로 시작하는 강의 제목을 인기순으로 조회
+     *
+     * @param prefix 입력 중인 검색어
+     * @param limit  최대 개수 ({@link #MAX_SUGGESTIONS} 이하)
+     * @return 자동완성 목록
+     */
+    public List<LectureSuggestionDto> suggest(String prefix, int limit) {
+        Trie current = trie;
+        String key = key(prefix);
+        if (current == null || key.isEmpty()) {
+            return List.of();
+        }
+
+        // 1. 입력 그대로, 마지막 받침이 다음 글자의 초성일 수 있는 경우까지 후보 수집
+        Set<Integer> documents = new LinkedHashSet<>();
+        current.collect(key, documents);
+        String carried = carryLastJongseong(key);
+        if (carried != null) {
+            current.collect(carried, documents);
+        }
+
+        // 2. 최신 신청자 수로 다시 정렬
+        List<LectureListResponseDto> lectures = new ArrayList<>(documents.size());
+        for (int document : documents) {
+            LectureListResponseDto lecture = lectureRanking.get(current.lectureIds[document]);
+            if (lecture != null) {
+                lectures.add(lecture);
+            }
+        }
+        lectures.sort(LectureRanking.BY_COUNT);
+
+        List<LectureSuggestionDto> suggestions = new ArrayList<>(Math.min(limit, lectures.size()));
+        for (LectureListResponseDto lecture : lectures.subList(0, Math.min(limit, lectures.size()))) {
+            suggestions.add(new LectureSuggestionDto(lecture.getId(), lecture.getTitle()));
+        }
+        return suggestions;
+    }
+
+    /**
+     * 개설된 강의 추가 (신청자 0명이므로 노드 상위 목록에 자리가 남은 경우에만 포함)
+     *
+     * @param lectureId 강의 ID
+     * @param title     강의 제목
+     */
+    public synchronized void add(Long lectureId, String title) {
+        if (trie != null) {
+            trie.add(lectureId, key(title));
+        }
+    }
+
+    /**
+     * 트라이가 없거나 오래되었으면 다시 만듭니다. (재구성 스레드에서 실행)
+     */
+    private void rebuildIfStale() {
+        try {
+            Trie current = trie;
+            boolean stale = current == null
+                    || System.currentTimeMillis() - current.builtAt > REBUILD_INTERVAL_MILLIS;
+            if (stale && lectureRanking.isReady()) {
+                rebuild();
+            }
+        } catch (RuntimeException e) {
+            // 예외가 나가면 이후 실행이 취소되므로 기록만 하고 다음 주기에 다시 시도
+            log.warn("강의 자동완성 트라이 재구성 실패", e);
+        }
+    }
+
+    /**
+     * 메모리 랭킹에서 트라이를 새로 만들어 교체합니다.
+     * 조회 중인 요청은 교체 전 트라이로 응답을 마칩니다.
+     */
+    public synchronized void rebuild() {
+        // 인기순으로 추가하면 노드 상위 목록은 앞에서부터 채우기만 하면 됨
+        // 그 사이 개설된 강의는 이 잠금이 풀린 뒤 add()로 추가됨
+        List<LectureListResponseDto> lectures = lectureRanking.ranked(LectureSortTypeDto.POPULAR_COUNT);
+        Trie built = new Trie(lectures.size());
+        for (LectureListResponseDto lecture : lectures) {
+            built.add(lecture.getId(), key(lecture.getTitle()));
+        }
+        trie = built;
+        log.debug("강의 자동완성 트라이 재구성: lectures={}", lectures.size());
+    }
+
+    /**
+     * 검색 색인과 같은 정규화 후 한글 음절을 자모로 분해
+     */
+    private static String key(String text) {
+        return Normalizer.normalize(LectureSearchIndex.normalize(text), Normalizer.Form.NFKD);
+    }
+
+    /**
+     * 마지막 자모가 홑받침이면 초성으로 바꾼 키 ("각" 입력 중 "가계"를 찾기 위함)
+     */
+    private static String carryLastJongseong(String key) {
+        int index = key.charAt(key.length() - 1) - JONGSEONG_BASE;
+        if (index < 0 || index >= JONGSEONG_TO_CHOSEONG.length || JONGSEONG_TO_CHOSEONG[index] == 0) {
+            return null;
+        }
+        return key.substring(0, key.length() - 1) + JONGSEONG_TO_CHOSEONG[index];
+    }
+
+    /**
+     * 한 번 구성한 트라이 (문서 번호는 구성 당시 인기순)
+     */
+    private static final class Trie {
+        private final Node root = new Node();
+        private final Map<Long, Integer> documentIds = new HashMap<>();
+        private final long builtAt = System.currentTimeMillis();
+        private volatile long[] lectureIds;
+        private volatile String[] keys;
+        private int documentCount;
+
+        private Trie(int capacity) {
+            this.lectureIds = new long[Math.max(16, capacity)];
+            this.keys = new String[Math.max(16, capacity)];
+        }
+
+        private void add(Long lectureId, String key) {
+            if (key.isEmpty() || documentIds.containsKey(lectureId)) {
+                return;
+            }
+            int document = documentCount;
+            if (document == lectureIds.length) {
+                keys = Arrays.copyOf(keys, document * 2);
+                lectureIds = Arrays.copyOf(lectureIds, document * 2);
+            }
+            keys[document] = key;
+            lectureIds[document] = lectureId;
+            documentIds.put(lectureId, document);
+            documentCount++;
+
+            // 제목 시작과 각 단어 시작 위치부터 색인
+            for (int start = 0; start < key.length(); start++) {
+                if (start == 0 || key.charAt(start - 1) == ' ') {
+                    insert(key, start, document);
+                }
+            }
+        }
+
+        private void insert(String key, int start, int document) {
+            Node node = root;
+            int end = Math.min(key.length(), start + MAX_DEPTH);
+            for (int i = start; i < end; i++) {
+                node = node.childOrCreate(key.charAt(i));
+                node.offer(document);
+            }
+        }
+
+        private void collect(String prefix, Set<Integer> documents) {
+            int depth = Math.min(prefix.length(), MAX_DEPTH);
+            Node node = root;
+            for (int i = 0; i < depth && node != null; i++) {
+                node = node.child(prefix.charAt(i));
+            }
+            if (node == null) {
+                return;
+            }
+            for (int document : node.top) {
+                // 색인 깊이보다 긴 입력은 실제 제목으로 확인
+                if (prefix.length() <= MAX_DEPTH || matchesWordPrefix(keys[document], prefix)) {
+                    documents.add(document);
+                }
+            }
+        }
+
+        private static boolean matchesWordPrefix(String key, String prefix) {
+            for (int start = 0; start < key.length(); start++) {
+                if ((start == 0 || key.charAt(start - 1) == ' ') && key.startsWith(prefix, start)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 트라이 노드 (자식은 정렬된 문자 배열, 상위 목록은 문서 번호 배열, 모두 쓰기 시 복사)
+     */
+    private static final class Node {
+        private static final Branch EMPTY_BRANCH = new Branch(new char[0], new Node[0]);
+
+        private volatile Branch branch = EMPTY_BRANCH;
+        private volatile int[] top = new int[0];
+
+        private Node child(char c) {
+            Branch current = branch;
+            int index = Arrays.binarySearch(current.chars, c);
+            return index >= 0 ? current.nodes[index] : null;
+        }
+
+        private Node childOrCreate(char c) {
+            Branch current = branch;
+            int index = Arrays.binarySearch(current.chars, c);
+            if (index >= 0) {
+                return current.nodes[index];
+            }
+            int insertAt = -index - 1;
+            int size = current.chars.length;
+            char[] chars = new char[size + 1];
+            Node[] nodes = new Node[size + 1];
+            System.arraycopy(current.chars, 0, chars, 0, insertAt);
+            System.arraycopy(current.nodes, 0, nodes, 0, insertAt);
+            System.arraycopy(current.chars, insertAt, chars, insertAt + 1, size - insertAt);
+            System.arraycopy(current.nodes, insertAt, nodes, insertAt + 1, size - insertAt);
+            Node created = new Node();
+            chars[insertAt] = c;
+            nodes[insertAt] = created;
+            branch = new Branch(chars, nodes);
+            return created;
+        }
+
+        /**
+         * 문서 번호가 작을수록 인기순 앞이므로 자리가 남아 있을 때만 뒤에 추가
+         */
+        private void offer(int document) {
+            int[] current = top;
+            if (current.length == MAX_SUGGESTIONS) {
+                return;
+            }
+            for (int existing : current) {
+                if (existing == document) {
+                    return;
+                }
+            }
+            int[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = document;
+            top = updated;
+        }
+    }
+
+    private static final class Branch {
+        private final char[] chars;
+        private final Node[] nodes;
+
+        private Branch(char[] chars, Node[] nodes) {
+            this.chars = chars;
+            this.nodes = nodes;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.company.wolbu.assignment.lecture.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 강의 데이터 버전 (ETag 생성용)
+ * 강의 개설, 신청/취소가 커밋될 때마다 전체 버전과 해당 강의 버전을 올립니다.
+ * 재시작 후 같은 버전 번호가 다른 데이터를 가리키지 않도록 기동 시각을 ETag에 함께 넣습니다.
+ */
+@Component
+public class LectureVersions {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong globalVersion = new AtomicLong();
+    private final Map<Long, Long> lectureVersions = new ConcurrentHashMap<>();
+
+    /**
+     * 현재 전체 버전 (목록 조회 전에 읽어야 응답 데이터보다 새 버전이 붙지 않음)
+     */
+    public long currentVersion() {
+        return globalVersion.get();
+    }
+
+    /**
+     * 강의 목록 ETag
+     *
+     * @param version 목록을 조회하기 전에 읽은 전체 버전
+     * @return ETag 값
+     */
+    public String listTag(long version) {
+        return "\"" + epoch + "-" + version + "\"";
+    }
+
+    /**
+     * 강의 상세 ETag
+     *
+     * @param lectureId 강의 ID
+     * @return ETag 값
+     */
+    public String lectureTag(Long lectureId) {
+        return "\"" + epoch + "-" + lectureId + "-" + lectureVersions.getOrDefault(lectureId, 0L) + "\"";
+    }
+
+    /**
+     * 강의 신청자 수 변경 반영
+     *
+     * @param lectureId 강의 ID
+     */
+    public void lectureChanged(Long lectureId) {
+        lectureVersions.merge(lectureId, 1L, Long::sum);
+        globalVersion.incrementAndGet();
+    }
+
+    /**
+     * 강의 개설 반영 (목록 구성이 바뀜)
+     */
+    public void lecturesChanged() {
+        globalVersion.incrementAndGet();
+    }
+}
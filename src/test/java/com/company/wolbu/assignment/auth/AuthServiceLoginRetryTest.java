@@ -0,0 +1,88 @@
+package com.company.wolbu.assignment.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.company.wolbu.assignment.auth.domain.Member;
+import com.company.wolbu.assignment.auth.domain.MemberRole;
+import com.company.wolbu.assignment.auth.domain.RefreshToken;
+import com.company.wolbu.assignment.auth.dto.AuthResultDto;
+import com.company.wolbu.assignment.auth.dto.LoginRequestDto;
+import com.company.wolbu.assignment.auth.repository.MemberRepository;
+import com.company.wolbu.assignment.auth.repository.RefreshTokenRepository;
+import com.company.wolbu.assignment.auth.security.JwtProvider;
+import com.company.wolbu.assignment.auth.security.PasswordHashExecutor;
+import com.company.wolbu.assignment.auth.service.AuthService;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 처음 로그인하는 같은 회원의 동시 요청 처리 단위 테스트
+ * (AuthServiceTest는 테스트 트랜잭션 안에서 실행되어 재실행 경로를 확인할 수 없으므로 분리)
+ */
+@ExtendWith(MockitoExtension.class)
+class AuthServiceLoginRetryTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private PasswordHashExecutor passwordHashExecutor;
+
+    @Mock
+    private JwtProvider jwtProvider;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AuthService authService;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        authService = new AuthService(memberRepository, refreshTokenRepository, passwordHashExecutor, jwtProvider,
+                new TransactionTemplate(transactionManager));
+        member = Member.create("홍길동", "hong@example.com", "01012345678", "hash", MemberRole.STUDENT);
+        ReflectionTestUtils.setField(member, "id", 1L);
+    }
+
+    @Test
+    @DisplayName("첫 로그인 INSERT가 동시 요청과 겹쳐 UNIQUE 위반이면 먼저 저장된 행을 UPDATE한다")
+    void login_ConcurrentFirstLogin_RetriesAsUpdate() {
+        // Given
+        LoginRequestDto request = new AuthServiceTest.LoginRequestDtoBuilder().email("hong@example.com")
+                .password("Abc123").build();
+        when(memberRepository.findByEmail("hong@example.com")).thenReturn(Optional.of(member));
+        when(passwordHashExecutor.matches("Abc123", "hash")).thenReturn(true);
+        when(jwtProvider.generateAccessToken(1L, "hong@example.com", MemberRole.STUDENT)).thenReturn("access");
+        when(jwtProvider.generateRefreshToken(1L)).thenReturn("refresh");
+        when(refreshTokenRepository.rotateByMemberId(eq(1L), anyString())).thenReturn(0, 1);
+        when(refreshTokenRepository.saveAndFlush(any(RefreshToken.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate member_id"));
+
+        // When
+        AuthResultDto result = authService.login(request);
+
+        // Then
+        assertThat(result.getRefreshToken()).isEqualTo("refresh");
+        verify(refreshTokenRepository, times(2)).rotateByMemberId(1L, RefreshToken.hash("refresh"));
+        verify(refreshTokenRepository, times(1)).saveAndFlush(any(RefreshToken.class));
+    }
+}
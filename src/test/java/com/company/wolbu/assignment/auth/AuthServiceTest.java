@@ -4,10 +4,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.company.wolbu.assignment.auth.domain.MemberRole;
+import com.company.wolbu.assignment.auth.domain.RefreshToken;
 import com.company.wolbu.assignment.auth.dto.AuthResultDto;
 import com.company.wolbu.assignment.auth.dto.LoginRequestDto;
 import com.company.wolbu.assignment.auth.dto.SignUpRequestDto;
 import com.company.wolbu.assignment.auth.dto.SignUpResponseDto;
+import com.company.wolbu.assignment.auth.repository.RefreshTokenRepository;
 import com.company.wolbu.assignment.auth.service.AuthService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,6 +24,9 @@ class AuthServiceTest {
     @Autowired
     AuthService authService;
 
+    @Autowired
+    RefreshTokenRepository refreshTokenRepository;
+
     @Test
     void signUp_success_and_login_success() {
         SignUpRequestDto s = new SignUpRequestBuilder().name("홍길동").email("hong@example.com").phone("01012345678")
@@ -187,6 +192,33 @@ class AuthServiceTest {
         assertThat(refreshResult.getResponse().getAccessToken()).isNotBlank();
     }
 
+    @Test
+    @DisplayName("로그인과 재발급은 회원당 한 행의 토큰 해시만 교체한다")
+    void refreshToken_RotatesSingleRowDigest() {
+        // Given
+        SignUpRequestDto signUpRequest = new SignUpRequestBuilder().name("홍길동").email("hong@example.com")
+                .phone("01012345678").password("Abc123").role(MemberRole.STUDENT).build();
+        authService.signUp(signUpRequest);
+        LoginRequestDto loginRequest = new LoginRequestDtoBuilder().email("hong@example.com").password("Abc123")
+                .build();
+
+        AuthResultDto firstLogin = authService.login(loginRequest);
+        Long rowId = refreshTokenRepository.findByTokenHash(RefreshToken.hash(firstLogin.getRefreshToken()))
+                .orElseThrow().getId();
+
+        // When
+        AuthResultDto secondLogin = authService.login(loginRequest);
+        AuthResultDto refreshResult = authService.refreshToken(secondLogin.getRefreshToken());
+
+        // Then (같은 행이 최신 토큰 해시를 가지고, 이전 토큰 해시로는 조회되지 않음)
+        assertThat(refreshTokenRepository.findByTokenHash(RefreshToken.hash(refreshResult.getRefreshToken())))
+                .get().extracting(RefreshToken::getId).isEqualTo(rowId);
+        assertThat(refreshTokenRepository.findByTokenHash(RefreshToken.hash(firstLogin.getRefreshToken())))
+                .isEmpty();
+        assertThat(refreshTokenRepository.findByTokenHash(RefreshToken.hash(secondLogin.getRefreshToken())))
+                .isEmpty();
+    }
+
     // 테스트 보조 빌더 (DTO는 setter 미노출이므로 빌더로 생성)
     static class SignUpRequestBuilder {
         private final SignUpRequestDto s = new SignUpRequestDto();
@@ -0,0 +1,62 @@
+package com.company.wolbu.assignment.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.company.wolbu.assignment.auth.security.CalibratedBCryptPasswordEncoder;
+
+/**
+ * CalibratedBCryptPasswordEncoder 단위 테스트
+ * 테스트 시간을 줄이기 위해 BCrypt 최소 비용(4) 근처만 사용합니다.
+ */
+class CalibratedBCryptPasswordEncoderTest {
+
+    @Test
+    @DisplayName("저장된 해시의 비용이 현재 비용보다 낮을 때만 다시 해시 대상이다")
+    void upgradeEncoding_LowerStrengthOnly() {
+        // Given
+        CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(5);
+
+        // When & Then
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("Abc123"))).isTrue();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("Abc123"))).isFalse();
+        assertThat(encoder.upgradeEncoding(encoder.encode("Abc123"))).isFalse();
+        assertThat(encoder.upgradeEncoding("not-a-bcrypt-hash")).isFalse();
+        assertThat(encoder.upgradeEncoding(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("비용이 다른 해시도 비밀번호 비교는 그대로 동작한다")
+    void matches_DifferentStrength() {
+        // Given
+        CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(5);
+        String legacyHash = new BCryptPasswordEncoder(4).encode("Abc123");
+
+        // When & Then
+        assertThat(encoder.matches("Abc123", legacyHash)).isTrue();
+        assertThat(encoder.matches("Abc124", legacyHash)).isFalse();
+    }
+
+    @Test
+    @DisplayName("측정한 비용은 최소/최대 범위 안에 있다")
+    void calibrate_WithinBounds() {
+        // When
+        int strength = CalibratedBCryptPasswordEncoder.calibrate(4, 6, 10_000);
+
+        // Then
+        assertThat(strength).isBetween(4, 6);
+    }
+
+    @Test
+    @DisplayName("최소 비용으로도 목표 시간을 넘으면 최소 비용을 사용한다")
+    void calibrate_TargetTooSmall_MinStrength() {
+        // When
+        int strength = CalibratedBCryptPasswordEncoder.calibrate(4, 6, 0);
+
+        // Then
+        assertThat(strength).isEqualTo(4);
+    }
+}
@@ -150,6 +150,31 @@ class JwtProviderTest {
                 .isInstanceOf(SignatureException.class);
     }
 
+    @Test
+    @DisplayName("서명은 그대로 두고 클레임을 바꾼 토큰 파싱 시 예외 발생")
+    void parse_TamperedPayload_ThrowsException() {
+        // Given - 학생 토큰의 서명에 강사 토큰의 클레임을 붙임
+        String[] student = jwtProvider.generateAccessToken(1L, "student@example.com", MemberRole.STUDENT)
+                .split("\\.");
+        String[] instructor = jwtProvider.generateAccessToken(1L, "student@example.com", MemberRole.INSTRUCTOR)
+                .split("\\.");
+        String tamperedToken = student[0] + "." + instructor[1] + "." + student[2];
+
+        // When & Then
+        assertThatThrownBy(() -> jwtProvider.parse(tamperedToken))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("발급한 토큰은 고정 HS256 헤더를 사용한다")
+    void generateAccessToken_FixedHeader() {
+        // When
+        String token = jwtProvider.generateAccessToken(1L, "test@example.com", MemberRole.STUDENT);
+
+        // Then - {"alg":"HS256"} (헤더가 같아야 검증 시 빠른 경로를 사용)
+        assertThat(token).startsWith("eyJhbGciOiJIUzI1NiJ9.");
+    }
+
     @Test
     @DisplayName("만료된 토큰 파싱 시 예외 발생")
     void parse_ExpiredToken_ThrowsException() {
@@ -0,0 +1,111 @@
+package com.company.wolbu.assignment.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.company.wolbu.assignment.auth.domain.MemberRole;
+import com.company.wolbu.assignment.auth.security.JwtProperties;
+import com.company.wolbu.assignment.auth.security.JwtProvider;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * JWT 검증 처리량 비교 벤치마크
+ * 기존 방식(검증마다 서명 키와 파서 생성)과 JwtProvider의 검증을 한 스레드에서 실행하여
+ * 코어당 초당 검증 토큰 수를 비교합니다.
+ * 시간은 실행 환경에 따라 달라지므로 로그로만 남기고, 두 방식의 검증 결과가 같은지만 검증합니다.
+ * 단위 테스트(test)에서는 제외되며 ./gradlew benchmark로 실행합니다.
+ */
+@Tag("benchmark")
+class JwtVerificationBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtVerificationBenchmarkTest.class);
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-generation-and-validation";
+    private static final int TOKEN_COUNT = 100;
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 50_000;
+
+    private JwtProvider jwtProvider;
+    private String[] tokens;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setAccessTtlSeconds(3600L);
+        properties.setRefreshTtlSeconds(1209600L);
+        jwtProvider = new JwtProvider(properties);
+
+        tokens = new String[TOKEN_COUNT];
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            tokens[i] = jwtProvider.generateAccessToken((long) i + 1, "user" + i + "@example.com",
+                    i % 2 == 0 ? MemberRole.STUDENT : MemberRole.INSTRUCTOR);
+        }
+    }
+
+    @Test
+    @DisplayName("기존 검증과 같은 클레임을 반환한다")
+    void parse_SameClaimsAsLegacy() {
+        for (String token : tokens) {
+            Claims legacy = legacyParse(token);
+            Claims claims = jwtProvider.parse(token);
+
+            assertThat(claims.getSubject()).isEqualTo(legacy.getSubject());
+            assertThat(claims.get("email", String.class)).isEqualTo(legacy.get("email", String.class));
+            assertThat(claims.get("role", String.class)).isEqualTo(legacy.get("role", String.class));
+            assertThat(claims.getIssuedAt()).isEqualTo(legacy.getIssuedAt());
+            assertThat(claims.getExpiration()).isEqualTo(legacy.getExpiration());
+        }
+    }
+
+    @Test
+    @DisplayName("코어당 초당 검증 토큰 수를 비교한다")
+    void parse_Throughput() {
+        Function<String, Claims> legacy = JwtVerificationBenchmarkTest::legacyParse;
+        Function<String, Claims> cached = jwtProvider::parse;
+
+        measure(legacy, WARMUP_ITERATIONS);
+        measure(cached, WARMUP_ITERATIONS);
+        long legacyNanos = measure(legacy, MEASURED_ITERATIONS);
+        long cachedNanos = measure(cached, MEASURED_ITERATIONS);
+
+        log.info("jwt verification (1 thread): legacy={} tokens/s, cached={} tokens/s",
+                MEASURED_ITERATIONS * 1_000_000_000L / legacyNanos,
+                MEASURED_ITERATIONS * 1_000_000_000L / cachedNanos);
+        assertThat(cachedNanos).isPositive();
+    }
+
+    private long measure(Function<String, Claims> parse, int iterations) {
+        long subjects = 0;
+        long started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            subjects += parse.apply(tokens[i % TOKEN_COUNT]).getSubject().length();
+        }
+        long elapsed = System.nanoTime() - started;
+        assertThat(subjects).isPositive();
+        return elapsed;
+    }
+
+    /**
+     * 기존 방식 재현: 검증마다 서명 키와 파서를 새로 생성
+     */
+    private static Claims legacyParse(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
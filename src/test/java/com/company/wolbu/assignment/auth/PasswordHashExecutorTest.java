@@ -0,0 +1,125 @@
+package com.company.wolbu.assignment.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.company.wolbu.assignment.auth.exception.AuthBusyException;
+import com.company.wolbu.assignment.auth.security.PasswordHashExecutor;
+import com.company.wolbu.assignment.auth.security.PasswordHashProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * PasswordHashExecutor 단위 테스트
+ */
+class PasswordHashExecutorTest {
+
+    private CountDownLatch release;
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashExecutor passwordHashExecutor;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        release = new CountDownLatch(0);
+        meterRegistry = new SimpleMeterRegistry();
+        PasswordHashProperties properties = new PasswordHashProperties();
+        properties.setThreads(1);
+        properties.setQueueCapacity(1);
+        properties.setRetryAfterSeconds(2);
+        passwordHashExecutor = new PasswordHashExecutor(new BlockingEncoder(), properties, meterRegistry);
+        callers = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        passwordHashExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("해시 생성과 비교는 전용 실행기에서 계산한 결과를 반환하고 시간을 기록한다")
+    void encodeAndMatches() {
+        // When
+        String hash = passwordHashExecutor.encode("Abc123");
+
+        // Then
+        assertThat(hash).isEqualTo("hashed:Abc123");
+        assertThat(passwordHashExecutor.matches("Abc123", hash)).isTrue();
+        assertThat(passwordHashExecutor.matches("Other1", hash)).isFalse();
+        assertThat(meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("실행 중인 해시와 대기열이 모두 차면 기다리지 않고 재시도 시간과 함께 거절한다")
+    void encode_Saturated_Rejected() throws Exception {
+        // Given (스레드 1개는 해시 중, 대기열 1칸은 대기 중)
+        release = new CountDownLatch(1);
+        Future<String> running = callers.submit(() -> passwordHashExecutor.encode("Abc123"));
+        awaitUntil(() -> queued() == 0 && activeThreads() == 1);
+        Future<String> queued = callers.submit(() -> passwordHashExecutor.encode("Abc124"));
+        awaitUntil(() -> queued() == 1);
+
+        // When & Then
+        assertThatThrownBy(() -> passwordHashExecutor.encode("Abc125"))
+                .isInstanceOf(AuthBusyException.class)
+                .satisfies(e -> assertThat(((AuthBusyException) e).retryAfterSeconds()).isEqualTo(2));
+        assertThat(meterRegistry.get("auth.password.hash.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(3, TimeUnit.SECONDS)).isEqualTo("hashed:Abc123");
+        assertThat(queued.get(3, TimeUnit.SECONDS)).isEqualTo("hashed:Abc124");
+    }
+
+    private double queued() {
+        return meterRegistry.get("executor.queued").tag("name", "passwordHash").gauge().value();
+    }
+
+    private double activeThreads() {
+        return meterRegistry.get("executor.active").tag("name", "passwordHash").gauge().value();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 3000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * release가 열릴 때까지 해시 계산을 붙잡아 두는 테스트용 인코더
+     */
+    private class BlockingEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            try {
+                release.await(3, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.company.wolbu.assignment.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.company.wolbu.assignment.auth.domain.MemberRole;
+import com.company.wolbu.assignment.auth.security.AuthenticatedUser;
+import com.company.wolbu.assignment.auth.security.JwtProperties;
+import com.company.wolbu.assignment.auth.security.VerifiedTokenCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * VerifiedTokenCache 단위 테스트
+ */
+class VerifiedTokenCacheTest {
+
+    private VerifiedTokenCache verifiedTokenCache;
+    private Date expiration;
+
+    @BeforeEach
+    void setUp() {
+        verifiedTokenCache = new VerifiedTokenCache(new JwtProperties(), new SimpleMeterRegistry());
+        expiration = new Date(System.currentTimeMillis() + 3_600_000);
+    }
+
+    @Test
+    @DisplayName("검증된 토큰은 같은 토큰으로 조회하면 인증 사용자를 반환한다")
+    void get_Hit() {
+        // Given
+        AuthenticatedUser user = new AuthenticatedUser(1L, "student@example.com", MemberRole.STUDENT);
+        verifiedTokenCache.put("token-1", user, expiration);
+
+        // When & Then
+        assertThat(verifiedTokenCache.get("token-1")).isSameAs(user);
+        assertThat(verifiedTokenCache.get("token-2")).isNull();
+    }
+
+    @Test
+    @DisplayName("이미 만료되었거나 만료 시각이 없는 토큰은 저장하지 않는다")
+    void put_ExpiredOrWithoutExpiration_NotCached() {
+        // Given
+        AuthenticatedUser user = new AuthenticatedUser(1L, "student@example.com", MemberRole.STUDENT);
+
+        // When
+        verifiedTokenCache.put("expired", user, new Date(System.currentTimeMillis() - 1000));
+        verifiedTokenCache.put("no-exp", user, null);
+
+        // Then
+        assertThat(verifiedTokenCache.get("expired")).isNull();
+        assertThat(verifiedTokenCache.get("no-exp")).isNull();
+    }
+}
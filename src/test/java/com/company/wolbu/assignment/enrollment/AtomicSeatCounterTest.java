@@ -0,0 +1,113 @@
+package com.company.wolbu.assignment.enrollment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.company.wolbu.assignment.enrollment.service.AtomicSeatCounter;
+import com.company.wolbu.assignment.lecture.domain.Lecture;
+import com.company.wolbu.assignment.lecture.exception.LectureNotFoundException;
+import com.company.wolbu.assignment.lecture.repository.LectureRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * AtomicSeatCounter 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class AtomicSeatCounterTest {
+
+    @Mock
+    private LectureRepository lectureRepository;
+
+    @InjectMocks
+    private AtomicSeatCounter seatCounter;
+
+    @Test
+    @DisplayName("최초 접근 시 DB에서 정원과 신청자 수를 적재한다")
+    void tryReserve_LoadsFromDatabaseOnce() {
+        // Given
+        Long lectureId = 1L;
+        when(lectureRepository.findById(lectureId)).thenReturn(Optional.of(lectureWith(3, 2)));
+
+        // When
+        boolean first = seatCounter.tryReserve(lectureId);
+        boolean second = seatCounter.tryReserve(lectureId);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(seatCounter.remainingOf(lectureId)).isZero();
+        verify(lectureRepository, times(1)).findById(lectureId);
+    }
+
+    @Test
+    @DisplayName("동시에 좌석을 선점해도 정원을 초과하지 않는다")
+    void tryReserve_Concurrent_NeverExceedsCapacity() {
+        // Given
+        Long lectureId = 1L;
+        when(lectureRepository.findById(lectureId)).thenReturn(Optional.of(lectureWith(10, 0)));
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        try {
+            // When
+            List<CompletableFuture<Boolean>> futures = IntStream.range(0, 100)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> seatCounter.tryReserve(lectureId), executor))
+                    .toList();
+            long reserved = futures.stream().map(CompletableFuture::join).filter(Boolean::booleanValue).count();
+
+            // Then
+            assertThat(reserved).isEqualTo(10);
+            assertThat(seatCounter.remainingOf(lectureId)).isZero();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("좌석 반환은 정원을 넘어서 늘어나지 않는다")
+    void release_DoesNotExceedCapacity() {
+        // Given
+        Long lectureId = 1L;
+        when(lectureRepository.findById(lectureId)).thenReturn(Optional.of(lectureWith(2, 1)));
+
+        // When
+        seatCounter.release(lectureId); // 아직 적재 전이므로 무시
+        seatCounter.tryReserve(lectureId);
+        seatCounter.release(lectureId);
+        seatCounter.release(lectureId);
+        seatCounter.release(lectureId);
+
+        // Then
+        assertThat(seatCounter.remainingOf(lectureId)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 강의는 예외가 발생한다")
+    void tryReserve_LectureNotFound() {
+        // Given
+        when(lectureRepository.findById(999L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> seatCounter.tryReserve(999L)).isInstanceOf(LectureNotFoundException.class);
+    }
+
+    private Lecture lectureWith(int maxCapacity, int enrolledCount) {
+        Lecture lecture = Lecture.create("강의", maxCapacity, 10000, 1L);
+        ReflectionTestUtils.setField(lecture, "enrolledCount", enrolledCount);
+        return lecture;
+    }
+}
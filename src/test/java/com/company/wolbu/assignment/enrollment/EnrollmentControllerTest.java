@@ -117,6 +117,7 @@ class EnrollmentControllerTest {
     @DisplayName("정원이 가득 찬 강의 신청 시 409를 반환한다")
     void enrollLecture_courseFull_conflict() throws Exception {
         enrollmentRepository.save(Enrollment.create(lectureIdLimited, otherStudentId));
+        lectureRepository.increaseEnrolledCount(lectureIdLimited);
 
         EnrollmentRequestDto request = new EnrollmentRequestDto(List.of(lectureIdLimited));
         String requestJson = objectMapper.writeValueAsString(request);
@@ -129,6 +130,25 @@ class EnrollmentControllerTest {
                 .andExpect(jsonPath("$.data.failedEnrollments[0].errorCode").value("COURSE_FULL"));
     }
 
+    @Test
+    @DisplayName("묶음 신청 중 하나라도 정원이 차 있으면 아무것도 신청되지 않는다")
+    void enrollLectures_allOrNothing_aborted() throws Exception {
+        enrollmentRepository.save(Enrollment.create(lectureIdLimited, otherStudentId));
+        lectureRepository.increaseEnrolledCount(lectureIdLimited);
+
+        EnrollmentRequestDto request = new EnrollmentRequestDto(List.of(lectureIdA, lectureIdLimited), true);
+        String requestJson = objectMapper.writeValueAsString(request);
+
+        mockMvc.perform(post("/api/enrollments").header("Authorization", "Bearer " + studentToken)
+                        .contentType(MediaType.APPLICATION_JSON).content(requestJson)).andExpect(status().isConflict())
+                .andExpect(jsonPath("$.data.successCount").value(0))
+                .andExpect(jsonPath("$.data.failureCount").value(2))
+                .andExpect(jsonPath("$.data.failedEnrollments[0].errorCode").value("BUNDLE_ABORTED"))
+                .andExpect(jsonPath("$.data.failedEnrollments[1].errorCode").value("COURSE_FULL"));
+
+        assertThat(enrollmentRepository.existsActiveByLectureIdAndMemberId(lectureIdA, studentId)).isFalse();
+    }
+
     @Test
     @DisplayName("내 수강 신청 목록을 조회한다")
     void getMyEnrollments_success() throws Exception {
@@ -0,0 +1,199 @@
+package com.company.wolbu.assignment.enrollment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.company.wolbu.assignment.auth.domain.Member;
+import com.company.wolbu.assignment.auth.domain.MemberRole;
+import com.company.wolbu.assignment.auth.repository.MemberRepository;
+import com.company.wolbu.assignment.enrollment.config.EnrollmentProperties;
+import com.company.wolbu.assignment.enrollment.dto.EnrollmentRequestDto;
+import com.company.wolbu.assignment.enrollment.dto.EnrollmentResponseDto;
+import com.company.wolbu.assignment.enrollment.dto.EnrollmentResultDto;
+import com.company.wolbu.assignment.enrollment.exception.CourseFullException;
+import com.company.wolbu.assignment.enrollment.exception.EnrollmentContentionException;
+import com.company.wolbu.assignment.enrollment.service.EnrollmentDispatcher;
+import com.company.wolbu.assignment.enrollment.service.EnrollmentSequencer;
+import com.company.wolbu.assignment.enrollment.service.EnrollmentService;
+import com.company.wolbu.assignment.enrollment.service.OptimisticRetry;
+import com.company.wolbu.assignment.lecture.domain.Lecture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * EnrollmentDispatcher 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class EnrollmentDispatcherTest {
+
+    @Mock
+    private EnrollmentService enrollmentService;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private ObjectProvider<EnrollmentSequencer> sequencerProvider;
+
+    @Mock
+    private EnrollmentSequencer sequencer;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EnrollmentProperties properties;
+    private EnrollmentDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EnrollmentProperties();
+        dispatcher = new EnrollmentDispatcher(enrollmentService, memberRepository, properties, sequencerProvider,
+                new OptimisticRetry(properties, new SimpleMeterRegistry()), transactionManager);
+    }
+
+    @Test
+    @DisplayName("기본 설정에서는 EnrollmentService에 그대로 위임한다")
+    void enrollInLectures_Default_Delegates() {
+        // Given
+        EnrollmentRequestDto request = new EnrollmentRequestDto(List.of(1L, 2L));
+        EnrollmentResultDto expected = new EnrollmentResultDto(List.of(), List.of());
+        when(enrollmentService.enrollInLectures(1L, request)).thenReturn(expected);
+
+        // When & Then
+        assertThat(dispatcher.enrollInLectures(1L, request)).isSameAs(expected);
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
+    @Test
+    @DisplayName("대기열 등록 요청 시 정원 초과로 실패한 강의만 대기열에 등록한다")
+    void enrollInLectures_JoinWaitlist() {
+        // Given
+        EnrollmentRequestDto request = new EnrollmentRequestDto(List.of(1L, 2L), false, true);
+        EnrollmentResultDto result = new EnrollmentResultDto(List.of(), List.of(
+                new EnrollmentResultDto.EnrollmentFailure(1L, "마감 강의", "COURSE_FULL", "정원 초과"),
+                new EnrollmentResultDto.EnrollmentFailure(2L, "신청 강의", "ALREADY_ENROLLED_ACTIVE", "중복")));
+        when(enrollmentService.enrollInLectures(1L, request)).thenReturn(result);
+        when(enrollmentService.joinWaitlist(1L, 1L)).thenReturn(
+                new EnrollmentResponseDto(10L, 1L, "마감 강의", 1L, "WAITLISTED", LocalDateTime.now()));
+
+        // When
+        EnrollmentResultDto waitlisted = dispatcher.enrollInLectures(1L, request);
+
+        // Then
+        assertThat(waitlisted.getSuccessCount()).isZero();
+        assertThat(waitlisted.getWaitlistedCount()).isEqualTo(1);
+        assertThat(waitlisted.getWaitlistedEnrollments().get(0).getStatus()).isEqualTo("WAITLISTED");
+        assertThat(waitlisted.getTotalRequested()).isEqualTo(2);
+        assertThat(waitlisted.getFailedEnrollments()).extracting("errorCode")
+                .containsExactly("ALREADY_ENROLLED_ACTIVE");
+        verify(enrollmentService, never()).joinWaitlist(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("강의별 트랜잭션 설정 시 강의마다 별도 트랜잭션으로 신청한다")
+    void enrollInLectures_PerLectureTransaction() {
+        // Given
+        properties.setPerLectureTransaction(true);
+        EnrollmentRequestDto request = new EnrollmentRequestDto(List.of(2L, 1L));
+        CourseFullException courseFull = new CourseFullException(2L, 10);
+
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(
+                Member.create("홍길동", "test@example.com", "010-1234-5678", "hashedPassword", MemberRole.STUDENT)));
+        when(enrollmentService.enrollInSingleLecture(1L, 1L)).thenReturn(
+                new EnrollmentResponseDto(10L, 1L, "강의", 1L, "CONFIRMED", LocalDateTime.now()));
+        when(enrollmentService.enrollInSingleLecture(1L, 2L)).thenThrow(courseFull);
+        when(enrollmentService.toFailure(2L, courseFull)).thenReturn(
+                new EnrollmentResultDto.EnrollmentFailure(2L, "마감 강의", "COURSE_FULL", courseFull.getMessage()));
+
+        // When
+        EnrollmentResultDto result = dispatcher.enrollInLectures(1L, request);
+
+        // Then
+        assertThat(result.getSuccessCount()).isEqualTo(1);
+        assertThat(result.getSuccessfulEnrollments().get(0).getLectureId()).isEqualTo(1L);
+        assertThat(result.getFailedEnrollments().get(0).getErrorCode()).isEqualTo("COURSE_FULL");
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionManager).commit(any());
+        verify(transactionManager).rollback(any());
+        verify(enrollmentService, never()).enrollInLectures(any(), any());
+    }
+
+    @Test
+    @DisplayName("낙관적 모드에서 버전 충돌이 나면 해당 강의의 트랜잭션을 새로 열어 다시 신청한다")
+    void enrollInLectures_Optimistic_RetriesInNewTransaction() {
+        // Given
+        properties.setConcurrencyMode(EnrollmentProperties.ConcurrencyMode.OPTIMISTIC);
+        properties.setBackoffInitialMillis(0);
+        EnrollmentRequestDto request = new EnrollmentRequestDto(List.of(1L));
+
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(
+                Member.create("홍길동", "test@example.com", "010-1234-5678", "hashedPassword", MemberRole.STUDENT)));
+        when(enrollmentService.enrollInSingleLecture(1L, 1L))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Lecture.class, 1L))
+                .thenReturn(new EnrollmentResponseDto(10L, 1L, "강의", 1L, "CONFIRMED", LocalDateTime.now()));
+
+        // When
+        EnrollmentResultDto result = dispatcher.enrollInLectures(1L, request);
+
+        // Then
+        assertThat(result.getSuccessCount()).isEqualTo(1);
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionManager).rollback(any());
+        verify(transactionManager).commit(any());
+        verify(enrollmentService, never()).enrollInLectures(any(), any());
+    }
+
+    @Test
+    @DisplayName("시퀀서 결과를 기다리다 시간이 지나면 신청을 포기하고 경합 실패로 응답한다")
+    void enrollInLectures_SequencerTimeout_AbandonsCommand() {
+        // Given
+        properties.setSequencerAwaitTimeoutMillis(10);
+        EnrollmentRequestDto request = new EnrollmentRequestDto(List.of(1L));
+        CompletableFuture<EnrollmentResponseDto> pending = new CompletableFuture<>();
+
+        when(sequencerProvider.getIfAvailable()).thenReturn(sequencer);
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(
+                Member.create("홍길동", "test@example.com", "010-1234-5678", "hashedPassword", MemberRole.STUDENT)));
+        when(sequencer.submit(1L, 1L)).thenReturn(pending);
+        when(enrollmentService.toFailure(eq(1L), any(EnrollmentContentionException.class))).thenReturn(
+                new EnrollmentResultDto.EnrollmentFailure(1L, "강의", "ENROLLMENT_CONTENTION", "경합"));
+
+        // When
+        EnrollmentResultDto result = dispatcher.enrollInLectures(1L, request);
+
+        // Then
+        assertThat(result.getFailedEnrollments()).extracting("errorCode").containsExactly("ENROLLMENT_CONTENTION");
+        assertThat(pending.isCancelled()).isTrue();
+    }
+
+    @Test
+    @DisplayName("묶음 신청은 강의별 트랜잭션 설정과 관계없이 하나의 트랜잭션으로 처리한다")
+    void enrollInLectures_AllOrNothing_SingleTransaction() {
+        // Given
+        properties.setPerLectureTransaction(true);
+        EnrollmentRequestDto request = new EnrollmentRequestDto(List.of(1L, 2L), true);
+        EnrollmentResultDto expected = new EnrollmentResultDto(List.of(), List.of());
+        when(enrollmentService.enrollInLectures(1L, request)).thenReturn(expected);
+
+        // When & Then
+        assertThat(dispatcher.enrollInLectures(1L, request)).isSameAs(expected);
+        verify(sequencerProvider, never()).getIfAvailable();
+    }
+}
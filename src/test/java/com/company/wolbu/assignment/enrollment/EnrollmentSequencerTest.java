@@ -0,0 +1,203 @@
+package com.company.wolbu.assignment.enrollment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.company.wolbu.assignment.enrollment.config.EnrollmentProperties;
+import com.company.wolbu.assignment.enrollment.dto.EnrollmentResponseDto;
+import com.company.wolbu.assignment.enrollment.exception.CourseFullException;
+import com.company.wolbu.assignment.enrollment.service.EnrollmentSequencer;
+import com.company.wolbu.assignment.enrollment.service.EnrollmentService;
+import com.company.wolbu.assignment.enrollment.service.LectureBatchAdmission;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionSystemException;
+
+/**
+ * EnrollmentSequencer 단위 테스트
+ */
+class EnrollmentSequencerTest {
+
+    private EnrollmentService enrollmentService;
+    private PlatformTransactionManager transactionManager;
+    private EnrollmentSequencer sequencer;
+
+    @BeforeEach
+    void setUp() {
+        enrollmentService = mock(EnrollmentService.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        EnrollmentProperties properties = new EnrollmentProperties();
+        properties.setSequencerShards(2);
+        properties.setSequencerQueueCapacity(256);
+        sequencer = new EnrollmentSequencer(enrollmentService, transactionManager, properties);
+        sequencer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sequencer.stop();
+    }
+
+    @Test
+    @DisplayName("같은 강의의 신청은 한 스레드에서 순서대로 처리되어 정원을 넘지 않는다")
+    void submit_SameLecture_SerializedAdmission() throws Exception {
+        // Given
+        Long lectureId = 1L;
+        AtomicInteger remaining = new AtomicInteger(10);
+        when(enrollmentService.enrollMembersInLecture(eq(lectureId), anyList())).thenAnswer(invocation -> {
+            List<Long> memberIds = invocation.getArgument(1);
+            LectureBatchAdmission admission = new LectureBatchAdmission(memberIds.size());
+            for (int i = 0; i < memberIds.size(); i++) {
+                Long memberId = memberIds.get(i);
+                if (remaining.get() <= 0) {
+                    admission.reject(i, new CourseFullException(lectureId, 10));
+                } else {
+                    remaining.decrementAndGet();
+                    admission.admit(i, new EnrollmentResponseDto(memberId, lectureId, "강의", memberId, "CONFIRMED",
+                            LocalDateTime.now()));
+                }
+            }
+            return admission;
+        });
+
+        // When
+        List<CompletableFuture<EnrollmentResponseDto>> futures = IntStream.rangeClosed(1, 50)
+                .mapToObj(memberId -> sequencer.submit((long) memberId, lectureId))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .exceptionally(e -> null)
+                .get(5, TimeUnit.SECONDS);
+
+        // Then
+        long admitted = futures.stream().filter(future -> !future.isCompletedExceptionally()).count();
+        assertThat(admitted).isEqualTo(10);
+        assertThat(remaining.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("정원 초과 등 비즈니스 실패는 해당 신청에만 전달된다")
+    void submit_BusinessFailure_CompletesExceptionally() {
+        // Given
+        LectureBatchAdmission admission = new LectureBatchAdmission(1);
+        admission.reject(0, new CourseFullException(2L, 10));
+        when(enrollmentService.enrollMembersInLecture(2L, List.of(1L))).thenReturn(admission);
+
+        // When
+        CompletableFuture<EnrollmentResponseDto> future = sequencer.submit(1L, 2L);
+
+        // Then
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(CourseFullException.class);
+    }
+
+    @Test
+    @DisplayName("일괄 커밋이 실패하면 신청별 트랜잭션으로 다시 처리한다")
+    void submit_BatchCommitFailure_FallsBackToSingle() throws Exception {
+        // Given
+        LectureBatchAdmission admission = new LectureBatchAdmission(1);
+        admission.admit(0, new EnrollmentResponseDto(99L, 3L, "강의", 1L, "CONFIRMED", LocalDateTime.now()));
+        when(enrollmentService.enrollMembersInLecture(3L, List.of(1L))).thenReturn(admission);
+        when(enrollmentService.enrollInSingleLecture(1L, 3L)).thenReturn(
+                new EnrollmentResponseDto(100L, 3L, "강의", 1L, "CONFIRMED", LocalDateTime.now()));
+        AtomicInteger commits = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (commits.getAndIncrement() == 0) {
+                throw new TransactionSystemException("commit failed");
+            }
+            return null;
+        }).when(transactionManager).commit(any());
+
+        // When
+        EnrollmentResponseDto response = sequencer.submit(1L, 3L).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(response.getEnrollmentId()).isEqualTo(100L);
+        assertThat(commits.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 강의의 신청은 한 번의 일괄 처리로 묶인다")
+    void submit_SameLecture_GroupedIntoOneBatch() throws Exception {
+        // Given (첫 신청을 처리하는 동안 나머지 신청이 대기열에 쌓임)
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(enrollmentService.enrollMembersInLecture(eq(4L), anyList())).thenAnswer(invocation -> {
+            List<Long> memberIds = invocation.getArgument(1);
+            if (memberIds.contains(1L)) {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            LectureBatchAdmission admission = new LectureBatchAdmission(memberIds.size());
+            for (int i = 0; i < memberIds.size(); i++) {
+                admission.admit(i, new EnrollmentResponseDto(memberIds.get(i), 4L, "강의", memberIds.get(i),
+                        "CONFIRMED", LocalDateTime.now()));
+            }
+            return admission;
+        });
+        CompletableFuture<EnrollmentResponseDto> first = sequencer.submit(1L, 4L);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        List<CompletableFuture<EnrollmentResponseDto>> queued = List.of(
+                sequencer.submit(2L, 4L), sequencer.submit(3L, 4L), sequencer.submit(4L, 4L));
+
+        // When
+        release.countDown();
+
+        // Then
+        assertThat(first.get(5, TimeUnit.SECONDS).getMemberId()).isEqualTo(1L);
+        for (CompletableFuture<EnrollmentResponseDto> future : queued) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+        verify(enrollmentService).enrollMembersInLecture(4L, List.of(2L, 3L, 4L));
+        verify(enrollmentService, never()).enrollInSingleLecture(any(), any());
+    }
+
+    @Test
+    @DisplayName("처리 전에 요청 스레드가 포기한 신청은 처리하지 않는다")
+    void submit_Abandoned_Skipped() throws Exception {
+        // Given (첫 신청을 처리하는 동안 두 번째 신청이 대기열에 있음)
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(enrollmentService.enrollMembersInLecture(eq(5L), anyList())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            LectureBatchAdmission admission = new LectureBatchAdmission(1);
+            admission.admit(0, new EnrollmentResponseDto(1L, 5L, "강의", 1L, "CONFIRMED", LocalDateTime.now()));
+            return admission;
+        });
+        CompletableFuture<EnrollmentResponseDto> first = sequencer.submit(1L, 5L);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<EnrollmentResponseDto> abandoned = sequencer.submit(2L, 5L);
+
+        // When
+        boolean canceled = abandoned.cancel(false);
+        release.countDown();
+
+        // Then
+        assertThat(canceled).isTrue();
+        assertThat(first.get(5, TimeUnit.SECONDS).getMemberId()).isEqualTo(1L);
+        assertThat(first.cancel(false)).isFalse();
+        // 같은 샤드의 다음 신청이 끝나면 앞선 대기열 처리도 끝난 상태
+        sequencer.submit(3L, 7L).exceptionally(e -> null).get(5, TimeUnit.SECONDS);
+        verify(enrollmentService, never()).enrollMembersInLecture(5L, List.of(2L));
+    }
+}
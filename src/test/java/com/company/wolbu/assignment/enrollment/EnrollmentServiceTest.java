@@ -3,32 +3,55 @@ package com.company.wolbu.assignment.enrollment;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.company.wolbu.assignment.auth.domain.Member;
 import com.company.wolbu.assignment.auth.domain.MemberRole;
 import com.company.wolbu.assignment.auth.repository.MemberRepository;
 import com.company.wolbu.assignment.enrollment.domain.Enrollment;
+import com.company.wolbu.assignment.enrollment.domain.EnrollmentStatus;
 import com.company.wolbu.assignment.enrollment.dto.EnrollmentRequestDto;
 import com.company.wolbu.assignment.enrollment.dto.EnrollmentResponseDto;
 import com.company.wolbu.assignment.enrollment.dto.EnrollmentResultDto;
 import com.company.wolbu.assignment.enrollment.exception.AlreadyCanceledException;
+import com.company.wolbu.assignment.enrollment.exception.AlreadyEnrolledException;
+import com.company.wolbu.assignment.enrollment.exception.CourseFullException;
 import com.company.wolbu.assignment.enrollment.exception.EnrollmentNotFoundException;
 import com.company.wolbu.assignment.enrollment.exception.MemberNotFoundException;
 import com.company.wolbu.assignment.enrollment.exception.UnauthorizedEnrollmentException;
 import com.company.wolbu.assignment.enrollment.repository.EnrollmentRepository;
 import com.company.wolbu.assignment.enrollment.service.EnrollmentService;
+import com.company.wolbu.assignment.enrollment.service.LectureBatchAdmission;
+import com.company.wolbu.assignment.enrollment.service.SeatAdmission;
+import com.company.wolbu.assignment.enrollment.service.SeatCounter;
+import com.company.wolbu.assignment.enrollment.service.WaitlistRegistry;
 import com.company.wolbu.assignment.lecture.domain.Lecture;
+import com.company.wolbu.assignment.lecture.dto.LectureMetadata;
+import com.company.wolbu.assignment.lecture.exception.LectureNotFoundException;
 import com.company.wolbu.assignment.lecture.repository.LectureRepository;
+import com.company.wolbu.assignment.lecture.service.LectureListCache;
+import com.company.wolbu.assignment.lecture.service.LectureMetadataCache;
+import com.company.wolbu.assignment.lecture.service.LectureRanking;
+import com.company.wolbu.assignment.lecture.service.LectureVersions;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /**
  * EnrollmentService 단위 테스트
@@ -45,6 +68,27 @@ class EnrollmentServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private SeatCounter seatCounter;
+
+    @Mock
+    private SeatAdmission seatAdmission;
+
+    @Mock
+    private WaitlistRegistry waitlistRegistry;
+
+    @Mock
+    private LectureRanking lectureRanking;
+
+    @Mock
+    private LectureListCache lectureListCache;
+
+    @Mock
+    private LectureVersions lectureVersions;
+
+    @Mock
+    private LectureMetadataCache lectureMetadataCache;
+
     @InjectMocks
     private EnrollmentService enrollmentService;
 
@@ -66,9 +110,10 @@ class EnrollmentServiceTest {
         EnrollmentRequestDto request = new EnrollmentRequestDto(List.of(lectureId));
 
         when(memberRepository.findById(memberId)).thenReturn(Optional.of(testMember));
-        when(lectureRepository.findByIdWithLock(lectureId)).thenReturn(Optional.of(testLecture));
+        when(seatCounter.tryReserve(lectureId)).thenReturn(true);
+        when(lectureMetadataCache.get(lectureId)).thenReturn(LectureMetadata.from(testLecture));
         when(enrollmentRepository.existsActiveByLectureIdAndMemberId(lectureId, memberId)).thenReturn(false);
-        when(enrollmentRepository.countActiveByLectureId(lectureId)).thenReturn(5L);
+        when(seatAdmission.tryAdmit(lectureId)).thenReturn(true);
         when(enrollmentRepository.findByLectureIdAndMemberId(lectureId, memberId)).thenReturn(Optional.empty());
         when(enrollmentRepository.save(any(Enrollment.class))).thenAnswer(invocation -> {
             Enrollment enrollment = invocation.getArgument(0);
@@ -95,11 +140,11 @@ class EnrollmentServiceTest {
         EnrollmentRequestDto request = new EnrollmentRequestDto(List.of(lectureId));
 
         when(memberRepository.findById(memberId)).thenReturn(Optional.of(testMember));
-        when(lectureRepository.findByIdWithLock(lectureId)).thenReturn(Optional.of(testLecture));
-        when(lectureRepository.findById(lectureId)).thenReturn(Optional.of(testLecture));
+        when(seatCounter.tryReserve(lectureId)).thenReturn(true);
+        when(lectureMetadataCache.get(lectureId)).thenReturn(LectureMetadata.from(testLecture));
         when(enrollmentRepository.existsActiveByLectureIdAndMemberId(lectureId, memberId)).thenReturn(false);
-        // 정원(10명)과 같은 수의 신청자
-        when(enrollmentRepository.countActiveByLectureId(lectureId)).thenReturn(10L);
+        // 정원(10명)이 가득 차 좌석 확보 실패
+        when(seatAdmission.tryAdmit(lectureId)).thenReturn(false);
 
         // When
         EnrollmentResultDto result = enrollmentService.enrollInLectures(memberId, request);
@@ -111,6 +156,49 @@ class EnrollmentServiceTest {
         assertThat(result.getFailedEnrollments().get(0).getErrorCode()).isEqualTo("COURSE_FULL");
     }
 
+    @Test
+    @DisplayName("좌석 카운터가 가득 찬 강의는 DB 갱신 없이 거절된다")
+    void enrollInLectures_SeatCounterFull_RejectsWithoutUpdate() {
+        // Given
+        Long memberId = 1L;
+        Long lectureId = 1L;
+        EnrollmentRequestDto request = new EnrollmentRequestDto(List.of(lectureId));
+
+        when(memberRepository.findById(memberId)).thenReturn(Optional.of(testMember));
+        when(seatCounter.tryReserve(lectureId)).thenReturn(false);
+        when(seatCounter.capacityOf(lectureId)).thenReturn(10);
+        when(lectureMetadataCache.get(lectureId)).thenReturn(LectureMetadata.from(testLecture));
+
+        // When
+        EnrollmentResultDto result = enrollmentService.enrollInLectures(memberId, request);
+
+        // Then
+        assertThat(result.getSuccessCount()).isEqualTo(0);
+        assertThat(result.getFailedEnrollments().get(0).getErrorCode()).isEqualTo("COURSE_FULL");
+        verify(seatAdmission, never()).tryAdmit(anyLong());
+    }
+
+    @Test
+    @DisplayName("DB 정원 검증에 실패하면 선점한 좌석을 반환한다")
+    void enrollInLectures_CourseFull_ReleasesReservedSeat() {
+        // Given
+        Long memberId = 1L;
+        Long lectureId = 1L;
+        EnrollmentRequestDto request = new EnrollmentRequestDto(List.of(lectureId));
+
+        when(memberRepository.findById(memberId)).thenReturn(Optional.of(testMember));
+        when(seatCounter.tryReserve(lectureId)).thenReturn(true);
+        when(lectureMetadataCache.get(lectureId)).thenReturn(LectureMetadata.from(testLecture));
+        when(enrollmentRepository.existsActiveByLectureIdAndMemberId(lectureId, memberId)).thenReturn(false);
+        when(seatAdmission.tryAdmit(lectureId)).thenReturn(false);
+
+        // When
+        enrollmentService.enrollInLectures(memberId, request);
+
+        // Then
+        verify(seatCounter).release(lectureId);
+    }
+
     @Test
     @DisplayName("중복 신청으로 인한 강의 신청 실패")
     void enrollInLectures_DuplicateEnrollment() {
@@ -120,9 +208,9 @@ class EnrollmentServiceTest {
         EnrollmentRequestDto request = new EnrollmentRequestDto(List.of(lectureId));
 
         when(memberRepository.findById(memberId)).thenReturn(Optional.of(testMember));
+        when(seatCounter.tryReserve(lectureId)).thenReturn(true);
         // 이미 신청한 상태
-        when(lectureRepository.findByIdWithLock(lectureId)).thenReturn(Optional.of(testLecture));
-        when(lectureRepository.findById(lectureId)).thenReturn(Optional.of(testLecture));
+        when(lectureMetadataCache.get(lectureId)).thenReturn(LectureMetadata.from(testLecture));
         when(enrollmentRepository.existsActiveByLectureIdAndMemberId(lectureId, memberId)).thenReturn(true);
 
         // When
@@ -135,6 +223,34 @@ class EnrollmentServiceTest {
         assertThat(result.getFailedEnrollments().get(0).getErrorCode()).isEqualTo("ALREADY_ENROLLED_ACTIVE");
     }
 
+    @Test
+    @DisplayName("동시 요청으로 이미 활성화된 신청이면 증가시킨 신청자 수를 되돌린다")
+    void enrollInLectures_ConcurrentDuplicate_RevertsEnrolledCount() {
+        // Given
+        Long memberId = 1L;
+        Long lectureId = 1L;
+        EnrollmentRequestDto request = new EnrollmentRequestDto(List.of(lectureId));
+
+        when(memberRepository.findById(memberId)).thenReturn(Optional.of(testMember));
+        when(seatCounter.tryReserve(lectureId)).thenReturn(true);
+        when(lectureMetadataCache.get(lectureId)).thenReturn(LectureMetadata.from(testLecture));
+        when(enrollmentRepository.existsActiveByLectureIdAndMemberId(lectureId, memberId)).thenReturn(false);
+        when(seatAdmission.tryAdmit(lectureId)).thenReturn(true);
+        when(enrollmentRepository.findByLectureIdAndMemberId(lectureId, memberId)).thenReturn(
+                Optional.of(Enrollment.create(lectureId, memberId)));
+
+        // When
+        EnrollmentResultDto result = enrollmentService.enrollInLectures(memberId, request);
+
+        // Then
+        assertThat(result.getFailedEnrollments().get(0).getErrorCode()).isEqualTo("ALREADY_ENROLLED_ACTIVE");
+        verify(lectureRepository).decreaseEnrolledCount(lectureId);
+        verify(seatCounter).release(lectureId);
+        verify(lectureRanking).adjust(lectureId, -1);
+        verify(lectureVersions).lectureChanged(lectureId);
+        verify(lectureListCache).evictLecture(lectureId);
+    }
+
     @Test
     @DisplayName("존재하지 않는 회원으로 강의 신청 시 예외 발생")
     void enrollInLectures_MemberNotFound() {
@@ -161,18 +277,18 @@ class EnrollmentServiceTest {
         Lecture fullLecture = Lecture.create("정원 초과 강의", 5, 30000, 1L);
 
         when(memberRepository.findById(memberId)).thenReturn(Optional.of(testMember));
-        when(lectureRepository.findByIdWithLock(lectureId1)).thenReturn(Optional.of(testLecture));
-        when(lectureRepository.findByIdWithLock(lectureId2)).thenReturn(Optional.of(fullLecture));
-        when(lectureRepository.findById(lectureId2)).thenReturn(Optional.of(fullLecture));
+        when(seatCounter.tryReserve(anyLong())).thenReturn(true);
+        when(lectureMetadataCache.get(lectureId1)).thenReturn(LectureMetadata.from(testLecture));
+        when(lectureMetadataCache.get(lectureId2)).thenReturn(LectureMetadata.from(fullLecture));
 
         // 첫 번째 강의: 성공 조건
         when(enrollmentRepository.existsActiveByLectureIdAndMemberId(lectureId1, memberId)).thenReturn(false);
-        when(enrollmentRepository.countActiveByLectureId(lectureId1)).thenReturn(3L);
+        when(seatAdmission.tryAdmit(lectureId1)).thenReturn(true);
         when(enrollmentRepository.findByLectureIdAndMemberId(lectureId1, memberId)).thenReturn(Optional.empty());
 
         // 두 번째 강의: 정원 초과
         when(enrollmentRepository.existsActiveByLectureIdAndMemberId(lectureId2, memberId)).thenReturn(false);
-        when(enrollmentRepository.countActiveByLectureId(lectureId2)).thenReturn(5L);
+        when(seatAdmission.tryAdmit(lectureId2)).thenReturn(false);
 
         when(enrollmentRepository.save(any(Enrollment.class))).thenAnswer(invocation -> {
             Enrollment enrollment = invocation.getArgument(0);
@@ -191,6 +307,166 @@ class EnrollmentServiceTest {
         assertThat(result.getFailedEnrollments().get(0).getErrorCode()).isEqualTo("COURSE_FULL");
     }
 
+    @Test
+    @DisplayName("여러 강의 일괄 신청 - 강의별 쿼리 없이 일부 성공, 일부 실패")
+    void enrollInLectures_Batch_PartialSuccess() {
+        // Given
+        Long memberId = 1L;
+        EnrollmentRequestDto request = new EnrollmentRequestDto(List.of(3L, 1L, 2L));
+
+        Lecture lecture1 = lectureWithId(1L, "여유 강의", 10);
+        Lecture lecture2 = lectureWithId(2L, "정원 초과 강의", 5);
+        Lecture lecture3 = lectureWithId(3L, "재수강 강의", 10);
+        ReflectionTestUtils.setField(lecture1, "enrolledCount", 3);
+        ReflectionTestUtils.setField(lecture2, "enrolledCount", 5);
+        ReflectionTestUtils.setField(lecture3, "enrolledCount", 4);
+        Enrollment canceledEnrollment = Enrollment.create(3L, memberId);
+        canceledEnrollment.cancel();
+
+        when(memberRepository.findById(memberId)).thenReturn(Optional.of(testMember));
+        when(seatAdmission.supportsBatch()).thenReturn(true);
+        when(seatCounter.tryReserve(anyLong())).thenReturn(true);
+        when(lectureRepository.findAllByIdInWithLock(any())).thenReturn(List.of(lecture1, lecture2, lecture3));
+        when(enrollmentRepository.findByMemberIdAndLectureIdIn(eq(memberId), any())).thenReturn(
+                List.of(canceledEnrollment));
+        when(lectureRepository.increaseEnrolledCountIn(any())).thenReturn(2);
+
+        // When
+        EnrollmentResultDto result = enrollmentService.enrollInLectures(memberId, request);
+
+        // Then
+        assertThat(result.getSuccessCount()).isEqualTo(2);
+        assertThat(result.getSuccessfulEnrollments()).extracting(EnrollmentResponseDto::getLectureId)
+                .containsExactly(1L, 3L);
+        assertThat(result.getFailedEnrollments()).hasSize(1);
+        assertThat(result.getFailedEnrollments().get(0).getLectureId()).isEqualTo(2L);
+        assertThat(result.getFailedEnrollments().get(0).getLectureTitle()).isEqualTo("정원 초과 강의");
+        assertThat(result.getFailedEnrollments().get(0).getErrorCode()).isEqualTo("COURSE_FULL");
+        assertThat(canceledEnrollment.isActive()).isTrue();
+
+        verify(lectureRepository).increaseEnrolledCountIn(Set.of(1L, 3L));
+        verify(enrollmentRepository).persistAll(argThat(enrollments -> enrollments.size() == 1));
+        verify(seatCounter).release(2L);
+        verify(lectureRepository, never()).findById(anyLong());
+        verify(enrollmentRepository, never()).existsActiveByLectureIdAndMemberId(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("한 강의 여러 회원 일괄 신청 - 신청자 수는 한 번에 갱신하고 중복/활성 신청은 거절한다")
+    void enrollMembersInLecture_SingleUpdate() {
+        // Given
+        Long lectureId = 1L;
+        Enrollment activeEnrollment = Enrollment.create(lectureId, 2L);
+        Enrollment canceledEnrollment = Enrollment.create(lectureId, 3L);
+        canceledEnrollment.cancel();
+
+        when(lectureMetadataCache.get(lectureId)).thenReturn(LectureMetadata.from(testLecture));
+        when(seatCounter.tryReserve(lectureId)).thenReturn(true);
+        when(enrollmentRepository.findByLectureIdAndMemberIdIn(eq(lectureId), any())).thenReturn(
+                List.of(activeEnrollment, canceledEnrollment));
+        when(lectureRepository.increaseEnrolledCountBy(lectureId, 2)).thenReturn(1);
+
+        // When
+        LectureBatchAdmission admission = enrollmentService.enrollMembersInLecture(lectureId,
+                List.of(1L, 2L, 3L, 1L));
+
+        // Then
+        assertThat(admission.responseAt(0).getMemberId()).isEqualTo(1L);
+        assertThat(admission.failureAt(1)).isInstanceOf(AlreadyEnrolledException.class);
+        assertThat(admission.responseAt(2).getMemberId()).isEqualTo(3L);
+        assertThat(admission.failureAt(3)).isInstanceOf(AlreadyEnrolledException.class);
+        assertThat(canceledEnrollment.isActive()).isTrue();
+
+        verify(lectureRepository).increaseEnrolledCountBy(lectureId, 2);
+        verify(enrollmentRepository).persistAll(argThat(enrollments -> enrollments.size() == 1));
+        verify(seatCounter).release(lectureId);
+        verify(seatAdmission, never()).tryAdmit(anyLong());
+    }
+
+    @Test
+    @DisplayName("여러 강의 일괄 신청 - 좌석 카운터에서 거절된 강의는 잠그지 않는다")
+    void enrollInLectures_Batch_SeatCounterRejectedNotLocked() {
+        // Given
+        Long memberId = 1L;
+        EnrollmentRequestDto request = new EnrollmentRequestDto(List.of(1L, 2L));
+
+        Lecture lecture1 = lectureWithId(1L, "여유 강의", 10);
+        Lecture lecture2 = lectureWithId(2L, "마감 강의", 5);
+
+        when(memberRepository.findById(memberId)).thenReturn(Optional.of(testMember));
+        when(seatAdmission.supportsBatch()).thenReturn(true);
+        when(seatCounter.tryReserve(1L)).thenReturn(true);
+        when(seatCounter.tryReserve(2L)).thenReturn(false);
+        when(lectureRepository.findAllByIdInWithLock(any())).thenReturn(List.of(lecture1));
+        when(enrollmentRepository.findByMemberIdAndLectureIdIn(eq(memberId), any())).thenReturn(List.of());
+        when(lectureMetadataCache.getAll(Set.of(2L))).thenReturn(Map.of(2L, LectureMetadata.from(lecture2)));
+        when(lectureRepository.increaseEnrolledCountIn(any())).thenReturn(1);
+
+        // When
+        EnrollmentResultDto result = enrollmentService.enrollInLectures(memberId, request);
+
+        // Then
+        assertThat(result.getSuccessCount()).isEqualTo(1);
+        assertThat(result.getFailedEnrollments().get(0).getLectureId()).isEqualTo(2L);
+        assertThat(result.getFailedEnrollments().get(0).getErrorCode()).isEqualTo("COURSE_FULL");
+        verify(lectureRepository).findAllByIdInWithLock(Set.of(1L));
+        verify(seatCounter, never()).release(anyLong());
+    }
+
+    @Test
+    @DisplayName("묶음 신청 - 하나라도 실패하면 아무것도 저장하지 않는다")
+    void enrollInLectures_AllOrNothing_AbortsWhenAnyFails() {
+        // Given
+        Long memberId = 1L;
+        EnrollmentRequestDto request = new EnrollmentRequestDto(List.of(1L, 2L), true);
+
+        Lecture lecture1 = lectureWithId(1L, "여유 강의", 10);
+        Lecture lecture2 = lectureWithId(2L, "정원 초과 강의", 5);
+        ReflectionTestUtils.setField(lecture1, "enrolledCount", 3);
+        ReflectionTestUtils.setField(lecture2, "enrolledCount", 5);
+
+        when(memberRepository.findById(memberId)).thenReturn(Optional.of(testMember));
+        when(seatCounter.tryReserve(anyLong())).thenReturn(true);
+        when(lectureRepository.findAllByIdInWithLock(any())).thenReturn(List.of(lecture1, lecture2));
+        when(enrollmentRepository.findByMemberIdAndLectureIdIn(eq(memberId), any())).thenReturn(List.of());
+
+        // When
+        EnrollmentResultDto result = enrollmentService.enrollInLectures(memberId, request);
+
+        // Then
+        assertThat(result.getSuccessCount()).isEqualTo(0);
+        assertThat(result.getFailedEnrollments()).extracting(EnrollmentResultDto.EnrollmentFailure::getErrorCode)
+                .containsExactly("BUNDLE_ABORTED", "COURSE_FULL");
+        verify(lectureRepository, never()).increaseEnrolledCountIn(any());
+        verify(enrollmentRepository, never()).persistAll(any());
+        verify(seatCounter).release(1L);
+        verify(seatCounter).release(2L);
+    }
+
+    @Test
+    @DisplayName("묶음 신청 - 좌석 카운터에서 거절되면 잠금 없이 중단한다")
+    void enrollInLectures_AllOrNothing_SeatCounterRejected_NoLock() {
+        // Given
+        Long memberId = 1L;
+        EnrollmentRequestDto request = new EnrollmentRequestDto(List.of(1L, 2L), true);
+
+        when(memberRepository.findById(memberId)).thenReturn(Optional.of(testMember));
+        when(seatCounter.tryReserve(1L)).thenReturn(true);
+        when(seatCounter.tryReserve(2L)).thenReturn(false);
+        when(lectureMetadataCache.getAll(Set.of(1L, 2L))).thenReturn(Map.of(
+                1L, LectureMetadata.from(lectureWithId(1L, "여유 강의", 10)),
+                2L, LectureMetadata.from(lectureWithId(2L, "마감 강의", 5))));
+
+        // When
+        EnrollmentResultDto result = enrollmentService.enrollInLectures(memberId, request);
+
+        // Then
+        assertThat(result.getFailedEnrollments()).extracting(EnrollmentResultDto.EnrollmentFailure::getErrorCode)
+                .containsExactly("BUNDLE_ABORTED", "COURSE_FULL");
+        verify(lectureRepository, never()).findAllByIdInWithLock(any());
+        verify(seatCounter).release(1L);
+    }
+
     @Test
     @DisplayName("재수강 허용 - 취소된 강의를 다시 신청할 수 있다")
     void enrollInLectures_ReEnrollmentAllowed() {
@@ -204,9 +480,10 @@ class EnrollmentServiceTest {
         canceledEnrollment.cancel();
 
         when(memberRepository.findById(memberId)).thenReturn(Optional.of(testMember));
-        when(lectureRepository.findByIdWithLock(lectureId)).thenReturn(Optional.of(testLecture));
+        when(seatCounter.tryReserve(lectureId)).thenReturn(true);
+        when(lectureMetadataCache.get(lectureId)).thenReturn(LectureMetadata.from(testLecture));
         when(enrollmentRepository.existsActiveByLectureIdAndMemberId(lectureId, memberId)).thenReturn(false);
-        when(enrollmentRepository.countActiveByLectureId(lectureId)).thenReturn(5L);
+        when(seatAdmission.tryAdmit(lectureId)).thenReturn(true);
         when(enrollmentRepository.findByLectureIdAndMemberId(lectureId, memberId)).thenReturn(
                 Optional.of(canceledEnrollment));
         when(enrollmentRepository.save(any(Enrollment.class))).thenAnswer(invocation -> invocation.getArgument(0));
@@ -235,8 +512,10 @@ class EnrollmentServiceTest {
 
         Enrollment activeEnrollment = Enrollment.create(lectureId, memberId);
 
-        when(enrollmentRepository.findById(enrollmentId)).thenReturn(Optional.of(activeEnrollment));
+        when(enrollmentRepository.findLectureIdById(enrollmentId)).thenReturn(Optional.of(lectureId));
         when(lectureRepository.findByIdWithLock(lectureId)).thenReturn(Optional.of(testLecture));
+        when(enrollmentRepository.findById(enrollmentId)).thenReturn(Optional.of(activeEnrollment));
+        when(lectureRepository.decreaseEnrolledCount(lectureId)).thenReturn(1);
         when(enrollmentRepository.save(any(Enrollment.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
@@ -245,6 +524,11 @@ class EnrollmentServiceTest {
         // Then
         assertThat(activeEnrollment.isCanceled()).isTrue();
         assertThat(activeEnrollment.isActive()).isFalse();
+        InOrder inOrder = inOrder(lectureRepository, enrollmentRepository);
+        inOrder.verify(lectureRepository).findByIdWithLock(lectureId);
+        inOrder.verify(enrollmentRepository).findById(enrollmentId);
+        verify(lectureRepository).decreaseEnrolledCount(lectureId);
+        verify(seatCounter).release(lectureId);
     }
 
     @Test
@@ -254,11 +538,29 @@ class EnrollmentServiceTest {
         Long memberId = 1L;
         Long enrollmentId = 999L;
 
-        when(enrollmentRepository.findById(enrollmentId)).thenReturn(Optional.empty());
+        when(enrollmentRepository.findLectureIdById(enrollmentId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> enrollmentService.cancelEnrollment(memberId, enrollmentId)).isInstanceOf(
                 EnrollmentNotFoundException.class).hasMessage("수강 신청을 찾을 수 없습니다. (ID: 999)");
+        verify(lectureRepository, never()).findByIdWithLock(anyLong());
+    }
+
+    @Test
+    @DisplayName("취소할 수강 신청의 강의가 없으면 예외 발생")
+    void cancelEnrollment_LectureNotFound() {
+        // Given
+        Long memberId = 1L;
+        Long enrollmentId = 100L;
+        Long lectureId = 999L;
+
+        when(enrollmentRepository.findLectureIdById(enrollmentId)).thenReturn(Optional.of(lectureId));
+        when(lectureRepository.findByIdWithLock(lectureId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> enrollmentService.cancelEnrollment(memberId, enrollmentId)).isInstanceOf(
+                LectureNotFoundException.class);
+        verify(enrollmentRepository, never()).findById(anyLong());
     }
 
     @Test
@@ -272,6 +574,8 @@ class EnrollmentServiceTest {
 
         Enrollment otherMemberEnrollment = Enrollment.create(lectureId, actualMemberId);
 
+        when(enrollmentRepository.findLectureIdById(enrollmentId)).thenReturn(Optional.of(lectureId));
+        when(lectureRepository.findByIdWithLock(lectureId)).thenReturn(Optional.of(testLecture));
         when(enrollmentRepository.findById(enrollmentId)).thenReturn(Optional.of(otherMemberEnrollment));
 
         // When & Then
@@ -290,6 +594,8 @@ class EnrollmentServiceTest {
         Enrollment canceledEnrollment = Enrollment.create(lectureId, memberId);
         canceledEnrollment.cancel(); // 미리 취소 상태로 변경
 
+        when(enrollmentRepository.findLectureIdById(enrollmentId)).thenReturn(Optional.of(lectureId));
+        when(lectureRepository.findByIdWithLock(lectureId)).thenReturn(Optional.of(testLecture));
         when(enrollmentRepository.findById(enrollmentId)).thenReturn(Optional.of(canceledEnrollment));
 
         // When & Then
@@ -310,9 +616,12 @@ class EnrollmentServiceTest {
         Enrollment enrollment2 = Enrollment.createWithLecture(lectureId2, memberId, lecture2);
 
         when(memberRepository.existsById(memberId)).thenReturn(true);
-        when(enrollmentRepository.findByMemberIdAndStatus(memberId,
-                com.company.wolbu.assignment.enrollment.domain.EnrollmentStatus.CONFIRMED)).thenReturn(
+        when(enrollmentRepository.findByMemberIdAndStatusIn(memberId,
+                List.of(EnrollmentStatus.CONFIRMED, EnrollmentStatus.WAITLISTED))).thenReturn(
                 List.of(enrollment1, enrollment2));
+        when(lectureMetadataCache.getAll(Set.of(lectureId1, lectureId2))).thenReturn(Map.of(
+                lectureId1, LectureMetadata.from(testLecture),
+                lectureId2, LectureMetadata.from(lecture2)));
 
         // When
         List<EnrollmentResponseDto> result = enrollmentService.getEnrollmentsByMember(memberId);
@@ -350,8 +659,8 @@ class EnrollmentServiceTest {
         Long memberId = 1L;
 
         when(memberRepository.existsById(memberId)).thenReturn(true);
-        when(enrollmentRepository.findByMemberIdAndStatus(memberId,
-                com.company.wolbu.assignment.enrollment.domain.EnrollmentStatus.CONFIRMED)).thenReturn(List.of());
+        when(enrollmentRepository.findByMemberIdAndStatusIn(memberId,
+                List.of(EnrollmentStatus.CONFIRMED, EnrollmentStatus.WAITLISTED))).thenReturn(List.of());
 
         // When
         List<EnrollmentResponseDto> result = enrollmentService.getEnrollmentsByMember(memberId);
@@ -359,4 +668,159 @@ class EnrollmentServiceTest {
         // Then
         assertThat(result).isEmpty();
     }
+
+    @Test
+    @DisplayName("선점 좌석 확정은 좌석을 다시 선점하지 않고, DB 정원 검증 실패 시 좌석을 반환한다")
+    void confirmHeldSeat_CourseFull_ReleasesSeat() {
+        // Given
+        Long memberId = 1L;
+        Long lectureId = 1L;
+        when(lectureMetadataCache.get(lectureId)).thenReturn(LectureMetadata.from(testLecture));
+        when(enrollmentRepository.existsActiveByLectureIdAndMemberId(lectureId, memberId)).thenReturn(false);
+        when(seatAdmission.tryAdmit(lectureId)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> enrollmentService.confirmHeldSeat(memberId, lectureId))
+                .isInstanceOf(CourseFullException.class);
+        verify(seatCounter, never()).tryReserve(anyLong());
+        verify(seatCounter).release(lectureId);
+    }
+
+    @Test
+    @DisplayName("취소 시 대기자가 있으면 좌석을 반환하지 않고 대기 순서대로 승급한다 (이미 취소된 대기자는 건너뜀)")
+    void cancelEnrollment_PromotesWaitlistHead() {
+        // Given
+        Long memberId = 1L;
+        Long enrollmentId = 100L;
+        Long lectureId = 1L;
+
+        Enrollment activeEnrollment = Enrollment.create(lectureId, memberId);
+        Enrollment canceledWaiter = Enrollment.createWaitlisted(lectureId, 2L, 1L);
+        canceledWaiter.cancel();
+        Enrollment nextWaiter = Enrollment.createWaitlisted(lectureId, 3L, 2L);
+
+        when(enrollmentRepository.findLectureIdById(enrollmentId)).thenReturn(Optional.of(lectureId));
+        when(lectureRepository.findByIdWithLock(lectureId)).thenReturn(Optional.of(testLecture));
+        when(enrollmentRepository.findById(enrollmentId)).thenReturn(Optional.of(activeEnrollment));
+        when(waitlistRegistry.pollHead(lectureId)).thenReturn(200L, 300L);
+        when(enrollmentRepository.findById(200L)).thenReturn(Optional.of(canceledWaiter));
+        when(enrollmentRepository.findById(300L)).thenReturn(Optional.of(nextWaiter));
+        when(enrollmentRepository.save(any(Enrollment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        enrollmentService.cancelEnrollment(memberId, enrollmentId);
+
+        // Then
+        assertThat(activeEnrollment.isCanceled()).isTrue();
+        assertThat(canceledWaiter.isCanceled()).isTrue();
+        assertThat(nextWaiter.isActive()).isTrue();
+        assertThat(nextWaiter.getWaitlistPosition()).isNull();
+        verify(lectureRepository).findByIdWithLock(lectureId);
+        verify(lectureRepository, never()).decreaseEnrolledCount(anyLong());
+        verify(seatCounter, never()).release(anyLong());
+    }
+
+    @Test
+    @DisplayName("대기 신청 취소는 신청자 수와 좌석에 영향을 주지 않는다")
+    void cancelEnrollment_Waitlisted() {
+        // Given
+        Long memberId = 1L;
+        Long enrollmentId = 100L;
+        Long lectureId = 1L;
+        Enrollment waitlisted = Enrollment.createWaitlisted(lectureId, memberId, 1L);
+
+        when(enrollmentRepository.findLectureIdById(enrollmentId)).thenReturn(Optional.of(lectureId));
+        when(lectureRepository.findByIdWithLock(lectureId)).thenReturn(Optional.of(testLecture));
+        when(enrollmentRepository.findById(enrollmentId)).thenReturn(Optional.of(waitlisted));
+
+        // When
+        enrollmentService.cancelEnrollment(memberId, enrollmentId);
+
+        // Then
+        assertThat(waitlisted.isCanceled()).isTrue();
+        verify(waitlistRegistry, never()).pollHead(anyLong());
+        verify(lectureRepository, never()).decreaseEnrolledCount(anyLong());
+        verify(seatCounter, never()).release(anyLong());
+    }
+
+    @Test
+    @DisplayName("정원이 가득 찬 강의에 대기열 등록 시 대기 순서가 부여된다")
+    void joinWaitlist_CourseFull_Waitlisted() {
+        // Given
+        Long memberId = 1L;
+        Long lectureId = 1L;
+
+        ReflectionTestUtils.setField(testLecture, "enrolledCount", 10);
+        when(lectureRepository.findByIdWithLock(lectureId)).thenReturn(Optional.of(testLecture));
+        when(enrollmentRepository.findByLectureIdAndMemberId(lectureId, memberId)).thenReturn(Optional.empty());
+        when(waitlistRegistry.nextPosition(lectureId)).thenReturn(3L);
+        when(enrollmentRepository.save(any(Enrollment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        EnrollmentResponseDto response = enrollmentService.joinWaitlist(memberId, lectureId);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo("WAITLISTED");
+        verify(waitlistRegistry).append(eq(lectureId), any(), eq(3L));
+        verify(seatCounter, never()).tryReserve(anyLong());
+    }
+
+    @Test
+    @DisplayName("이미 대기 중인 강의에 다시 대기열 등록 시 예외 발생")
+    void joinWaitlist_AlreadyWaitlisted() {
+        // Given
+        Long memberId = 1L;
+        Long lectureId = 1L;
+
+        ReflectionTestUtils.setField(testLecture, "enrolledCount", 10);
+        when(lectureRepository.findByIdWithLock(lectureId)).thenReturn(Optional.of(testLecture));
+        when(enrollmentRepository.findByLectureIdAndMemberId(lectureId, memberId))
+                .thenReturn(Optional.of(Enrollment.createWaitlisted(lectureId, memberId, 1L)));
+
+        // When & Then
+        assertThatThrownBy(() -> enrollmentService.joinWaitlist(memberId, lectureId))
+                .isInstanceOf(AlreadyEnrolledException.class);
+        verify(waitlistRegistry, never()).append(anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("만료된 선점 좌석은 대기자에게 배정되고 신청자 수가 1 증가한다")
+    void promoteIntoHeldSeat_PromotesWaitlistHead() {
+        // Given
+        Long lectureId = 1L;
+        Enrollment waitlisted = Enrollment.createWaitlisted(lectureId, 2L, 1L);
+
+        when(lectureRepository.findByIdWithLock(lectureId)).thenReturn(Optional.of(testLecture));
+        when(waitlistRegistry.pollHead(lectureId)).thenReturn(20L);
+        when(enrollmentRepository.findById(20L)).thenReturn(Optional.of(waitlisted));
+        when(lectureRepository.increaseEnrolledCount(lectureId)).thenReturn(1);
+
+        // When
+        boolean promoted = enrollmentService.promoteIntoHeldSeat(lectureId);
+
+        // Then
+        assertThat(promoted).isTrue();
+        assertThat(waitlisted.isActive()).isTrue();
+        verify(lectureRepository).increaseEnrolledCount(lectureId);
+        verify(seatCounter, never()).release(anyLong());
+    }
+
+    @Test
+    @DisplayName("대기자가 없으면 선점 좌석을 배정하지 않는다")
+    void promoteIntoHeldSeat_NoWaitlist() {
+        // Given
+        Long lectureId = 1L;
+        when(lectureRepository.findByIdWithLock(lectureId)).thenReturn(Optional.of(testLecture));
+        when(waitlistRegistry.pollHead(lectureId)).thenReturn(null);
+
+        // When & Then
+        assertThat(enrollmentService.promoteIntoHeldSeat(lectureId)).isFalse();
+        verify(lectureRepository, never()).increaseEnrolledCount(anyLong());
+    }
+
+    private Lecture lectureWithId(Long id, String title, int maxCapacity) {
+        Lecture lecture = Lecture.create(title, maxCapacity, 50000, 1L);
+        ReflectionTestUtils.setField(lecture, "id", id);
+        return lecture;
+    }
 }
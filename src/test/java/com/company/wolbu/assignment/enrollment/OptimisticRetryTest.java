@@ -0,0 +1,91 @@
+package com.company.wolbu.assignment.enrollment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.company.wolbu.assignment.enrollment.config.EnrollmentProperties;
+import com.company.wolbu.assignment.enrollment.exception.EnrollmentContentionException;
+import com.company.wolbu.assignment.enrollment.service.OptimisticRetry;
+import com.company.wolbu.assignment.lecture.domain.Lecture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * OptimisticRetry 단위 테스트
+ */
+class OptimisticRetryTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OptimisticRetry optimisticRetry;
+
+    @BeforeEach
+    void setUp() {
+        EnrollmentProperties properties = new EnrollmentProperties();
+        properties.setMaxAttempts(3);
+        properties.setBackoffInitialMillis(0);
+        meterRegistry = new SimpleMeterRegistry();
+        optimisticRetry = new OptimisticRetry(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("버전 충돌로 실패하면 작업 전체를 다시 실행한다")
+    void execute_RetriesOnVersionConflict() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        String result = optimisticRetry.execute(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new ObjectOptimisticLockingFailureException(Lecture.class, 1L);
+            }
+            return "admitted";
+        });
+
+        // Then
+        assertThat(result).isEqualTo("admitted");
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(meterRegistry.counter("enrollment.optimistic.retries").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 모두 소진하면 경합 예외가 발생한다")
+    void execute_Exhausted() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When & Then
+        assertThatThrownBy(() -> optimisticRetry.execute(() -> {
+            attempts.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException(Lecture.class, 1L);
+        })).isInstanceOf(EnrollmentContentionException.class);
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(meterRegistry.counter("enrollment.optimistic.retries").count()).isEqualTo(2.0);
+        assertThat(meterRegistry.counter("enrollment.optimistic.exhausted").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("이미 열린 트랜잭션 안에서는 재시도하지 않고 충돌을 그대로 던진다")
+    void execute_InsideTransaction_NoRetry() {
+        // Given
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When & Then
+        assertThatThrownBy(() -> optimisticRetry.execute(() -> {
+            attempts.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException(Lecture.class, 1L);
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,75 @@
+package com.company.wolbu.assignment.enrollment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.company.wolbu.assignment.enrollment.service.OptimisticSeatAdmission;
+import com.company.wolbu.assignment.lecture.dto.LectureSeatSnapshot;
+import com.company.wolbu.assignment.lecture.repository.LectureRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+/**
+ * OptimisticSeatAdmission 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class OptimisticSeatAdmissionTest {
+
+    @Mock
+    private LectureRepository lectureRepository;
+
+    private OptimisticSeatAdmission seatAdmission;
+
+    @BeforeEach
+    void setUp() {
+        seatAdmission = new OptimisticSeatAdmission(lectureRepository);
+    }
+
+    @Test
+    @DisplayName("버전 충돌이 없으면 한 번에 좌석을 확보한다")
+    void tryAdmit_NoConflict() {
+        // Given
+        when(lectureRepository.findSeatSnapshot(1L)).thenReturn(Optional.of(new LectureSeatSnapshot(1L, 0L, 3, 10)));
+        when(lectureRepository.increaseEnrolledCountIfVersion(1L, 0L)).thenReturn(1);
+
+        // When & Then
+        assertThat(seatAdmission.tryAdmit(1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("버전 충돌 시 트랜잭션 안에서 다시 읽지 않고 충돌 예외를 던진다")
+    void tryAdmit_VersionConflict_Throws() {
+        // Given
+        when(lectureRepository.findSeatSnapshot(1L)).thenReturn(Optional.of(new LectureSeatSnapshot(1L, 0L, 3, 10)));
+        when(lectureRepository.increaseEnrolledCountIfVersion(1L, 0L)).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> seatAdmission.tryAdmit(1L))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        verify(lectureRepository, times(1)).findSeatSnapshot(1L);
+        verify(lectureRepository, times(1)).increaseEnrolledCountIfVersion(1L, 0L);
+    }
+
+    @Test
+    @DisplayName("정원이 가득 찬 스냅샷이면 갱신 없이 거절한다")
+    void tryAdmit_Full() {
+        // Given
+        when(lectureRepository.findSeatSnapshot(1L)).thenReturn(Optional.of(new LectureSeatSnapshot(1L, 5L, 10, 10)));
+
+        // When & Then
+        assertThat(seatAdmission.tryAdmit(1L)).isFalse();
+        verify(lectureRepository, never()).increaseEnrolledCountIfVersion(eq(1L), anyLong());
+    }
+}
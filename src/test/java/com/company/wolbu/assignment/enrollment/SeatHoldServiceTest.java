@@ -0,0 +1,226 @@
+package com.company.wolbu.assignment.enrollment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.company.wolbu.assignment.auth.repository.MemberRepository;
+import com.company.wolbu.assignment.enrollment.config.EnrollmentProperties;
+import com.company.wolbu.assignment.enrollment.dto.EnrollmentResponseDto;
+import com.company.wolbu.assignment.enrollment.dto.EnrollmentResultDto;
+import com.company.wolbu.assignment.enrollment.dto.SeatHoldRequestDto;
+import com.company.wolbu.assignment.enrollment.dto.SeatHoldResultDto;
+import com.company.wolbu.assignment.enrollment.exception.HoldNotFoundException;
+import com.company.wolbu.assignment.enrollment.exception.MemberNotFoundException;
+import com.company.wolbu.assignment.enrollment.exception.UnauthorizedEnrollmentException;
+import com.company.wolbu.assignment.enrollment.repository.EnrollmentRepository;
+import com.company.wolbu.assignment.enrollment.service.EnrollmentService;
+import com.company.wolbu.assignment.enrollment.service.OptimisticRetry;
+import com.company.wolbu.assignment.enrollment.service.SeatCounter;
+import com.company.wolbu.assignment.enrollment.service.SeatHoldService;
+import com.company.wolbu.assignment.enrollment.service.WaitlistRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SeatHoldService 단위 테스트
+ */
+class SeatHoldServiceTest {
+
+    private EnrollmentService enrollmentService;
+    private EnrollmentRepository enrollmentRepository;
+    private MemberRepository memberRepository;
+    private SeatCounter seatCounter;
+    private WaitlistRegistry waitlistRegistry;
+    private SeatHoldService seatHoldService;
+
+    @BeforeEach
+    void setUp() {
+        enrollmentService = mock(EnrollmentService.class);
+        enrollmentRepository = mock(EnrollmentRepository.class);
+        memberRepository = mock(MemberRepository.class);
+        seatCounter = mock(SeatCounter.class);
+        waitlistRegistry = mock(WaitlistRegistry.class);
+        EnrollmentProperties properties = new EnrollmentProperties();
+        properties.setHoldTickMillis(10);
+        seatHoldService = new SeatHoldService(enrollmentService, enrollmentRepository, memberRepository, seatCounter,
+                waitlistRegistry, new OptimisticRetry(properties, new SimpleMeterRegistry()), properties);
+        seatHoldService.start();
+
+        when(memberRepository.existsById(anyLong())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        seatHoldService.stop();
+    }
+
+    @Test
+    @DisplayName("좌석 선점 시 좌석 카운터에서 좌석을 차감한다")
+    void createHolds_Success() {
+        // Given
+        when(seatCounter.tryReserve(1L)).thenReturn(true);
+
+        // When
+        SeatHoldResultDto result = seatHoldService.createHolds(1L, new SeatHoldRequestDto(List.of(1L), 60L));
+
+        // Then
+        assertThat(result.getSuccessCount()).isEqualTo(1);
+        assertThat(result.getHolds().get(0).getLectureId()).isEqualTo(1L);
+        assertThat(result.getHolds().get(0).getExpiresAt()).isAfter(LocalDateTime.now());
+        verify(seatCounter).tryReserve(1L);
+    }
+
+    @Test
+    @DisplayName("정원이 가득 찬 강의는 선점에 실패한다")
+    void createHolds_CourseFull() {
+        // Given
+        when(seatCounter.tryReserve(1L)).thenReturn(false);
+        when(seatCounter.capacityOf(1L)).thenReturn(10);
+        when(enrollmentService.toFailure(eq(1L), any()))
+                .thenReturn(new EnrollmentResultDto.EnrollmentFailure(1L, "테스트 강의", "COURSE_FULL", "정원 초과"));
+
+        // When
+        SeatHoldResultDto result = seatHoldService.createHolds(1L, new SeatHoldRequestDto(List.of(1L)));
+
+        // Then
+        assertThat(result.getSuccessCount()).isZero();
+        assertThat(result.getFailedHolds().get(0).getErrorCode()).isEqualTo("COURSE_FULL");
+    }
+
+    @Test
+    @DisplayName("같은 강의를 중복 선점하면 실패하고 좌석은 한 번만 차감된다")
+    void createHolds_Duplicate() {
+        // Given
+        when(seatCounter.tryReserve(1L)).thenReturn(true);
+        when(enrollmentService.toFailure(eq(1L), any()))
+                .thenReturn(new EnrollmentResultDto.EnrollmentFailure(1L, "테스트 강의", "ALREADY_ENROLLED_ACTIVE", "중복"));
+        seatHoldService.createHolds(1L, new SeatHoldRequestDto(List.of(1L), 60L));
+
+        // When
+        SeatHoldResultDto result = seatHoldService.createHolds(1L, new SeatHoldRequestDto(List.of(1L), 60L));
+
+        // Then
+        assertThat(result.getFailureCount()).isEqualTo(1);
+        verify(seatCounter).tryReserve(1L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 회원은 선점할 수 없다")
+    void createHolds_MemberNotFound() {
+        // Given
+        when(memberRepository.existsById(99L)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> seatHoldService.createHolds(99L, new SeatHoldRequestDto(List.of(1L))))
+                .isInstanceOf(MemberNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("유지 시간이 지나면 선점 좌석이 반환되고 확정할 수 없다")
+    void hold_Expired_ReleasesSeat() {
+        // Given
+        when(seatCounter.tryReserve(1L)).thenReturn(true);
+        String holdId = seatHoldService.createHolds(1L, new SeatHoldRequestDto(List.of(1L), 1L))
+                .getHolds().get(0).getHoldId();
+
+        // When & Then
+        verify(seatCounter, timeout(3000)).release(1L);
+        assertThatThrownBy(() -> seatHoldService.confirm(1L, holdId))
+                .isInstanceOf(HoldNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("대기자가 있는 강의의 선점이 만료되면 좌석을 반환하지 않고 대기자에게 배정한다")
+    void hold_Expired_PromotesWaitlistHead() {
+        // Given
+        when(seatCounter.tryReserve(1L)).thenReturn(true);
+        when(waitlistRegistry.mayHaveWaiting(1L)).thenReturn(true);
+        when(enrollmentService.promoteIntoHeldSeat(1L)).thenReturn(true);
+
+        // When
+        seatHoldService.createHolds(1L, new SeatHoldRequestDto(List.of(1L), 1L));
+
+        // Then
+        verify(enrollmentService, timeout(3000)).promoteIntoHeldSeat(1L);
+        verify(seatCounter, after(200).never()).release(1L);
+    }
+
+    @Test
+    @DisplayName("대기자 배정이 잠금 대기로 멈춰도 다른 선점은 제때 만료되어 좌석이 반환된다")
+    void hold_Expired_BlockedPromotionDoesNotDelayOtherHolds() throws InterruptedException {
+        // Given
+        CountDownLatch lockReleased = new CountDownLatch(1);
+        when(seatCounter.tryReserve(anyLong())).thenReturn(true);
+        when(waitlistRegistry.mayHaveWaiting(1L)).thenReturn(true);
+        when(enrollmentService.promoteIntoHeldSeat(1L)).thenAnswer(invocation -> {
+            lockReleased.await();
+            return true;
+        });
+
+        try {
+            seatHoldService.createHolds(1L, new SeatHoldRequestDto(List.of(1L), 1L));
+            verify(enrollmentService, timeout(3000)).promoteIntoHeldSeat(1L);
+
+            // When
+            String holdId = seatHoldService.createHolds(2L, new SeatHoldRequestDto(List.of(2L), 1L))
+                    .getHolds().get(0).getHoldId();
+
+            // Then
+            verify(seatCounter, timeout(3000)).release(2L);
+            assertThatThrownBy(() -> seatHoldService.confirm(2L, holdId))
+                    .isInstanceOf(HoldNotFoundException.class);
+        } finally {
+            lockReleased.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("선점 확정 시 수강 신청이 생성되고 만료 시 좌석이 반환되지 않는다")
+    void confirm_Success() {
+        // Given
+        when(seatCounter.tryReserve(1L)).thenReturn(true);
+        String holdId = seatHoldService.createHolds(1L, new SeatHoldRequestDto(List.of(1L), 1L))
+                .getHolds().get(0).getHoldId();
+        EnrollmentResponseDto response = new EnrollmentResponseDto(10L, 1L, "테스트 강의", 1L, "CONFIRMED",
+                LocalDateTime.now());
+        when(enrollmentService.confirmHeldSeat(1L, 1L)).thenReturn(response);
+
+        // When
+        EnrollmentResponseDto result = seatHoldService.confirm(1L, holdId);
+
+        // Then
+        assertThat(result.getEnrollmentId()).isEqualTo(10L);
+        verify(seatCounter, after(1500).never()).release(1L);
+        assertThatThrownBy(() -> seatHoldService.confirm(1L, holdId))
+                .isInstanceOf(HoldNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("다른 회원의 선점은 확정할 수 없다")
+    void confirm_OtherMember() {
+        // Given
+        when(seatCounter.tryReserve(1L)).thenReturn(true);
+        String holdId = seatHoldService.createHolds(1L, new SeatHoldRequestDto(List.of(1L), 60L))
+                .getHolds().get(0).getHoldId();
+
+        // When & Then
+        assertThatThrownBy(() -> seatHoldService.confirm(2L, holdId))
+                .isInstanceOf(UnauthorizedEnrollmentException.class);
+        verify(enrollmentService, never()).confirmHeldSeat(anyLong(), anyLong());
+    }
+}
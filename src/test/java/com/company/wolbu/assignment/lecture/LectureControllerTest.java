@@ -1,7 +1,10 @@
 package com.company.wolbu.assignment.lecture;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -9,7 +12,10 @@ import com.company.wolbu.assignment.auth.domain.Member;
 import com.company.wolbu.assignment.auth.domain.MemberRole;
 import com.company.wolbu.assignment.auth.repository.MemberRepository;
 import com.company.wolbu.assignment.auth.security.JwtProvider;
+import com.company.wolbu.assignment.lecture.domain.Lecture;
 import com.company.wolbu.assignment.lecture.dto.CreateLectureRequestDto;
+import com.company.wolbu.assignment.lecture.repository.LectureRepository;
+import com.jayway.jsonpath.JsonPath;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
@@ -41,6 +48,9 @@ class LectureControllerTest {
     @Autowired
     private JwtProvider jwtProvider;
 
+    @Autowired
+    private LectureRepository lectureRepository;
+
     private String instructorToken;
     private String studentToken;
     private Long instructorId;
@@ -174,4 +184,127 @@ class LectureControllerTest {
         // Given
         mockMvc.perform(get("/api/lectures")).andExpect(status().isOk()).andExpect(jsonPath("$.success").value(true));
     }
+
+    @Test
+    @DisplayName("강의 목록은 Page 객체 대신 목록과 페이지 정보만 응답한다")
+    void getLectureList_compactEnvelope() throws Exception {
+        // Given
+        lectureRepository.save(Lecture.create("목록 응답 강의", 10, 10000, instructorId));
+
+        // When & Then
+        mockMvc.perform(get("/api/lectures").param("size", "5")).andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content").isArray())
+                .andExpect(jsonPath("$.data.content[0].enrollmentRate").isNumber())
+                .andExpect(content().string(containsString("\"enrollmentRate\":0.0000")))
+                .andExpect(jsonPath("$.data.page").value(1))
+                .andExpect(jsonPath("$.data.size").value(5))
+                .andExpect(jsonPath("$.data.totalElements").isNumber())
+                .andExpect(jsonPath("$.data.pageable").doesNotExist())
+                .andExpect(jsonPath("$.data.sort").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("전체 개수 없이 강의 목록을 조회하면 다음 페이지 여부만 응답한다")
+    void getLectureList_withoutTotal() throws Exception {
+        // Given
+        lectureRepository.save(Lecture.create("무한 스크롤 강의", 10, 10000, instructorId));
+
+        // When & Then
+        mockMvc.perform(get("/api/lectures").param("size", "1").param("withTotal", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(1))
+                .andExpect(jsonPath("$.data.hasNext").isBoolean())
+                .andExpect(jsonPath("$.data.totalElements").isEmpty())
+                .andExpect(jsonPath("$.data.totalPages").isEmpty());
+    }
+
+    @Test
+    @DisplayName("강의 목록의 ETag가 그대로면 304를 반환한다")
+    void getLectureList_notModified() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/api/lectures")).andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get("/api/lectures").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+    }
+
+    @Test
+    @DisplayName("강의 상세의 ETag가 그대로면 304를 반환한다")
+    void getLecture_notModified() throws Exception {
+        // Given
+        Long lectureId = lectureRepository.save(Lecture.create("ETag 강의", 10, 10000, instructorId)).getId();
+        String etag = mockMvc.perform(get("/api/lectures/" + lectureId)).andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get("/api/lectures/" + lectureId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/lectures/" + lectureId).header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("If-None-Match: *는 존재하는 강의에만 304를 반환하고, 없는 강의는 404를 반환한다")
+    void getLecture_wildcardIfNoneMatch() throws Exception {
+        // Given
+        Long lectureId = lectureRepository.save(Lecture.create("ETag 강의", 10, 10000, instructorId)).getId();
+
+        // When & Then
+        mockMvc.perform(get("/api/lectures/" + lectureId).header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/lectures/99999").header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error.code").value("LECTURE_NOT_FOUND"));
+    }
+
+    @Test
+    @DisplayName("커서로 강의 목록을 이어서 조회한다")
+    void getLectureListByCursor_success() throws Exception {
+        // Given
+        lectureRepository.save(Lecture.create("커서 강의 A", 10, 10000, instructorId));
+        lectureRepository.save(Lecture.create("커서 강의 B", 10, 10000, instructorId));
+        lectureRepository.save(Lecture.create("커서 강의 C", 10, 10000, instructorId));
+
+        // When & Then
+        String firstPage = mockMvc.perform(get("/api/lectures/cursor").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].title").value("커서 강의 C"))
+                .andExpect(jsonPath("$.data.content[1].title").value("커서 강의 B"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.totalElements").doesNotExist())
+                .andReturn().getResponse().getContentAsString();
+        String nextCursor = JsonPath.read(firstPage, "$.data.nextCursor");
+
+        mockMvc.perform(get("/api/lectures/cursor").param("size", "2").param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].title").value("커서 강의 A"));
+    }
+
+    @Test
+    @DisplayName("정렬 방식이 다른 커서로 조회하면 실패한다")
+    void getLectureListByCursor_sortMismatch_fails() throws Exception {
+        // Given
+        lectureRepository.save(Lecture.create("커서 강의 A", 10, 10000, instructorId));
+        lectureRepository.save(Lecture.create("커서 강의 B", 10, 10000, instructorId));
+        String firstPage = mockMvc.perform(get("/api/lectures/cursor").param("size", "1"))
+                .andReturn().getResponse().getContentAsString();
+        String nextCursor = JsonPath.read(firstPage, "$.data.nextCursor");
+
+        // When & Then
+        mockMvc.perform(get("/api/lectures/cursor").param("cursor", nextCursor).param("sort", "POPULAR_COUNT"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value("INVALID_CURSOR"));
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서로 조회하면 실패한다")
+    void getLectureListByCursor_malformed_fails() throws Exception {
+        mockMvc.perform(get("/api/lectures/cursor").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value("INVALID_CURSOR"));
+    }
 }
@@ -0,0 +1,262 @@
+package com.company.wolbu.assignment.lecture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.company.wolbu.assignment.lecture.config.LectureProperties;
+import com.company.wolbu.assignment.lecture.dto.LectureListResponseDto;
+import com.company.wolbu.assignment.lecture.dto.LectureSortTypeDto;
+import com.company.wolbu.assignment.lecture.service.LectureListCache;
+import com.company.wolbu.assignment.lecture.service.LectureVersions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * LectureListCache 단위 테스트
+ */
+class LectureListCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LectureVersions lectureVersions;
+    private LectureListCache lectureListCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lectureVersions = new LectureVersions();
+        lectureListCache = new LectureListCache(new LectureProperties(), lectureVersions, meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 페이지, 크기, 정렬 요청은 캐시에서 응답한다")
+    void get_Hit() {
+        // When
+        lectureListCache.get(1, 20, LectureSortTypeDto.RECENT, true, () -> load(1L, 2L));
+        lectureListCache.get(null, null, null, true, () -> load(1L, 2L));
+        lectureListCache.get(1, 20, LectureSortTypeDto.POPULAR_COUNT, true, () -> load(1L, 2L));
+
+        // Then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전체 개수 포함 여부가 다르면 따로 캐시한다")
+    void get_WithTotalSeparated() {
+        // When
+        lectureListCache.get(1, 20, LectureSortTypeDto.RECENT, true, () -> load(1L, 2L));
+        lectureListCache.get(1, 20, LectureSortTypeDto.RECENT, false, () -> load(1L, 2L));
+        lectureListCache.get(1, 20, LectureSortTypeDto.RECENT, false, () -> load(1L, 2L));
+
+        // Then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("신청자 수가 바뀐 강의가 포함된 페이지만 무효화한다")
+    void evictLecture_OnlyContainingPages() {
+        // Given
+        lectureListCache.get(1, 2, LectureSortTypeDto.RECENT, true, () -> load(1L, 2L));
+        lectureListCache.get(2, 2, LectureSortTypeDto.RECENT, true, () -> load(3L, 4L));
+
+        // When
+        lectureListCache.evictLecture(3L);
+        lectureListCache.get(1, 2, LectureSortTypeDto.RECENT, true, () -> load(1L, 2L));
+        lectureListCache.get(2, 2, LectureSortTypeDto.RECENT, true, () -> load(3L, 4L));
+
+        // Then
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("무효화 후 다시 저장된 페이지도 같은 강의 변경 시 다시 무효화한다")
+    void evictLecture_ReloadedPageReindexed() {
+        // Given
+        lectureListCache.get(2, 2, LectureSortTypeDto.RECENT, true, () -> load(3L, 4L));
+        lectureListCache.evictLecture(3L);
+        lectureListCache.get(2, 2, LectureSortTypeDto.RECENT, true, () -> load(3L, 4L));
+
+        // When
+        lectureListCache.evictLecture(3L);
+        lectureListCache.get(2, 2, LectureSortTypeDto.RECENT, true, () -> load(3L, 4L));
+
+        // Then
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("캐시된 페이지는 조회 시점의 데이터 버전을 유지한다")
+    void get_KeepsLoadedVersion() {
+        // Given
+        lectureListCache.get(1, 2, LectureSortTypeDto.RECENT, true, () -> load(1L, 2L));
+
+        // When (페이지에 없는 강의만 변경됨)
+        lectureVersions.lectureChanged(9L);
+        lectureListCache.evictLecture(9L);
+        LectureListCache.CachedPage cached = lectureListCache.get(1, 2, LectureSortTypeDto.RECENT, true,
+                () -> load(1L, 2L));
+
+        // Then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cached.getVersion()).isZero();
+        assertThat(lectureVersions.currentVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("강의 개설 시 전체 페이지를 무효화한다")
+    void evictAll() {
+        // Given
+        lectureListCache.get(1, 2, LectureSortTypeDto.RECENT, true, () -> load(1L, 2L));
+
+        // When
+        lectureListCache.evictAll();
+        lectureListCache.get(1, 2, LectureSortTypeDto.RECENT, true, () -> load(1L, 2L));
+
+        // Then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회 도중 페이지에 포함된 강의가 무효화되면 조회 결과를 캐시에 남기지 않는다")
+    void get_EvictedWhileLoading_NotCached() {
+        // Given (조회 중에 페이지에 포함된 강의의 신청이 커밋됨)
+        LectureListCache.CachedPage first = lectureListCache.get(1, 2, LectureSortTypeDto.RECENT, true, () -> {
+            lectureListCache.evictLecture(1L);
+            return load(1L, 2L);
+        });
+
+        // When
+        LectureListCache.CachedPage second = lectureListCache.get(1, 2, LectureSortTypeDto.RECENT, true,
+                () -> load(1L, 2L));
+
+        // Then
+        assertThat(first.getPage().getContent()).hasSize(2);
+        assertThat(second.getPage().getContent()).hasSize(2);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회 도중 페이지에 없는 강의가 무효화되어도 조회 결과는 캐시에 남는다")
+    void get_OtherLectureEvictedWhileLoading_Cached() {
+        // Given (조회 중에 페이지에 없는 강의의 신청이 커밋됨)
+        LectureListCache.CachedPage first = lectureListCache.get(1, 2, LectureSortTypeDto.RECENT, true, () -> {
+            lectureListCache.evictLecture(9L);
+            return load(1L, 2L);
+        });
+
+        // When
+        LectureListCache.CachedPage second = lectureListCache.get(1, 2, LectureSortTypeDto.RECENT, true,
+                () -> load(1L, 2L));
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회 도중 전체 무효화되면 조회 결과를 캐시에 남기지 않는다")
+    void get_EvictedAllWhileLoading_NotCached() {
+        // Given (조회 중에 강의가 개설됨)
+        lectureListCache.get(1, 2, LectureSortTypeDto.RECENT, true, () -> {
+            lectureListCache.evictAll();
+            return load(1L, 2L);
+        });
+
+        // When
+        lectureListCache.get(1, 2, LectureSortTypeDto.RECENT, true, () -> load(1L, 2L));
+
+        // Then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("캐시를 끄면 매번 조회한다")
+    void get_Disabled() {
+        // Given
+        LectureProperties properties = new LectureProperties();
+        properties.setListCacheEnabled(false);
+        LectureListCache disabled = new LectureListCache(properties, new LectureVersions(), new SimpleMeterRegistry());
+
+        // When
+        disabled.get(1, 20, LectureSortTypeDto.RECENT, true, () -> load(1L));
+        disabled.get(1, 20, LectureSortTypeDto.RECENT, true, () -> load(1L));
+
+        // Then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 같은 페이지를 동시에 요청하면 조회는 한 번만 실행된다")
+    void get_ConcurrentMiss_Coalesced() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<LectureListCache.CachedPage> first = executor.submit(() ->
+                    lectureListCache.get(1, 20, LectureSortTypeDto.RECENT, true, () -> {
+                        Page<LectureListResponseDto> page = load(1L);
+                        awaitQuietly(release);
+                        return page;
+                    }));
+            awaitUntil(() -> loads.get() == 1);
+
+            // When
+            Future<LectureListCache.CachedPage> second = executor.submit(() ->
+                    lectureListCache.get(1, 20, LectureSortTypeDto.RECENT, true, () -> load(1L)));
+            awaitUntil(() -> coalescedCount() == 1);
+            release.countDown();
+
+            // Then
+            assertThat(second.get(3, TimeUnit.SECONDS)).isSameAs(first.get(3, TimeUnit.SECONDS));
+            assertThat(loads.get()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private double coalescedCount() {
+        return meterRegistry.get("singleflight.calls").tag("name", "lectureList").tag("result", "coalesced")
+                .counter().count();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 3000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(3, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Page<LectureListResponseDto> load(Long... ids) {
+        loads.incrementAndGet();
+        List<LectureListResponseDto> content = Arrays.stream(ids)
+                .map(id -> new LectureListResponseDto(id, "강의 " + id, 10000, "강사", 0L, 10,
+                        LocalDateTime.of(2025, 1, 1, 10, 0)))
+                .toList();
+        return new PageImpl<>(content, PageRequest.of(0, Math.max(1, ids.length)), ids.length);
+    }
+}
@@ -0,0 +1,138 @@
+package com.company.wolbu.assignment.lecture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.company.wolbu.assignment.common.dto.ApiResponseDto;
+import com.company.wolbu.assignment.lecture.dto.LectureListResponseDto;
+import com.company.wolbu.assignment.lecture.dto.LecturePageResponseDto;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 강의 목록 응답 직렬화 비교 벤치마크
+ * 기존 응답(PageImpl 그대로, 행은 리플렉션 빈 직렬화와 BigDecimal 신청률)과
+ * 전용 페이지 DTO + 행 직렬화기 응답의 크기와 직렬화 시간을 비교합니다.
+ * 시간은 실행 환경에 따라 달라지므로 로그로만 남기고, 응답 크기와 내용만 검증합니다.
+ * 단위 테스트(test)에서는 제외되며 ./gradlew benchmark로 실행합니다.
+ */
+@Tag("benchmark")
+class LectureListSerializationBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LectureListSerializationBenchmarkTest.class);
+
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 50_000;
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper legacyObjectMapper;
+
+    @BeforeEach
+    void setUp() {
+        // Spring Boot 기본 설정과 같이 날짜는 ISO 문자열로 기록
+        objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        legacyObjectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .addMixIn(LectureListResponseDto.class, LegacyRowMixIn.class)
+                .build();
+    }
+
+    @Test
+    @DisplayName("전용 페이지 응답은 기존 Page 응답보다 작고 같은 행 정보를 담는다")
+    void compactEnvelope_SmallerPayload() throws Exception {
+        // Given
+        Page<LectureListResponseDto> page = page(0);
+
+        // When
+        byte[] legacy = legacyObjectMapper.writeValueAsBytes(ApiResponseDto.success(page));
+        byte[] compact = objectMapper.writeValueAsBytes(ApiResponseDto.success(LecturePageResponseDto.from(page)));
+
+        // Then
+        // 신청률은 표기(소수 넷째 자리)까지 같아야 하므로 BigDecimal로 읽어 scale까지 비교
+        ObjectMapper decimalReader = JsonMapper.builder()
+                .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                .build();
+        JsonNode legacyRow = decimalReader.readTree(legacy).at("/data/content/3");
+        JsonNode compactRow = decimalReader.readTree(compact).at("/data/content/3");
+        assertThat(compactRow.get("title")).isEqualTo(legacyRow.get("title"));
+        assertThat(compactRow.get("createdAt")).isEqualTo(legacyRow.get("createdAt"));
+        assertThat(compactRow.get("enrollmentRate").decimalValue())
+                .isEqualTo(legacyRow.get("enrollmentRate").decimalValue());
+        assertThat(objectMapper.readTree(compact).at("/data").has("pageable")).isFalse();
+
+        log.info("lecture list payload: legacy={} bytes, compact={} bytes ({}%)",
+                legacy.length, compact.length, String.format("%.1f", compact.length * 100.0 / legacy.length));
+        assertThat(compact.length).isLessThan(legacy.length);
+    }
+
+    @Test
+    @DisplayName("목록 한 페이지 생성과 직렬화 시간을 비교한다")
+    void compactEnvelope_SerializationTime() throws Exception {
+        Function<Integer, Object> legacyResponse = seed -> ApiResponseDto.success(page(seed));
+        Function<Integer, Object> compactResponse =
+                seed -> ApiResponseDto.success(LecturePageResponseDto.from(page(seed)));
+
+        measure(legacyObjectMapper, legacyResponse, WARMUP_ITERATIONS);
+        measure(objectMapper, compactResponse, WARMUP_ITERATIONS);
+        long legacyNanos = measure(legacyObjectMapper, legacyResponse, MEASURED_ITERATIONS);
+        long compactNanos = measure(objectMapper, compactResponse, MEASURED_ITERATIONS);
+
+        log.info("lecture list serialization: legacy={} ns/op, compact={} ns/op",
+                legacyNanos / MEASURED_ITERATIONS, compactNanos / MEASURED_ITERATIONS);
+        assertThat(compactNanos).isPositive();
+    }
+
+    private static long measure(ObjectMapper mapper, Function<Integer, Object> response, int iterations)
+            throws Exception {
+        long bytes = 0;
+        long started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            bytes += mapper.writeValueAsBytes(response.apply(i)).length;
+        }
+        long elapsed = System.nanoTime() - started;
+        assertThat(bytes).isPositive();
+        return elapsed;
+    }
+
+    private static Page<LectureListResponseDto> page(int seed) {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 10, 0);
+        List<LectureListResponseDto> rows = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            long id = seed * PAGE_SIZE + i + 1L;
+            rows.add(new LectureListResponseDto(id, "내집마련 기초반 " + id, 200000, "강사 " + (id % 7),
+                    id % 31, 30, base.plusMinutes(id)));
+        }
+        return new PageImpl<>(rows, PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt")), 1000);
+    }
+
+    /**
+     * 기존 방식(게터 기반 빈 직렬화) 재현용 믹스인
+     */
+    @JsonSerialize(using = JsonSerializer.None.class)
+    private abstract static class LegacyRowMixIn {
+    }
+}
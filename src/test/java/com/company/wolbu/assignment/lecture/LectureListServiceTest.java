@@ -1,13 +1,29 @@
 package com.company.wolbu.assignment.lecture;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.company.wolbu.assignment.lecture.dto.LectureCursor;
 import com.company.wolbu.assignment.lecture.dto.LectureListResponseDto;
+import com.company.wolbu.assignment.lecture.dto.LectureSliceResponseDto;
 import com.company.wolbu.assignment.lecture.dto.LectureSortTypeDto;
+import com.company.wolbu.assignment.lecture.exception.InvalidCursorException;
+import com.company.wolbu.assignment.lecture.exception.InvalidSearchQueryException;
+import com.company.wolbu.assignment.lecture.exception.SearchNotReadyException;
 import com.company.wolbu.assignment.lecture.repository.LectureRepository;
+import com.company.wolbu.assignment.lecture.service.LectureListCache;
+import com.company.wolbu.assignment.lecture.service.LectureMetadataCache;
+import com.company.wolbu.assignment.lecture.service.LectureRanking;
+import com.company.wolbu.assignment.lecture.service.LectureSearchIndex;
 import com.company.wolbu.assignment.lecture.service.LectureService;
+import com.company.wolbu.assignment.lecture.service.LectureSuggester;
+import com.company.wolbu.assignment.lecture.service.LectureVersions;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -18,8 +34,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 /**
  * 강의 목록 조회 서비스 테스트
@@ -30,6 +48,24 @@ class LectureListServiceTest {
     @Mock
     private LectureRepository lectureRepository;
 
+    @Mock
+    private LectureRanking lectureRanking;
+
+    @Mock
+    private LectureListCache lectureListCache;
+
+    @Mock
+    private LectureVersions lectureVersions;
+
+    @Mock
+    private LectureSearchIndex lectureSearchIndex;
+
+    @Mock
+    private LectureSuggester lectureSuggester;
+
+    @Mock
+    private LectureMetadataCache lectureMetadataCache;
+
     @InjectMocks
     private LectureService lectureService;
 
@@ -41,10 +77,10 @@ class LectureListServiceTest {
                 new LectureListResponseDto(1L, "최신 강의", 50000, "김강사", 5L, 10, LocalDateTime.now()),
                 new LectureListResponseDto(2L, "이전 강의", 30000, "이강사", 3L, 15, LocalDateTime.now().minusDays(1))
         );
-        Page<LectureListResponseDto> mockPage = new PageImpl<>(mockLectures);
+        Slice<LectureListResponseDto> mockSlice = new SliceImpl<>(mockLectures);
 
-        when(lectureRepository.findAllWithEnrollmentCountOrderByCreatedAt(any(Pageable.class)))
-                .thenReturn(mockPage);
+        when(lectureRepository.findSliceOrderByCreatedAt(any(Pageable.class)))
+                .thenReturn(mockSlice);
 
         // When
         Page<LectureListResponseDto> result = lectureService.getLectureList(1, 20, LectureSortTypeDto.RECENT);
@@ -64,10 +100,10 @@ class LectureListServiceTest {
                 new LectureListResponseDto(1L, "인기 강의", 50000, "김강사", 8L, 10, LocalDateTime.now()),
                 new LectureListResponseDto(2L, "일반 강의", 30000, "이강사", 3L, 15, LocalDateTime.now())
         );
-        Page<LectureListResponseDto> mockPage = new PageImpl<>(mockLectures);
+        Slice<LectureListResponseDto> mockSlice = new SliceImpl<>(mockLectures);
 
-        when(lectureRepository.findAllWithEnrollmentCountOrderByEnrollmentCount(any(Pageable.class)))
-                .thenReturn(mockPage);
+        when(lectureRepository.findSliceOrderByEnrollmentCount(any(Pageable.class)))
+                .thenReturn(mockSlice);
 
         // When
         Page<LectureListResponseDto> result = lectureService.getLectureList(1, 20, LectureSortTypeDto.POPULAR_COUNT);
@@ -86,10 +122,10 @@ class LectureListServiceTest {
                 new LectureListResponseDto(1L, "고신청률 강의", 50000, "김강사", 9L, 10, LocalDateTime.now()),
                 new LectureListResponseDto(2L, "저신청률 강의", 30000, "이강사", 3L, 15, LocalDateTime.now())
         );
-        Page<LectureListResponseDto> mockPage = new PageImpl<>(mockLectures);
+        Slice<LectureListResponseDto> mockSlice = new SliceImpl<>(mockLectures);
 
-        when(lectureRepository.findAllWithEnrollmentCountOrderByEnrollmentRate(any(Pageable.class)))
-                .thenReturn(mockPage);
+        when(lectureRepository.findSliceOrderByEnrollmentRate(any(Pageable.class)))
+                .thenReturn(mockSlice);
 
         // When
         Page<LectureListResponseDto> result = lectureService.getLectureList(1, 20, LectureSortTypeDto.POPULAR_RATE);
@@ -105,8 +141,8 @@ class LectureListServiceTest {
     @DisplayName("페이지 크기 제한 테스트 - 최대 100개")
     void getLectureList_PageSizeLimit() {
         // Given
-        when(lectureRepository.findAllWithEnrollmentCountOrderByCreatedAt(any(Pageable.class)))
-                .thenReturn(Page.empty());
+        when(lectureRepository.findSliceOrderByCreatedAt(any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of()));
 
         // When
         Page<LectureListResponseDto> result = lectureService.getLectureList(1, 200, LectureSortTypeDto.RECENT);
@@ -120,8 +156,8 @@ class LectureListServiceTest {
     @DisplayName("기본값 테스트 - null 파라미터")
     void getLectureList_DefaultValues() {
         // Given
-        when(lectureRepository.findAllWithEnrollmentCountOrderByCreatedAt(any(Pageable.class)))
-                .thenReturn(Page.empty());
+        when(lectureRepository.findSliceOrderByCreatedAt(any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of()));
 
         // When
         Page<LectureListResponseDto> result = lectureService.getLectureList(null, null, null);
@@ -129,4 +165,182 @@ class LectureListServiceTest {
         // Then
         assertThat(result).isNotNull();
     }
+
+    @Test
+    @DisplayName("강의 목록 커서 조회 - 다음 페이지 커서는 마지막 강의의 정렬 키를 담고 전체 개수는 세지 않는다")
+    void getLectureListByCursor_NextCursor() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 10, 0);
+        List<LectureListResponseDto> mockLectures = List.of(
+                new LectureListResponseDto(5L, "인기 강의", 50000, "김강사", 8L, 10, createdAt),
+                new LectureListResponseDto(3L, "일반 강의", 30000, "이강사", 3L, 15, createdAt)
+        );
+        when(lectureRepository.findSliceOrderByEnrollmentRate(any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(mockLectures, PageRequest.of(0, 2), true));
+
+        // When
+        LectureSliceResponseDto result = lectureService.getLectureListByCursor(null, 2,
+                LectureSortTypeDto.POPULAR_RATE, false);
+
+        // Then
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getTotalElements()).isNull();
+        LectureCursor cursor = LectureCursor.decode(result.getNextCursor());
+        assertThat(cursor.getSort()).isEqualTo(LectureSortTypeDto.POPULAR_RATE);
+        assertThat(cursor.getEnrolledCount()).isEqualTo(3);
+        assertThat(cursor.getMaxCapacity()).isEqualTo(15);
+        assertThat(cursor.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(cursor.getId()).isEqualTo(3L);
+        verify(lectureRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("강의 목록 커서 조회 - 커서 이후 조회 시 커서의 정렬 키로 이어 읽는다")
+    void getLectureListByCursor_AfterCursor() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 10, 0);
+        String cursor = new LectureCursor(LectureSortTypeDto.POPULAR_COUNT, 3, 15, createdAt, 3L).encode();
+        when(lectureRepository.findSliceOrderByEnrollmentCountAfter(eq(3), eq(createdAt), eq(3L), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 20), false));
+        when(lectureRepository.count()).thenReturn(2L);
+
+        // When
+        LectureSliceResponseDto result = lectureService.getLectureListByCursor(cursor, 20,
+                LectureSortTypeDto.POPULAR_COUNT, true);
+
+        // Then
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+        assertThat(result.getTotalElements()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("강의 목록 커서 조회 - 정렬 방식이 다른 커서는 거부한다")
+    void getLectureListByCursor_SortMismatch() {
+        // Given
+        String cursor = new LectureCursor(LectureSortTypeDto.RECENT, 0, 10, LocalDateTime.now(), 1L).encode();
+
+        // When & Then
+        assertThatThrownBy(() -> lectureService.getLectureListByCursor(cursor, 20, LectureSortTypeDto.POPULAR_RATE,
+                false)).isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("강의 목록 조회 - 랭킹 적재 후 인기순은 SQL 없이 메모리 랭킹에서 조회한다")
+    void getLectureList_PopularCount_FromRanking() {
+        // Given
+        List<LectureListResponseDto> ranked = List.of(
+                new LectureListResponseDto(1L, "인기 강의", 50000, "김강사", 8L, 10, LocalDateTime.now())
+        );
+        when(lectureRanking.isReady()).thenReturn(true);
+        // 다음 페이지 여부 판단용으로 한 건 더 조회
+        when(lectureRanking.page(LectureSortTypeDto.POPULAR_COUNT, 20L, 21)).thenReturn(ranked);
+        when(lectureRanking.size()).thenReturn(21L);
+
+        // When
+        Page<LectureListResponseDto> result = lectureService.getLectureList(2, 20, LectureSortTypeDto.POPULAR_COUNT);
+
+        // Then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getTotalElements()).isEqualTo(21L);
+        verify(lectureRepository, never()).findSliceOrderByEnrollmentCount(any(Pageable.class));
+        verify(lectureRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("강의 목록 조회 - 전체 개수 없이 조회하면 한 건 더 읽어 다음 페이지 여부만 판단한다")
+    void getLectureSlice_WithoutTotal() {
+        // Given
+        List<LectureListResponseDto> ranked = List.of(
+                new LectureListResponseDto(1L, "인기 강의", 50000, "김강사", 8L, 10, LocalDateTime.now()),
+                new LectureListResponseDto(2L, "일반 강의", 30000, "이강사", 3L, 15, LocalDateTime.now()),
+                new LectureListResponseDto(3L, "신규 강의", 30000, "이강사", 0L, 15, LocalDateTime.now())
+        );
+        when(lectureRanking.isReady()).thenReturn(true);
+        when(lectureRanking.page(LectureSortTypeDto.POPULAR_COUNT, 0L, 3)).thenReturn(ranked);
+
+        // When
+        Slice<LectureListResponseDto> result = lectureService.getLectureSlice(1, 2, LectureSortTypeDto.POPULAR_COUNT);
+
+        // Then
+        assertThat(result).isNotInstanceOf(Page.class);
+        assertThat(result.getContent()).extracting(LectureListResponseDto::getId).containsExactly(1L, 2L);
+        assertThat(result.hasNext()).isTrue();
+        verify(lectureRanking, never()).size();
+        verify(lectureRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("강의 목록 조회 - 최근 등록순도 전체 개수는 COUNT 쿼리 없이 메모리 랭킹의 강의 수를 사용한다")
+    void getLectureList_Recent_TotalFromRanking() {
+        // Given
+        when(lectureRepository.findSliceOrderByCreatedAt(any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 20), false));
+        when(lectureRanking.isReady()).thenReturn(true);
+        when(lectureRanking.size()).thenReturn(42L);
+
+        // When
+        Page<LectureListResponseDto> result = lectureService.getLectureList(1, 20, LectureSortTypeDto.RECENT);
+
+        // Then
+        assertThat(result.getTotalElements()).isEqualTo(42L);
+        verify(lectureRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("강의 검색 - 색인 결과 순서대로 페이지를 나누고 랭킹의 목록 항목으로 채운다")
+    void searchLectures_FromIndex() {
+        // Given
+        LectureListResponseDto third = new LectureListResponseDto(3L, "기초반 C", 10000, "김강사", 1L, 10,
+                LocalDateTime.now());
+        when(lectureSearchIndex.isReady()).thenReturn(true);
+        when(lectureRanking.isReady()).thenReturn(true);
+        when(lectureSearchIndex.search("기초반")).thenReturn(List.of(1L, 2L, 3L));
+        when(lectureRanking.get(3L)).thenReturn(third);
+
+        // When
+        Page<LectureListResponseDto> result = lectureService.searchLectures("기초반", 2, 2);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(third);
+        assertThat(result.getTotalElements()).isEqualTo(3L);
+        verifyNoInteractions(lectureRepository);
+    }
+
+    @Test
+    @DisplayName("강의 검색 - 빈 검색어는 거부한다")
+    void searchLectures_BlankQuery() {
+        assertThatThrownBy(() -> lectureService.searchLectures(" ", 1, 20))
+                .isInstanceOf(InvalidSearchQueryException.class);
+    }
+
+    @Test
+    @DisplayName("강의 검색 - 색인 적재 전에는 DB로 대신 검색하지 않고 거절한다")
+    void searchLectures_IndexNotReady() {
+        // Given
+        when(lectureSearchIndex.isReady()).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> lectureService.searchLectures("기초반", 1, 20))
+                .isInstanceOf(SearchNotReadyException.class);
+        verifyNoInteractions(lectureRepository);
+    }
+
+    @Test
+    @DisplayName("강의 자동완성 - 최대 개수를 넘는 요청은 최대 개수로 제한한다")
+    void suggestLectures_LimitCapped() {
+        // When
+        lectureService.suggestLectures("기초", 50);
+
+        // Then
+        verify(lectureSuggester).suggest("기초", LectureSuggester.MAX_SUGGESTIONS);
+    }
+
+    @Test
+    @DisplayName("강의 자동완성 - 빈 검색어는 빈 목록을 반환한다")
+    void suggestLectures_Blank() {
+        assertThat(lectureService.suggestLectures(" ", 10)).isEmpty();
+        verify(lectureSuggester, never()).suggest(any(), eq(10));
+    }
 }
@@ -0,0 +1,109 @@
+package com.company.wolbu.assignment.lecture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.company.wolbu.assignment.lecture.config.LectureProperties;
+import com.company.wolbu.assignment.lecture.domain.Lecture;
+import com.company.wolbu.assignment.lecture.dto.LectureMetadata;
+import com.company.wolbu.assignment.lecture.exception.LectureNotFoundException;
+import com.company.wolbu.assignment.lecture.repository.LectureRepository;
+import com.company.wolbu.assignment.lecture.service.LectureMetadataCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * LectureMetadataCache 단위 테스트
+ */
+class LectureMetadataCacheTest {
+
+    private LectureRepository lectureRepository;
+    private LectureMetadataCache lectureMetadataCache;
+
+    @BeforeEach
+    void setUp() {
+        lectureRepository = mock(LectureRepository.class);
+        lectureMetadataCache = new LectureMetadataCache(lectureRepository, new LectureProperties(),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("처음 조회한 강의는 DB에서 읽고 이후에는 캐시에서 응답한다")
+    void get_ReadThrough() {
+        // Given
+        when(lectureRepository.findById(1L)).thenReturn(Optional.of(lecture(1L, "테스트 강의")));
+
+        // When
+        lectureMetadataCache.get(1L);
+        LectureMetadata metadata = lectureMetadataCache.get(1L);
+
+        // Then
+        assertThat(metadata.getTitle()).isEqualTo("테스트 강의");
+        assertThat(metadata.getMaxCapacity()).isEqualTo(10);
+        verify(lectureRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 강의는 예외가 발생하고 캐시에 남지 않는다")
+    void get_NotFound() {
+        // Given
+        when(lectureRepository.findById(999L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> lectureMetadataCache.get(999L)).isInstanceOf(LectureNotFoundException.class);
+        assertThat(lectureMetadataCache.find(999L)).isEmpty();
+        verify(lectureRepository, times(2)).findById(999L);
+    }
+
+    @Test
+    @DisplayName("일괄 조회는 캐시에 없는 강의만 한 번에 조회한다")
+    void getAll_OnlyMissing() {
+        // Given
+        when(lectureRepository.findById(1L)).thenReturn(Optional.of(lecture(1L, "캐시된 강의")));
+        when(lectureRepository.findAllById(Set.of(2L, 3L))).thenReturn(
+                List.of(lecture(2L, "두 번째 강의"), lecture(3L, "세 번째 강의")));
+        lectureMetadataCache.get(1L);
+
+        // When
+        Map<Long, LectureMetadata> result = lectureMetadataCache.getAll(List.of(1L, 2L, 3L));
+
+        // Then
+        assertThat(result).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(result.get(2L).getTitle()).isEqualTo("두 번째 강의");
+        verify(lectureRepository).findAllById(Set.of(2L, 3L));
+
+        // 다시 조회하면 쿼리 없음
+        lectureMetadataCache.getAll(List.of(1L, 2L, 3L));
+        verify(lectureRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("개설 시 저장한 강의는 조회 쿼리 없이 응답한다")
+    void put_OnCreate() {
+        // Given
+        lectureMetadataCache.put(LectureMetadata.from(lecture(5L, "새 강의")));
+
+        // When & Then
+        assertThat(lectureMetadataCache.get(5L).getTitle()).isEqualTo("새 강의");
+        verify(lectureRepository, never()).findById(any());
+    }
+
+    private static Lecture lecture(Long id, String title) {
+        Lecture lecture = Lecture.create(title, 10, 50000, 1L);
+        ReflectionTestUtils.setField(lecture, "id", id);
+        return lecture;
+    }
+}
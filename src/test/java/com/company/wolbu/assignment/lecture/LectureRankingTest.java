@@ -0,0 +1,112 @@
+package com.company.wolbu.assignment.lecture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.company.wolbu.assignment.lecture.dto.LectureCursor;
+import com.company.wolbu.assignment.lecture.dto.LectureListResponseDto;
+import com.company.wolbu.assignment.lecture.dto.LectureSortTypeDto;
+import com.company.wolbu.assignment.lecture.repository.LectureRepository;
+import com.company.wolbu.assignment.lecture.service.LectureRanking;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LectureRanking 단위 테스트
+ */
+class LectureRankingTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    private LectureRanking lectureRanking;
+
+    @BeforeEach
+    void setUp() {
+        LectureRepository lectureRepository = mock(LectureRepository.class);
+        when(lectureRepository.findAllForRanking()).thenReturn(List.of(
+                lecture(1L, 5L, 10, BASE),              // 50%
+                lecture(2L, 8L, 40, BASE.plusDays(1)),  // 20%
+                lecture(3L, 5L, 5, BASE.minusDays(1)),  // 100%
+                lecture(4L, 2L, 4, BASE.plusDays(2))    // 50%, 더 최근
+        ));
+        lectureRanking = new LectureRanking(lectureRepository);
+        lectureRanking.loadAll();
+    }
+
+    @Test
+    @DisplayName("신청자 수 순은 신청자 수, 등록일, ID 역순으로 정렬된다")
+    void page_PopularCount() {
+        assertThat(ids(lectureRanking.page(LectureSortTypeDto.POPULAR_COUNT, 0, 10)))
+                .containsExactly(2L, 1L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("신청률 순은 신청률이 같으면 최근 등록 강의가 먼저 온다")
+    void page_PopularRate() {
+        assertThat(ids(lectureRanking.page(LectureSortTypeDto.POPULAR_RATE, 0, 10)))
+                .containsExactly(3L, 4L, 1L, 2L);
+        assertThat(ids(lectureRanking.page(LectureSortTypeDto.POPULAR_RATE, 1, 2)))
+                .containsExactly(4L, 1L);
+    }
+
+    @Test
+    @DisplayName("신청자 수가 바뀌면 해당 강의의 순위만 갱신된다")
+    void adjust_Reorders() {
+        // When
+        lectureRanking.adjust(4L, 1);
+        lectureRanking.adjust(1L, -1);
+
+        // Then (강의 4: 3/4 = 75%, 강의 1: 4/10 = 40%)
+        assertThat(ids(lectureRanking.page(LectureSortTypeDto.POPULAR_RATE, 0, 10)))
+                .containsExactly(3L, 4L, 1L, 2L);
+        assertThat(ids(lectureRanking.page(LectureSortTypeDto.POPULAR_COUNT, 0, 10)))
+                .containsExactly(2L, 3L, 1L, 4L);
+        assertThat(lectureRanking.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("커서 이후 항목만 이어서 조회한다")
+    void after_Cursor() {
+        // Given
+        LectureListResponseDto last = lectureRanking.page(LectureSortTypeDto.POPULAR_COUNT, 1, 1).get(0);
+        LectureCursor cursor = LectureCursor.after(LectureSortTypeDto.POPULAR_COUNT, last);
+
+        // When & Then
+        assertThat(ids(lectureRanking.after(LectureSortTypeDto.POPULAR_COUNT, cursor, 10)))
+                .containsExactly(3L, 4L);
+    }
+
+    @Test
+    @DisplayName("전체 목록 복사본은 인기순으로 정렬되고 이후 갱신과 분리된다")
+    void ranked_Snapshot() {
+        // When
+        List<LectureListResponseDto> ranked = lectureRanking.ranked(LectureSortTypeDto.POPULAR_COUNT);
+        lectureRanking.adjust(4L, 2);
+
+        // Then
+        assertThat(ids(ranked)).containsExactly(2L, 1L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("개설된 강의는 신청자 0명으로 추가된다")
+    void add_NewLecture() {
+        // When
+        lectureRanking.add(lecture(5L, 0L, 10, BASE.plusDays(3)));
+
+        // Then
+        assertThat(ids(lectureRanking.page(LectureSortTypeDto.POPULAR_COUNT, 0, 10)))
+                .containsExactly(2L, 1L, 3L, 4L, 5L);
+    }
+
+    private static LectureListResponseDto lecture(Long id, Long enrolled, int capacity, LocalDateTime createdAt) {
+        return new LectureListResponseDto(id, "강의 " + id, 10000, "강사", enrolled, capacity, createdAt);
+    }
+
+    private static List<Long> ids(List<LectureListResponseDto> lectures) {
+        return lectures.stream().map(LectureListResponseDto::getId).toList();
+    }
+}
@@ -0,0 +1,88 @@
+package com.company.wolbu.assignment.lecture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.company.wolbu.assignment.lecture.dto.LectureListResponseDto;
+import com.company.wolbu.assignment.lecture.repository.LectureRepository;
+import com.company.wolbu.assignment.lecture.service.LectureSearchIndex;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LectureSearchIndex 단위 테스트
+ */
+class LectureSearchIndexTest {
+
+    private LectureSearchIndex lectureSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        LectureRepository lectureRepository = mock(LectureRepository.class);
+        when(lectureRepository.findAllForRanking()).thenReturn(List.of(
+                lecture(1L, "내집마련 기초반"),
+                lecture(2L, "Spring Boot 마스터 클래스"),
+                lecture(3L, "부동산 경매 기초"),
+                lecture(4L, "기초"),
+                lecture(5L, "JPA 기초반 심화")
+        ));
+        lectureSearchIndex = new LectureSearchIndex(lectureRepository);
+        lectureSearchIndex.loadAll();
+    }
+
+    @Test
+    @DisplayName("두 글자 한글 검색어는 정확히 일치, 시작 위치, 길이 순으로 정렬된다")
+    void search_ShortHangul() {
+        assertThat(lectureSearchIndex.search("기초")).containsExactly(4L, 5L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("세 글자 이상 검색어는 3글자 조각 교집합 후 실제 포함 여부로 확인한다")
+    void search_LongTerm() {
+        assertThat(lectureSearchIndex.search("기초반")).containsExactly(5L, 1L);
+        assertThat(lectureSearchIndex.search("마스터 클래스")).containsExactly(2L);
+        assertThat(lectureSearchIndex.search("기초반반")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("영문은 대소문자를 구분하지 않는다")
+    void search_CaseInsensitive() {
+        assertThat(lectureSearchIndex.search("spring BOOT")).containsExactly(2L);
+        assertThat(lectureSearchIndex.search("jpa")).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("자모로 분리된 한글 입력도 같은 음절로 검색된다")
+    void search_DecomposedHangul() {
+        String decomposed = Normalizer.normalize("경매", Normalizer.Form.NFD);
+
+        assertThat(decomposed).isNotEqualTo("경매");
+        assertThat(lectureSearchIndex.search(decomposed)).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("개설된 강의는 바로 검색되고 같은 강의는 한 번만 색인된다")
+    void add_NewLecture() {
+        // When
+        lectureSearchIndex.add(6L, "경매 실전반");
+        lectureSearchIndex.add(6L, "경매 실전반");
+
+        // Then
+        assertThat(lectureSearchIndex.search("경매")).containsExactly(6L, 3L);
+    }
+
+    @Test
+    @DisplayName("공백만 있는 검색어는 결과가 없다")
+    void search_Blank() {
+        assertThat(lectureSearchIndex.search("   ")).isEmpty();
+    }
+
+    private static LectureListResponseDto lecture(Long id, String title) {
+        return new LectureListResponseDto(id, title, 10000, "강사", 0L, 10, LocalDateTime.of(2025, 1, 1, 10, 0));
+    }
+}
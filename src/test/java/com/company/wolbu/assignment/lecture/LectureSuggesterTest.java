@@ -0,0 +1,108 @@
+package com.company.wolbu.assignment.lecture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.company.wolbu.assignment.lecture.dto.LectureListResponseDto;
+import com.company.wolbu.assignment.lecture.dto.LectureSuggestionDto;
+import com.company.wolbu.assignment.lecture.repository.LectureRepository;
+import com.company.wolbu.assignment.lecture.service.LectureRanking;
+import com.company.wolbu.assignment.lecture.service.LectureSuggester;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LectureSuggester 단위 테스트
+ */
+class LectureSuggesterTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    private LectureRanking lectureRanking;
+    private LectureSuggester lectureSuggester;
+
+    @BeforeEach
+    void setUp() {
+        LectureRepository lectureRepository = mock(LectureRepository.class);
+        when(lectureRepository.findAllForRanking()).thenReturn(List.of(
+                lecture(1L, "기초 재테크", 3L),
+                lecture(2L, "기초반 내집마련", 8L),
+                lecture(3L, "Spring Boot 기초", 5L),
+                lecture(4L, "가계부 작성법", 1L)
+        ));
+        lectureRanking = new LectureRanking(lectureRepository);
+        lectureRanking.loadAll();
+        lectureSuggester = new LectureSuggester(lectureRanking);
+        lectureSuggester.rebuild();
+    }
+
+    @Test
+    @DisplayName("제목과 제목 안 단어의 시작 부분을 인기순으로 찾는다")
+    void suggest_PrefixByPopularity() {
+        assertThat(ids(lectureSuggester.suggest("기초", 10))).containsExactly(2L, 3L, 1L);
+        assertThat(ids(lectureSuggester.suggest("기초", 2))).containsExactly(2L, 3L);
+        assertThat(ids(lectureSuggester.suggest("spring b", 10))).containsExactly(3L);
+        assertThat(lectureSuggester.suggest("초", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("입력 중인 한글(초성, 받침)도 다음 글자로 이어서 찾는다")
+    void suggest_PartialHangul() {
+        assertThat(ids(lectureSuggester.suggest("기ㅊ", 10))).containsExactly(2L, 3L, 1L);
+        assertThat(ids(lectureSuggester.suggest("깇", 10))).containsExactly(2L, 3L, 1L);
+        assertThat(ids(lectureSuggester.suggest("각", 10))).containsExactly(4L);
+        assertThat(ids(lectureSuggester.suggest("ㄱ", 10))).containsExactly(2L, 3L, 1L, 4L);
+    }
+
+    @Test
+    @DisplayName("신청자 수가 바뀌면 후보 순서는 최신 신청자 수를 따른다")
+    void suggest_ReranksByLiveCount() {
+        // Given
+        lectureSuggester.suggest("기초", 10);
+
+        // When
+        lectureRanking.adjust(1L, 7);
+
+        // Then
+        assertThat(ids(lectureSuggester.suggest("기초", 10))).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("조회 요청은 트라이를 만들지 않고, 재구성 전에는 빈 목록을 반환한다")
+    void suggest_BeforeRebuild_Empty() {
+        // Given
+        LectureSuggester notBuilt = new LectureSuggester(lectureRanking);
+
+        // When & Then
+        assertThat(notBuilt.suggest("기초", 10)).isEmpty();
+        notBuilt.rebuild();
+        assertThat(ids(notBuilt.suggest("기초", 10))).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("개설된 강의는 바로 자동완성에 추가된다")
+    void add_NewLecture() {
+        // Given
+        lectureSuggester.suggest("기초", 10);
+        lectureRanking.add(lecture(5L, "경매 기초", 0L));
+
+        // When
+        lectureSuggester.add(5L, "경매 기초");
+
+        // Then
+        assertThat(ids(lectureSuggester.suggest("경매", 10))).containsExactly(5L);
+        assertThat(ids(lectureSuggester.suggest("기초", 10))).containsExactly(2L, 3L, 1L, 5L);
+    }
+
+    private static LectureListResponseDto lecture(Long id, String title, Long enrolled) {
+        return new LectureListResponseDto(id, title, 10000, "강사", enrolled, 20, BASE.plusDays(id));
+    }
+
+    private static List<Long> ids(List<LectureSuggestionDto> suggestions) {
+        return suggestions.stream().map(LectureSuggestionDto::getLectureId).toList();
+    }
+}